@@ -5,9 +5,4 @@ public final class EmptyEvent implements DomainEvent<Void> {
     public static final EmptyEvent INSTANCE = new EmptyEvent();
 
     private EmptyEvent(){}
-
-    @Override
-    public void fire() {
-
-    }
 }
@@ -1,5 +1,8 @@
 package com.food.ordering.system.kafka.producer;
 
+import java.util.function.BiConsumer;
+
+import com.food.ordering.system.outbox.OutboxStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
@@ -32,4 +35,30 @@ public class KafkaMessageHelper {
             }
         };
     }
+
+    public <T, U> ListenableFutureCallback<SendResult<String, T>>
+    getKafkaCallback(String responseTopicName, U outboxMessage, BiConsumer<U, OutboxStatus> outboxCallback,
+                     String key, String modelName) {
+        return new ListenableFutureCallback<>() {
+            @Override
+            public void onFailure(Throwable ex) {
+                log.error("Error while sending " + modelName +
+                              " message with key {} to topic {}", key, responseTopicName, ex);
+                outboxCallback.accept(outboxMessage, OutboxStatus.FAILED);
+            }
+
+            @Override
+            public void onSuccess(SendResult<String, T> result) {
+                RecordMetadata metadata = result.getRecordMetadata();
+                log.info("Received successful response from Kafka for key: {}" +
+                             " Topic: {} Partition: {} Offset: {} Timestamp: {}",
+                         key,
+                         metadata.topic(),
+                         metadata.partition(),
+                         metadata.offset(),
+                         metadata.timestamp());
+                outboxCallback.accept(outboxMessage, OutboxStatus.COMPLETED);
+            }
+        };
+    }
 }
@@ -0,0 +1,8 @@
+package com.food.ordering.system.kafka.producer.service;
+
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+public interface KafkaBytesProducer {
+    void send(String topicName, String key, byte[] message, ListenableFutureCallback<SendResult<String, byte[]>> callback);
+}
@@ -0,0 +1,46 @@
+package com.food.ordering.system.kafka.producer.service.impl;
+
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.service.KafkaBytesProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+import javax.annotation.PreDestroy;
+
+@Slf4j
+@Component
+public class KafkaBytesProducerImpl implements KafkaBytesProducer {
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    public KafkaBytesProducerImpl(@Qualifier("byteArrayKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    @Override
+    public void send(String topicName, String key, byte[] message,
+                     ListenableFutureCallback<SendResult<String, byte[]>> callback) {
+        log.info("Sending {} pre-encoded bytes with key={} to topic={}", message.length, key, topicName);
+        try {
+            ListenableFuture<SendResult<String, byte[]>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
+            kafkaResultFuture.addCallback(callback);
+        } catch (KafkaException e) {
+            log.error("Error on kafka bytes producer with key: {} and exception: {}", key, e.getMessage());
+            throw new KafkaProducerException("Error on kafka bytes producer with key: " + key);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (kafkaTemplate != null) {
+            log.info("Closing kafka bytes producer!");
+            kafkaTemplate.destroy();
+        }
+    }
+}
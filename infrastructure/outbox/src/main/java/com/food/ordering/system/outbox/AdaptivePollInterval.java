@@ -0,0 +1,44 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AdaptivePollInterval {
+
+    private final long floorMillis;
+    private final long ceilingMillis;
+    private final AtomicLong currentMillis;
+
+    public AdaptivePollInterval(Duration floor, Duration ceiling, Duration initial) {
+        if (floor.isNegative() || floor.isZero() || ceiling.compareTo(floor) < 0) {
+            throw new IllegalArgumentException("Poll interval floor must be positive and not above the ceiling!");
+        }
+        this.floorMillis = floor.toMillis();
+        this.ceilingMillis = ceiling.toMillis();
+        this.currentMillis = new AtomicLong(clamp(initial.toMillis()));
+    }
+
+    public static AdaptivePollInterval fixed(Duration interval) {
+        return new AdaptivePollInterval(interval, interval, interval);
+    }
+
+    public void record(int polled, int pageSize) {
+        if (polled >= pageSize) {
+            currentMillis.updateAndGet(current -> clamp(current / 2));
+        } else if (polled == 0) {
+            currentMillis.updateAndGet(current -> clamp(current * 2));
+        }
+    }
+
+    public Duration getCurrent() {
+        return Duration.ofMillis(currentMillis.get());
+    }
+
+    public boolean isAdaptive() {
+        return floorMillis != ceilingMillis;
+    }
+
+    private long clamp(long millis) {
+        return Math.max(floorMillis, Math.min(ceilingMillis, millis));
+    }
+}
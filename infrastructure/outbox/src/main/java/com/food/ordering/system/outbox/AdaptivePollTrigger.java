@@ -0,0 +1,27 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+public class AdaptivePollTrigger implements Trigger {
+
+    private final AdaptivePollInterval pollInterval;
+    private final Duration initialDelay;
+
+    public AdaptivePollTrigger(AdaptivePollInterval pollInterval, Duration initialDelay) {
+        this.pollInterval = pollInterval;
+        this.initialDelay = initialDelay;
+    }
+
+    @Override
+    public Date nextExecutionTime(TriggerContext triggerContext) {
+        Date lastCompletion = triggerContext.lastCompletionTime();
+        if (lastCompletion == null) {
+            return new Date(triggerContext.getClock().millis() + initialDelay.toMillis());
+        }
+        return new Date(lastCompletion.getTime() + pollInterval.getCurrent().toMillis());
+    }
+}
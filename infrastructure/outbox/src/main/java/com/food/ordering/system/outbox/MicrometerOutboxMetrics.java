@@ -0,0 +1,66 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class MicrometerOutboxMetrics implements OutboxMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final String outbox;
+    private final Counter claimedCounter;
+    private final Timer publishTimer;
+    private final Counter deletedCounter;
+    private final Timer cleanerBatchTimer;
+    private final Counter archivedCounter;
+    private final Timer archiverBatchTimer;
+
+    public MicrometerOutboxMetrics(MeterRegistry meterRegistry, String outbox) {
+        this.meterRegistry = meterRegistry;
+        this.outbox = outbox;
+        this.claimedCounter = meterRegistry.counter("outbox.claimed", "outbox", outbox);
+        this.publishTimer = meterRegistry.timer("outbox.publish.batch", "outbox", outbox);
+        this.deletedCounter = meterRegistry.counter("outbox.cleaner.deleted", "outbox", outbox);
+        this.cleanerBatchTimer = meterRegistry.timer("outbox.cleaner.batch", "outbox", outbox);
+        this.archivedCounter = meterRegistry.counter("outbox.archiver.archived", "outbox", outbox);
+        this.archiverBatchTimer = meterRegistry.timer("outbox.archiver.batch", "outbox", outbox);
+    }
+
+    @Override
+    public void claimed(int count) {
+        claimedCounter.increment(count);
+    }
+
+    @Override
+    public void acknowledged(OutboxStatus outboxStatus) {
+        meterRegistry.counter("outbox.acknowledged", "outbox", outbox, "status", outboxStatus.name()).increment();
+    }
+
+    @Override
+    public void published(int count, Duration elapsed) {
+        publishTimer.record(elapsed);
+    }
+
+    @Override
+    public void cleaned(int count, Duration elapsed) {
+        deletedCounter.increment(count);
+        cleanerBatchTimer.record(elapsed);
+    }
+
+    @Override
+    public void archived(int count, Duration elapsed) {
+        archivedCounter.increment(count);
+        archiverBatchTimer.record(elapsed);
+    }
+
+    @Override
+    public void pollInterval(AdaptivePollInterval pollInterval) {
+        Gauge.builder("outbox.poll.interval", pollInterval, interval -> interval.getCurrent().toMillis())
+            .tag("outbox", outbox)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxAckAggregator<K> implements AutoCloseable {
+
+    private final String name;
+    private final int maxBatchSize;
+    private final BiConsumer<OutboxStatus, List<K>> flusher;
+    private final ScheduledExecutorService executor;
+
+    private final Map<OutboxStatus, List<K>> pending = new EnumMap<>(OutboxStatus.class);
+    private int pendingCount;
+    private boolean flushRequested;
+
+    public OutboxAckAggregator(String name,
+                               int maxBatchSize,
+                               Duration flushInterval,
+                               BiConsumer<OutboxStatus, List<K>> flusher) {
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = flusher;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush,
+                                        flushInterval.toMillis(),
+                                        flushInterval.toMillis(),
+                                        TimeUnit.MILLISECONDS);
+    }
+
+    public void ack(K outboxKey, OutboxStatus outboxStatus) {
+        boolean full;
+        synchronized (this) {
+            pending.computeIfAbsent(outboxStatus, status -> new ArrayList<>()).add(outboxKey);
+            pendingCount++;
+            full = pendingCount >= maxBatchSize && !flushRequested;
+            if (full) {
+                flushRequested = true;
+            }
+        }
+        if (full) {
+            executor.execute(this::flush);
+        }
+    }
+
+    public void flush() {
+        Map<OutboxStatus, List<K>> batch;
+        synchronized (this) {
+            flushRequested = false;
+            if (pendingCount == 0) {
+                return;
+            }
+            batch = new EnumMap<>(pending);
+            pending.clear();
+            pendingCount = 0;
+        }
+        batch.forEach((outboxStatus, outboxKeys) -> {
+            try {
+                flusher.accept(outboxStatus, outboxKeys);
+            } catch (RuntimeException e) {
+                log.error("{} could not flush {} outbox acks with status: {}",
+                          name,
+                          outboxKeys.size(),
+                          outboxStatus,
+                          e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+}
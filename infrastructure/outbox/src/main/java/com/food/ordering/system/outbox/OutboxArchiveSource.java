@@ -0,0 +1,12 @@
+package com.food.ordering.system.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxArchiveSource {
+
+    List<OutboxRecord> findPage(ZonedDateTime createdBefore, OutboxCursor after, int limit);
+
+    int deleteByIds(ZonedDateTime createdBefore, List<UUID> ids);
+}
@@ -0,0 +1,82 @@
+package com.food.ordering.system.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import com.food.ordering.system.outbox.archive.OutboxSegmentArchive;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxArchiver {
+
+    private final String name;
+    private final int batchSize;
+    private final Duration throttle;
+    private final Duration retention;
+    private final OutboxArchiveSource outboxArchiveSource;
+    private final OutboxSegmentArchive outboxSegmentArchive;
+    private final OutboxMetrics outboxMetrics;
+
+    public OutboxArchiver(String name,
+                          int batchSize,
+                          Duration throttle,
+                          Duration retention,
+                          OutboxArchiveSource outboxArchiveSource,
+                          OutboxSegmentArchive outboxSegmentArchive,
+                          OutboxMetrics outboxMetrics) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.throttle = throttle;
+        this.retention = retention;
+        this.outboxArchiveSource = outboxArchiveSource;
+        this.outboxSegmentArchive = outboxSegmentArchive;
+        this.outboxMetrics = outboxMetrics;
+    }
+
+    public long archive() {
+        ZonedDateTime createdBefore = ZonedDateTime.now(ZoneOffset.UTC).minus(retention);
+        long total = 0;
+        OutboxCursor cursor = null;
+        List<OutboxRecord> outboxRecords;
+        do {
+            long start = System.nanoTime();
+            outboxRecords = outboxArchiveSource.findPage(createdBefore, cursor, batchSize);
+            if (outboxRecords.isEmpty()) {
+                break;
+            }
+            append(outboxRecords);
+            outboxArchiveSource.deleteByIds(createdBefore, outboxRecords.stream().map(OutboxRecord::getId).toList());
+            outboxMetrics.archived(outboxRecords.size(), Duration.ofNanos(System.nanoTime() - start));
+            total += outboxRecords.size();
+            OutboxRecord last = outboxRecords.get(outboxRecords.size() - 1);
+            cursor = OutboxCursor.of(last.getCreatedAt(), last.getId());
+        } while (outboxRecords.size() == batchSize && throttle());
+
+        if (total > 0) {
+            log.info("{} archived {} outbox messages created before {}", name, total, createdBefore);
+        }
+        return total;
+    }
+
+    private void append(List<OutboxRecord> outboxRecords) {
+        try {
+            outboxSegmentArchive.append(outboxRecords);
+        } catch (IOException e) {
+            throw new UncheckedIOException(name + " could not append outbox messages to archive", e);
+        }
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.food.ordering.system.outbox;
+
+import java.time.ZonedDateTime;
+
+@FunctionalInterface
+public interface OutboxBatchDeleter {
+
+    int deleteBatch(ZonedDateTime createdBefore, int limit);
+}
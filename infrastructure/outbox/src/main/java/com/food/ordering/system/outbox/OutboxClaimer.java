@@ -0,0 +1,9 @@
+package com.food.ordering.system.outbox;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface OutboxClaimer<T> {
+
+    List<T> claim(int limit);
+}
@@ -0,0 +1,59 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxCleaner {
+
+    private final String name;
+    private final int batchSize;
+    private final Duration throttle;
+    private final Duration retention;
+    private final OutboxBatchDeleter outboxBatchDeleter;
+    private final OutboxMetrics outboxMetrics;
+
+    public OutboxCleaner(String name,
+                         int batchSize,
+                         Duration throttle,
+                         Duration retention,
+                         OutboxBatchDeleter outboxBatchDeleter,
+                         OutboxMetrics outboxMetrics) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.throttle = throttle;
+        this.retention = retention;
+        this.outboxBatchDeleter = outboxBatchDeleter;
+        this.outboxMetrics = outboxMetrics;
+    }
+
+    public long clean() {
+        ZonedDateTime createdBefore = ZonedDateTime.now(ZoneOffset.UTC).minus(retention);
+        long total = 0;
+        int deleted;
+        do {
+            long start = System.nanoTime();
+            deleted = outboxBatchDeleter.deleteBatch(createdBefore, batchSize);
+            outboxMetrics.cleaned(deleted, Duration.ofNanos(System.nanoTime() - start));
+            total += deleted;
+        } while (deleted == batchSize && throttle());
+
+        if (total > 0) {
+            log.info("{} deleted {} outbox messages created before {}", name, total, createdBefore);
+        }
+        return total;
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.food.ordering.system.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public final class OutboxCursor {
+    private final ZonedDateTime createdAt;
+    private final UUID id;
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutboxEncodedPayload {
+    private final int schemaId;
+    private final byte[] bytes;
+}
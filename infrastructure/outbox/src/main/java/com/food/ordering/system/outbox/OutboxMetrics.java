@@ -0,0 +1,27 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+
+public interface OutboxMetrics {
+
+    OutboxMetrics NOOP = new OutboxMetrics() {
+    };
+
+    default void claimed(int count) {
+    }
+
+    default void acknowledged(OutboxStatus outboxStatus) {
+    }
+
+    default void published(int count, Duration elapsed) {
+    }
+
+    default void cleaned(int count, Duration elapsed) {
+    }
+
+    default void archived(int count, Duration elapsed) {
+    }
+
+    default void pollInterval(AdaptivePollInterval pollInterval) {
+    }
+}
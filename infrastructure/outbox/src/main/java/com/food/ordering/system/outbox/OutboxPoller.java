@@ -0,0 +1,101 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxPoller<T, K> implements AutoCloseable {
+
+    private final String name;
+    private final int pageSize;
+    private final int retryBatchSize;
+    private final OutboxClaimer<T> outboxClaimer;
+    private final OutboxClaimer<T> retryClaimer;
+    private final Function<T, K> keyExtractor;
+    private final Function<T, UUID> sagaIdExtractor;
+    private final OutboxPublisher<T> outboxPublisher;
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxAckAggregator<K> outboxAckAggregator;
+    private final OutboxPublishPipeline<T> outboxPublishPipeline;
+
+    public OutboxPoller(String name,
+                        OutboxPollerSettings settings,
+                        OutboxClaimer<T> outboxClaimer,
+                        OutboxClaimer<T> retryClaimer,
+                        Function<T, K> keyExtractor,
+                        Function<T, UUID> sagaIdExtractor,
+                        OutboxPublisher<T> outboxPublisher,
+                        BiConsumer<OutboxStatus, List<K>> ackFlusher,
+                        OutboxMetrics outboxMetrics) {
+        this.name = name;
+        this.pageSize = settings.getPageSize();
+        this.retryBatchSize = settings.getRetryBatchSize();
+        this.outboxClaimer = outboxClaimer;
+        this.retryClaimer = retryClaimer;
+        this.keyExtractor = keyExtractor;
+        this.sagaIdExtractor = sagaIdExtractor;
+        this.outboxPublisher = outboxPublisher;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxAckAggregator = new OutboxAckAggregator<>(name + "-ack",
+                                                             settings.getAckBatchSize(),
+                                                             settings.getAckFlushInterval(),
+                                                             ackFlusher);
+        this.outboxPublishPipeline = new OutboxPublishPipeline<>(name + "-publish",
+                                                                 settings.getPublishLanes(),
+                                                                 settings.getMaxInFlight(),
+                                                                 settings.getDrainTimeout());
+    }
+
+    public synchronized int poll() {
+        int total = 0;
+        List<T> outboxMessages;
+        do {
+            outboxMessages = outboxClaimer.claim(pageSize);
+            total += publishClaimed(outboxMessages);
+        } while (outboxMessages.size() == pageSize);
+        // Retryable rows are claimed on every poll so a steady stream of new rows cannot starve them.
+        total += publishClaimed(retryClaimer.claim(retryBatchSize));
+
+        if (total > 0) {
+            log.info("{} published {} outbox messages", name, total);
+        }
+        return total;
+    }
+
+    public boolean publish(List<T> outboxMessages, BiConsumer<T, OutboxStatus> outboxListener) {
+        BiConsumer<T, OutboxStatus> outboxCallback = this::acknowledge;
+        boolean drained = outboxPublishPipeline.publish(outboxMessages,
+                                                        sagaIdExtractor,
+                                                        outboxPublisher::publish,
+                                                        outboxCallback.andThen(outboxListener));
+        outboxAckAggregator.flush();
+        return drained;
+    }
+
+    private int publishClaimed(List<T> outboxMessages) {
+        if (outboxMessages.isEmpty()) {
+            return 0;
+        }
+        outboxMetrics.claimed(outboxMessages.size());
+        long start = System.nanoTime();
+        publish(outboxMessages, (outboxMessage, outboxStatus) -> { });
+        outboxMetrics.published(outboxMessages.size(), Duration.ofNanos(System.nanoTime() - start));
+        return outboxMessages.size();
+    }
+
+    private void acknowledge(T outboxMessage, OutboxStatus outboxStatus) {
+        outboxMetrics.acknowledged(outboxStatus);
+        outboxAckAggregator.ack(keyExtractor.apply(outboxMessage), outboxStatus);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        outboxPublishPipeline.close();
+        outboxAckAggregator.close();
+    }
+}
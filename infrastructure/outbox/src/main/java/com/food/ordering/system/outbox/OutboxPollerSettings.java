@@ -0,0 +1,25 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OutboxPollerSettings {
+    @Builder.Default
+    private final int pageSize = 100;
+    @Builder.Default
+    private final int retryBatchSize = 100;
+    @Builder.Default
+    private final int publishLanes = 4;
+    @Builder.Default
+    private final int maxInFlight = 1000;
+    @Builder.Default
+    private final Duration drainTimeout = Duration.ofSeconds(30);
+    @Builder.Default
+    private final int ackBatchSize = 500;
+    @Builder.Default
+    private final Duration ackFlushInterval = Duration.ofMillis(100);
+}
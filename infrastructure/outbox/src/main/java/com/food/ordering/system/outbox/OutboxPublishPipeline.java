@@ -0,0 +1,106 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxPublishPipeline<T> implements AutoCloseable {
+
+    private final String name;
+    private final Duration drainTimeout;
+    private final Semaphore inFlight;
+    private final ExecutorService[] lanes;
+
+    public OutboxPublishPipeline(String name, int laneCount, int maxInFlight, Duration drainTimeout) {
+        this.name = name;
+        this.drainTimeout = drainTimeout;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String laneName = name + "-lane-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, laneName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public boolean publish(List<T> messages,
+                           Function<T, UUID> sagaIdExtractor,
+                           BiConsumer<T, BiConsumer<T, OutboxStatus>> publisher,
+                           BiConsumer<T, OutboxStatus> outboxCallback) {
+        CountDownLatch pending = new CountDownLatch(messages.size());
+        messages.forEach(message -> lanes[laneOf(sagaIdExtractor.apply(message))]
+            .execute(() -> send(message, publisher, outboxCallback, pending)));
+        try {
+            if (pending.await(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.warn("{} timed out after {} waiting for {} of {} outbox sends",
+                     name,
+                     drainTimeout,
+                     pending.getCount(),
+                     messages.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void send(T message,
+                      BiConsumer<T, BiConsumer<T, OutboxStatus>> publisher,
+                      BiConsumer<T, OutboxStatus> outboxCallback,
+                      CountDownLatch pending) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.countDown();
+            return;
+        }
+        AtomicBoolean completed = new AtomicBoolean();
+        BiConsumer<T, OutboxStatus> completion = (outboxMessage, outboxStatus) -> {
+            if (completed.compareAndSet(false, true)) {
+                inFlight.release();
+                // Counted down only after the ack, so a flush right after publish returns sees every drained ack.
+                try {
+                    outboxCallback.accept(outboxMessage, outboxStatus);
+                } finally {
+                    pending.countDown();
+                }
+            }
+        };
+        try {
+            publisher.accept(message, completion);
+        } catch (RuntimeException e) {
+            log.error("{} could not send outbox message", name, e);
+            completion.accept(message, OutboxStatus.FAILED);
+        }
+    }
+
+    private int laneOf(UUID sagaId) {
+        return Math.floorMod(sagaId.hashCode(), lanes.length);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
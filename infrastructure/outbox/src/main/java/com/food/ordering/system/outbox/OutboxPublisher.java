@@ -0,0 +1,9 @@
+package com.food.ordering.system.outbox;
+
+import java.util.function.BiConsumer;
+
+@FunctionalInterface
+public interface OutboxPublisher<T> {
+
+    void publish(T outboxMessage, BiConsumer<T, OutboxStatus> outboxCallback);
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OutboxRecord {
+
+    private final UUID id;
+    private final UUID sagaId;
+    private final ZonedDateTime createdAt;
+    private final ZonedDateTime processedAt;
+    private final String type;
+    private final String payload;
+    @Builder.Default
+    private final OutboxPayloadFormat payloadFormat = OutboxPayloadFormat.JSON;
+    private final byte[] payloadBytes;
+    private final Integer schemaId;
+    private final OutboxStatus outboxStatus;
+    @Singular
+    private final Map<String, String> statuses;
+    private final int version;
+
+    public String getStatus(String column) {
+        return statuses.get(column);
+    }
+}
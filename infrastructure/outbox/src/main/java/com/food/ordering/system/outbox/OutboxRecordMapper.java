@@ -0,0 +1,8 @@
+package com.food.ordering.system.outbox;
+
+public interface OutboxRecordMapper<T> {
+
+    OutboxRecord toOutboxRecord(T outboxMessage);
+
+    T fromOutboxRecord(OutboxRecord outboxRecord);
+}
@@ -1,5 +1,5 @@
 package com.food.ordering.system.outbox;
 
 public enum OutboxStatus {
-    STARTED, COMPLETED, FAILED
+    STARTED, COMPLETED, FAILED, PARKED
 }
@@ -0,0 +1,44 @@
+package com.food.ordering.system.outbox;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxWakeup implements AutoCloseable {
+
+    private final OutboxScheduler outboxScheduler;
+    private final ExecutorService executor;
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    public OutboxWakeup(String name, OutboxScheduler outboxScheduler) {
+        this.outboxScheduler = outboxScheduler;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void wakeup() {
+        if (pending.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        pending.set(false);
+        try {
+            outboxScheduler.processOutboxMessage();
+        } catch (RuntimeException e) {
+            log.error("Outbox drain triggered by notification failed!", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
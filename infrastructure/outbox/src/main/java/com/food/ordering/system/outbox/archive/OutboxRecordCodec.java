@@ -0,0 +1,103 @@
+package com.food.ordering.system.outbox.archive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxStatus;
+
+final class OutboxRecordCodec {
+
+    private OutboxRecordCodec() {
+    }
+
+    static void encode(OutboxRecord outboxRecord, DataOutput out) throws IOException {
+        writeUuid(outboxRecord.getId(), out);
+        writeUuid(outboxRecord.getSagaId(), out);
+        writeTimestamp(outboxRecord.getCreatedAt(), out);
+        out.writeBoolean(outboxRecord.getProcessedAt() != null);
+        if (outboxRecord.getProcessedAt() != null) {
+            writeTimestamp(outboxRecord.getProcessedAt(), out);
+        }
+        out.writeUTF(outboxRecord.getType());
+        out.writeUTF(outboxRecord.getOutboxStatus().name());
+        out.writeUTF(outboxRecord.getPayloadFormat().name());
+        writeBytes(outboxRecord.getPayload() == null ? null : outboxRecord.getPayload().getBytes(StandardCharsets.UTF_8),
+                   out);
+        writeBytes(outboxRecord.getPayloadBytes(), out);
+        out.writeBoolean(outboxRecord.getSchemaId() != null);
+        if (outboxRecord.getSchemaId() != null) {
+            out.writeInt(outboxRecord.getSchemaId());
+        }
+        out.writeInt(outboxRecord.getStatuses().size());
+        for (Map.Entry<String, String> status : outboxRecord.getStatuses().entrySet()) {
+            out.writeUTF(status.getKey());
+            out.writeUTF(status.getValue());
+        }
+        out.writeInt(outboxRecord.getVersion());
+    }
+
+    static OutboxRecord decode(DataInput in) throws IOException {
+        OutboxRecord.OutboxRecordBuilder outboxRecordBuilder = OutboxRecord.builder()
+            .id(readUuid(in))
+            .sagaId(readUuid(in))
+            .createdAt(readTimestamp(in))
+            .processedAt(in.readBoolean() ? readTimestamp(in) : null)
+            .type(in.readUTF())
+            .outboxStatus(OutboxStatus.valueOf(in.readUTF()))
+            .payloadFormat(OutboxPayloadFormat.valueOf(in.readUTF()));
+        byte[] payload = readBytes(in);
+        outboxRecordBuilder.payload(payload == null ? null : new String(payload, StandardCharsets.UTF_8))
+            .payloadBytes(readBytes(in))
+            .schemaId(in.readBoolean() ? in.readInt() : null);
+        int statusCount = in.readInt();
+        for (int i = 0; i < statusCount; i++) {
+            outboxRecordBuilder.status(in.readUTF(), in.readUTF());
+        }
+        return outboxRecordBuilder.version(in.readInt()).build();
+    }
+
+    static void writeUuid(UUID uuid, DataOutput out) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeTimestamp(ZonedDateTime timestamp, DataOutput out) throws IOException {
+        Instant instant = timestamp.toInstant();
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static ZonedDateTime readTimestamp(DataInput in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt()).atZone(ZoneOffset.UTC);
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+        out.writeInt(bytes == null ? -1 : bytes.length);
+        if (bytes != null) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,225 @@
+package com.food.ordering.system.outbox.archive;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.food.ordering.system.outbox.OutboxRecord;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxSegmentArchive implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int BLOCK_HEADER_BYTES = Integer.BYTES * 2;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES * 3;
+
+    private final Path directory;
+    private final String name;
+    private final long segmentMaxBytes;
+    private final int blockSize;
+    private final Pattern segmentPattern;
+
+    private long segmentSequence;
+    private FileChannel segmentChannel;
+    private FileChannel indexChannel;
+
+    public OutboxSegmentArchive(Path directory, String name, long segmentMaxBytes, int blockSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.name = name;
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.blockSize = blockSize;
+        this.segmentPattern = Pattern.compile(Pattern.quote(name) + "-(\\d{20})" + Pattern.quote(SEGMENT_SUFFIX));
+        this.segmentSequence = segments().stream().mapToLong(this::sequenceOf).max().orElse(0);
+    }
+
+    public synchronized void append(List<OutboxRecord> outboxRecords) throws IOException {
+        if (outboxRecords.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < outboxRecords.size(); from += blockSize) {
+            if (segmentChannel == null) {
+                openNextSegment();
+            }
+            writeBlock(outboxRecords.subList(from, Math.min(from + blockSize, outboxRecords.size())));
+            if (segmentChannel.size() >= segmentMaxBytes) {
+                closeSegment();
+            }
+        }
+        if (segmentChannel != null) {
+            segmentChannel.force(false);
+            indexChannel.force(false);
+        }
+    }
+
+    public List<OutboxRecord> findBySagaId(UUID sagaId) throws IOException {
+        Map<UUID, OutboxRecord> outboxRecords = new LinkedHashMap<>();
+        for (Path segment : segments()) {
+            Set<Long> blockOffsets = findBlockOffsets(indexOf(segment), sagaId);
+            if (blockOffsets.isEmpty()) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                for (long blockOffset : blockOffsets) {
+                    readBlock(channel, blockOffset).stream()
+                        .filter(outboxRecord -> sagaId.equals(outboxRecord.getSagaId()))
+                        .forEach(outboxRecord -> outboxRecords.put(outboxRecord.getId(), outboxRecord));
+                }
+            }
+        }
+        return outboxRecords.values().stream()
+            .sorted(Comparator.comparing(OutboxRecord::getCreatedAt))
+            .toList();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeSegment();
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentSequence++;
+        Path segment = directory.resolve("%s-%020d%s".formatted(name, segmentSequence, SEGMENT_SUFFIX));
+        segmentChannel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        indexChannel = FileChannel.open(indexOf(segment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        log.info("Opened outbox archive segment {}", segment);
+    }
+
+    private void closeSegment() throws IOException {
+        if (segmentChannel == null) {
+            return;
+        }
+        try (FileChannel segment = segmentChannel; FileChannel index = indexChannel) {
+            segment.force(true);
+            index.force(true);
+        } finally {
+            segmentChannel = null;
+            indexChannel = null;
+        }
+    }
+
+    private void writeBlock(List<OutboxRecord> outboxRecords) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(compressed))) {
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            for (OutboxRecord outboxRecord : outboxRecords) {
+                encoded.reset();
+                OutboxRecordCodec.encode(outboxRecord, new DataOutputStream(encoded));
+                out.writeInt(encoded.size());
+                encoded.writeTo(out);
+            }
+        }
+
+        long blockOffset = segmentChannel.size();
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_BYTES + compressed.size())
+            .putInt(outboxRecords.size())
+            .putInt(compressed.size())
+            .put(compressed.toByteArray())
+            .flip();
+        writeFully(segmentChannel, block, blockOffset);
+
+        Set<UUID> sagaIds = new LinkedHashSet<>();
+        outboxRecords.forEach(outboxRecord -> sagaIds.add(outboxRecord.getSagaId()));
+        ByteBuffer index = ByteBuffer.allocate(sagaIds.size() * INDEX_ENTRY_BYTES);
+        sagaIds.forEach(sagaId -> index.putLong(sagaId.getMostSignificantBits())
+            .putLong(sagaId.getLeastSignificantBits())
+            .putLong(blockOffset));
+        writeFully(indexChannel, index.flip(), indexChannel.size());
+    }
+
+    private Set<Long> findBlockOffsets(Path index, UUID sagaId) throws IOException {
+        Set<Long> blockOffsets = new LinkedHashSet<>();
+        if (Files.notExists(index)) {
+            return blockOffsets;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+            long entries = Files.size(index) / INDEX_ENTRY_BYTES;
+            for (long entry = 0; entry < entries; entry++) {
+                UUID indexedSagaId = OutboxRecordCodec.readUuid(in);
+                long blockOffset = in.readLong();
+                if (sagaId.equals(indexedSagaId)) {
+                    blockOffsets.add(blockOffset);
+                }
+            }
+        }
+        return blockOffsets;
+    }
+
+    private List<OutboxRecord> readBlock(FileChannel channel, long blockOffset) throws IOException {
+        ByteBuffer header = readFully(channel, BLOCK_HEADER_BYTES, blockOffset);
+        int recordCount = header.getInt();
+        ByteBuffer compressed = readFully(channel, header.getInt(), blockOffset + BLOCK_HEADER_BYTES);
+
+        List<OutboxRecord> outboxRecords = new ArrayList<>(recordCount);
+        try (DataInputStream in = new DataInputStream(
+            new InflaterInputStream(new ByteArrayInputStream(compressed.array())))) {
+            for (int i = 0; i < recordCount; i++) {
+                byte[] encoded = new byte[in.readInt()];
+                in.readFully(encoded);
+                outboxRecords.add(OutboxRecordCodec.decode(new DataInputStream(new ByteArrayInputStream(encoded))));
+            }
+        }
+        return outboxRecords;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> segmentPattern.matcher(file.getFileName().toString()).matches())
+                .sorted()
+                .toList();
+        }
+    }
+
+    private long sequenceOf(Path segment) {
+        Matcher matcher = segmentPattern.matcher(segment.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static Path indexOf(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return segment.resolveSibling(
+            fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int length, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Truncated outbox archive block at offset " + position);
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,151 @@
+package com.food.ordering.system.outbox.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AdvisoryLockShardCoordinator {
+
+    private static final int MEMBER_KEY = Integer.MAX_VALUE;
+
+    private static final String JOIN = "SELECT pg_advisory_lock_shared(?, ?)";
+    private static final String COUNT_MEMBERS = """
+        SELECT count(DISTINCT pid)
+        FROM pg_locks
+        WHERE locktype = 'advisory'
+          AND classid = CAST(? AS oid)
+          AND objid = CAST(? AS oid)
+          AND objsubid = 2
+          AND granted
+        """;
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(?, ?)";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(?, ?)";
+
+    private final DataSource dataSource;
+    private final String name;
+    private final int namespace;
+    private final int shardCount;
+    private final TreeSet<Integer> ownedShards = new TreeSet<>();
+
+    private Connection connection;
+
+    public AdvisoryLockShardCoordinator(DataSource dataSource, String name, int shardCount) {
+        this.dataSource = dataSource;
+        this.name = name;
+        this.namespace = name.hashCode() & Integer.MAX_VALUE;
+        this.shardCount = shardCount;
+    }
+
+    public synchronized Set<Integer> rebalance() {
+        try {
+            if (connection == null) {
+                join();
+            }
+            int members = Math.max(1, countMembers());
+            int fairShare = (shardCount + members - 1) / members;
+            boolean changed = releaseExcess(fairShare) | acquireFree(fairShare);
+            if (changed) {
+                log.info("{} owns {} of {} shards across {} members: {}",
+                         name,
+                         ownedShards.size(),
+                         shardCount,
+                         members,
+                         ownedShards);
+            }
+        } catch (SQLException e) {
+            log.error("{} lost its shard lock session, releasing shards: {}", name, ownedShards, e);
+            leave();
+        }
+        return Set.copyOf(ownedShards);
+    }
+
+    public synchronized void close() {
+        if (connection != null) {
+            log.info("{} releasing shards: {}", name, ownedShards);
+            leave();
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    private void join() throws SQLException {
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(true);
+        try (PreparedStatement statement = connection.prepareStatement(JOIN)) {
+            statement.setInt(1, namespace);
+            statement.setInt(2, MEMBER_KEY);
+            statement.execute();
+        }
+    }
+
+    private void leave() {
+        ownedShards.clear();
+        if (connection == null) {
+            return;
+        }
+        try {
+            // Session level advisory locks are released by the server when the session ends.
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("{} could not close shard lock session", name, e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private int countMembers() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(COUNT_MEMBERS)) {
+            statement.setInt(1, namespace);
+            statement.setInt(2, MEMBER_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private boolean releaseExcess(int fairShare) throws SQLException {
+        boolean released = false;
+        while (ownedShards.size() > fairShare) {
+            int shard = ownedShards.last();
+            query(UNLOCK, shard);
+            ownedShards.remove(shard);
+            released = true;
+        }
+        return released;
+    }
+
+    private boolean acquireFree(int fairShare) throws SQLException {
+        boolean acquired = false;
+        int offset = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount && ownedShards.size() < fairShare; i++) {
+            int shard = (offset + i) % shardCount;
+            if (!ownedShards.contains(shard) && query(TRY_LOCK, shard)) {
+                ownedShards.add(shard);
+                acquired = true;
+            }
+        }
+        return acquired;
+    }
+
+    private boolean query(String sql, int key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, namespace);
+            statement.setInt(2, key);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
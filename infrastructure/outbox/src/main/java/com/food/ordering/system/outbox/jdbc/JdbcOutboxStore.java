@@ -0,0 +1,627 @@
+package com.food.ordering.system.outbox.jdbc;
+
+import static java.util.stream.Collectors.joining;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRecordMapper;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+public class JdbcOutboxStore<T> {
+
+    private static final List<String> COLUMNS = List.of("id", "saga_id", "created_at", "processed_at", "type",
+                                                        "payload", "outbox_status", "version");
+    private static final List<String> ENCODED_PAYLOAD_COLUMNS = List.of("payload_format", "payload_bytes", "schema_id");
+
+    // Bounding by created_at lets partitioned tables prune to the partitions the acked rows live in.
+    private static final String CREATED_AT_RANGE = "AND created_at BETWEEN :createdFrom AND :createdTo";
+    // Claims on partitioned tables skip partitions older than the oldest row still waiting to be published.
+    private static final String CLAIM_HORIZON = "AND created_at >= :claimHorizon";
+    // An older row reset to STARTED by a redrive is claimed once the horizon is next refreshed.
+    private static final Duration CLAIM_HORIZON_REFRESH = Duration.ofMinutes(1);
+    // Covers rows that commit a while after their created_at was taken.
+    private static final Duration CLAIM_HORIZON_MARGIN = Duration.ofMinutes(10);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxTable outboxTable;
+    private final OutboxRecordMapper<T> outboxRecordMapper;
+    private final Map<String, ClaimHorizon> claimHorizons = new ConcurrentHashMap<>();
+
+    private final String upsert;
+    private final String updateByIdAndVersion;
+    private final String updateOutboxStatusByIds;
+    private final String updateOutboxStatusByKeys;
+    private final String scheduleRetryByIds;
+    private final String scheduleRetryByKeys;
+    private final String findByOutboxStatus;
+    private final String findFirstPage;
+    private final String findNextPage;
+    private final String claim;
+    private final String claimShard;
+    private final String claimRetryable;
+    private final String findClaimHorizon;
+    private final String findBySagaId;
+    private final String findBySagaIds;
+    private final String deleteByOutboxStatus;
+    private final String deleteBatch;
+    private final String findFirstArchivablePage;
+    private final String findNextArchivablePage;
+    private final String deleteByIds;
+
+    public JdbcOutboxStore(NamedParameterJdbcTemplate jdbcTemplate,
+                           OutboxTable outboxTable,
+                           OutboxRecordMapper<T> outboxRecordMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxTable = outboxTable;
+        this.outboxRecordMapper = outboxRecordMapper;
+
+        String table = outboxTable.getName();
+        String columns = columns("");
+        String filter = filterClause();
+        String claimHorizon = outboxTable.isPartitioned() ? CLAIM_HORIZON : "";
+
+        boolean encodedPayload = outboxTable.isEncodedPayload();
+        this.upsert = """
+            INSERT INTO %1$s (%2$s)
+            VALUES (:id, :sagaId, :createdAt, :processedAt, :type, CAST(:payload AS jsonb),
+                    CAST(:outboxStatus AS outbox_status), :version%3$s%4$s)
+            ON CONFLICT (%5$s) DO UPDATE SET processed_at  = EXCLUDED.processed_at,
+                                             payload       = EXCLUDED.payload,
+                                             outbox_status = EXCLUDED.outbox_status,
+                                             version       = EXCLUDED.version%6$s%7$s
+            """.formatted(table,
+                          columns,
+                          encodedPayload
+                              ? ", CAST(:payloadFormat AS outbox_payload_format), :payloadBytes, :schemaId"
+                              : "",
+                          outboxTable.getStatusColumns().stream()
+                              .map(column -> ", CAST(:%s AS %s)".formatted(column.getName(), column.getType()))
+                              .collect(joining()),
+                          outboxTable.isPartitioned() ? "id, created_at" : "id",
+                          encodedPayload
+                              ? ENCODED_PAYLOAD_COLUMNS.stream()
+                                  .map(column -> ", %s = EXCLUDED.%s".formatted(column, column))
+                                  .collect(joining())
+                              : "",
+                          outboxTable.getStatusColumns().stream()
+                              .map(column -> ", %s = EXCLUDED.%s".formatted(column.getName(), column.getName()))
+                              .collect(joining()));
+
+        this.updateByIdAndVersion = """
+            UPDATE %s
+            SET processed_at = :processedAt,
+                version      = version + 1%s
+            WHERE id = :id
+              AND created_at = :createdAt
+              AND version = :version
+            """.formatted(table,
+                          outboxTable.getStatusColumns().stream()
+                              .map(column -> ",\n    %s = CAST(:%s AS %s)"
+                                  .formatted(column.getName(), column.getName(), column.getType()))
+                              .collect(joining()));
+
+        String updateOutboxStatus = """
+            UPDATE %s
+            SET outbox_status = CAST(:outboxStatus AS outbox_status)
+            WHERE id = ANY(CAST(:ids AS uuid[]))
+              %%s
+            """.formatted(table);
+        this.updateOutboxStatusByIds = updateOutboxStatus.formatted("");
+        this.updateOutboxStatusByKeys = updateOutboxStatus.formatted(CREATED_AT_RANGE);
+
+        String scheduleRetry = """
+            WITH scheduled AS (
+                UPDATE %s
+                SET attempt_count   = attempt_count + 1,
+                    outbox_status   = CAST(CASE WHEN attempt_count + 1 >= :maxAttempts THEN 'PARKED' ELSE 'FAILED' END
+                                           AS outbox_status),
+                    next_attempt_at = now() + LEAST(CAST(:maxBackoffMillis AS bigint),
+                                                    CAST(:initialBackoffMillis AS bigint)
+                                                        * power(2, LEAST(attempt_count, 30)))
+                                              * (1 - CAST(:jitter AS double precision) * random())
+                                              * INTERVAL '1 millisecond',
+                    claimed_by      = NULL,
+                    lease_until     = NULL
+                WHERE id = ANY(CAST(:ids AS uuid[]))
+                  %%s
+                RETURNING id, outbox_status
+            )
+            SELECT id
+            FROM scheduled
+            WHERE outbox_status = 'PARKED'
+            """.formatted(table);
+        this.scheduleRetryByIds = scheduleRetry.formatted("");
+        this.scheduleRetryByKeys = scheduleRetry.formatted(CREATED_AT_RANGE);
+
+        this.findByOutboxStatus = """
+            SELECT %s
+            FROM %s
+            WHERE type = :type
+              AND outbox_status = CAST(:outboxStatus AS outbox_status)
+              %s
+            """.formatted(columns, table, filter);
+
+        String findPage = """
+            SELECT %s
+            FROM %s
+            WHERE type = :type
+              AND outbox_status = CAST(:outboxStatus AS outbox_status)
+              %s
+              %%s
+            ORDER BY created_at, id
+            LIMIT :limit
+            """.formatted(columns, table, filter);
+        this.findFirstPage = findPage.formatted("");
+        this.findNextPage = findPage.formatted("AND (created_at, id) > (:afterCreatedAt, :afterId)");
+
+        String claim = """
+            UPDATE %1$s o
+            SET claimed_by  = :claimedBy,
+                lease_until = now() + CAST(:leaseMillis AS bigint) * INTERVAL '1 millisecond'
+            FROM (SELECT id, created_at
+                  FROM %1$s
+                  WHERE type = :type
+                    AND outbox_status = CAST(:outboxStatus AS outbox_status)
+                    %2$s
+                    %3$s
+                    %%s
+                    AND (lease_until IS NULL OR lease_until < now())
+                  ORDER BY created_at
+                  LIMIT :limit
+                  FOR UPDATE SKIP LOCKED) claimable
+            WHERE o.id = claimable.id
+              AND o.created_at = claimable.created_at
+            RETURNING %4$s
+            """.formatted(table, filter, claimHorizon, columns("o."));
+        this.claim = claim.formatted("");
+        // The shard filter only narrows the claim, the row lease still decides who publishes a row
+        // when two instances briefly hold overlapping shard sets during a rebalance.
+        this.claimShard = claim.formatted("AND (hashtext(CAST(saga_id AS text)) & 2147483647) % :shardCount "
+                                          + "= ANY(CAST(:shards AS int[]))");
+
+        this.claimRetryable = """
+            UPDATE %1$s o
+            SET next_attempt_at = now() + CAST(:leaseMillis AS bigint) * INTERVAL '1 millisecond'
+            FROM (SELECT id, created_at
+                  FROM %1$s
+                  WHERE type = :type
+                    AND outbox_status = 'FAILED'
+                    AND next_attempt_at <= now()
+                    %2$s
+                    %3$s
+                  ORDER BY next_attempt_at
+                  LIMIT :limit
+                  FOR UPDATE SKIP LOCKED) retryable
+            WHERE o.id = retryable.id
+              AND o.created_at = retryable.created_at
+            RETURNING %4$s
+            """.formatted(table, filter, claimHorizon, columns("o."));
+
+        this.findClaimHorizon = """
+            SELECT min(created_at)
+            FROM %s
+            WHERE type = :type
+              AND outbox_status IN ('STARTED', 'FAILED')
+            """.formatted(table);
+
+        this.findBySagaId = """
+            SELECT %s
+            FROM %s
+            WHERE type = :type
+              AND saga_id = :sagaId
+              %s
+            """.formatted(columns, table, filter);
+
+        this.findBySagaIds = """
+            SELECT %s
+            FROM %s
+            WHERE type = :type
+              AND saga_id = ANY(CAST(:sagaIds AS uuid[]))
+              %s
+            """.formatted(columns, table, filter);
+
+        this.deleteByOutboxStatus = """
+            DELETE FROM %s
+            WHERE type = :type
+              AND outbox_status = CAST(:outboxStatus AS outbox_status)
+              %s
+            """.formatted(table, filter);
+
+        this.deleteBatch = """
+            DELETE FROM %1$s
+            WHERE (tableoid, ctid) IN (SELECT tableoid, ctid
+                                       FROM %1$s
+                                       WHERE type = :type
+                                         AND outbox_status = CAST(:outboxStatus AS outbox_status)
+                                         %2$s
+                                         AND created_at < :createdBefore
+                                       LIMIT :limit
+                                       FOR UPDATE SKIP LOCKED)
+            """.formatted(table, filter);
+
+        String findArchivablePage = """
+            SELECT %s
+            FROM %s
+            WHERE type = :type
+              AND outbox_status = CAST(:outboxStatus AS outbox_status)
+              %s
+              AND created_at < :createdBefore
+              %%s
+            ORDER BY created_at, id
+            LIMIT :limit
+            """.formatted(columns, table, filter);
+        this.findFirstArchivablePage = findArchivablePage.formatted("");
+        this.findNextArchivablePage = findArchivablePage.formatted(
+            "AND (created_at, id) > (:afterCreatedAt, :afterId)");
+
+        this.deleteByIds = """
+            DELETE FROM %s
+            WHERE id = ANY(CAST(:ids AS uuid[]))
+              AND created_at < :createdBefore
+            """.formatted(table);
+    }
+
+    public int save(T outboxMessage) {
+        return jdbcTemplate.update(upsert, toParameterSource(outboxMessage));
+    }
+
+    public int[] saveAll(List<T> outboxMessages) {
+        return jdbcTemplate.batchUpdate(upsert, outboxMessages.stream()
+            .map(this::toParameterSource)
+            .toArray(SqlParameterSource[]::new));
+    }
+
+    public boolean updateByIdAndVersion(T outboxMessage) {
+        return jdbcTemplate.update(updateByIdAndVersion, toParameterSource(outboxMessage)) == 1;
+    }
+
+    public boolean updateAllByIdAndVersion(List<T> outboxMessages) {
+        int[] updated = jdbcTemplate.batchUpdate(updateByIdAndVersion, outboxMessages.stream()
+            .map(this::toParameterSource)
+            .toArray(SqlParameterSource[]::new));
+        return Arrays.stream(updated).allMatch(count -> count == 1);
+    }
+
+    public int updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids) {
+        return jdbcTemplate.update(updateOutboxStatusByIds,
+                                   new MapSqlParameterSource()
+                                       .addValue("outboxStatus", outboxStatus.name())
+                                       .addValue("ids", toIdArray(ids)));
+    }
+
+    public int updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys) {
+        return jdbcTemplate.update(updateOutboxStatusByKeys,
+                                   keyParameters(keys).addValue("outboxStatus", outboxStatus.name()));
+    }
+
+    public List<UUID> scheduleRetryByIds(List<UUID> ids, OutboxRetryPolicy retryPolicy) {
+        return jdbcTemplate.queryForList(scheduleRetryByIds,
+                                         retryParameters(retryPolicy).addValue("ids", toIdArray(ids)),
+                                         UUID.class);
+    }
+
+    public List<UUID> scheduleRetryByKeys(List<OutboxCursor> keys, OutboxRetryPolicy retryPolicy) {
+        return jdbcTemplate.queryForList(scheduleRetryByKeys,
+                                         keyParameters(keys).addValues(retryParameters(retryPolicy).getValues()),
+                                         UUID.class);
+    }
+
+    public List<T> findByOutboxStatus(String type, OutboxStatus outboxStatus, Enum<?>... filterValues) {
+        return jdbcTemplate.query(findByOutboxStatus,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("outboxStatus", outboxStatus.name())
+                                      .addValue("filterValues", toArray(filterValues)),
+                                  this::mapRow);
+    }
+
+    public List<T> findPage(String type,
+                            OutboxStatus outboxStatus,
+                            OutboxCursor after,
+                            int limit,
+                            Enum<?>... filterValues) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("type", type)
+            .addValue("outboxStatus", outboxStatus.name())
+            .addValue("filterValues", toArray(filterValues))
+            .addValue("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(findFirstPage, parameters, this::mapRow);
+        }
+        parameters.addValue("afterCreatedAt", toOffsetDateTime(after.getCreatedAt()))
+            .addValue("afterId", after.getId());
+        return jdbcTemplate.query(findNextPage, parameters, this::mapRow);
+    }
+
+    public List<T> findPageWhere(String type,
+                                 String condition,
+                                 MapSqlParameterSource conditionParameters,
+                                 OutboxCursor after,
+                                 int limit) {
+        String findPageWhere = """
+            SELECT %s
+            FROM %s o
+            WHERE o.type = :type
+              AND %s
+              %s
+            ORDER BY o.created_at, o.id
+            LIMIT :limit
+            """.formatted(columns("o."),
+                          outboxTable.getName(),
+                          condition,
+                          after == null ? "" : "AND (o.created_at, o.id) > (:afterCreatedAt, :afterId)");
+        MapSqlParameterSource parameters = new MapSqlParameterSource(conditionParameters.getValues())
+            .addValue("type", type)
+            .addValue("limit", limit);
+        if (after != null) {
+            parameters.addValue("afterCreatedAt", toOffsetDateTime(after.getCreatedAt()))
+                .addValue("afterId", after.getId());
+        }
+        return jdbcTemplate.query(findPageWhere, parameters, this::mapRow);
+    }
+
+    public List<T> claim(String type,
+                         OutboxStatus outboxStatus,
+                         String claimedBy,
+                         Duration leaseDuration,
+                         int limit,
+                         Enum<?>... filterValues) {
+        return jdbcTemplate.query(claim,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("outboxStatus", outboxStatus.name())
+                                      .addValue("filterValues", toArray(filterValues))
+                                      .addValue("claimedBy", claimedBy)
+                                      .addValue("leaseMillis", leaseDuration.toMillis())
+                                      .addValue("claimHorizon", claimHorizon(type))
+                                      .addValue("limit", limit),
+                                  this::mapRow);
+    }
+
+    public List<T> claimShard(String type,
+                              OutboxStatus outboxStatus,
+                              String claimedBy,
+                              Duration leaseDuration,
+                              int limit,
+                              int shardCount,
+                              Set<Integer> shards,
+                              Enum<?>... filterValues) {
+        return jdbcTemplate.query(claimShard,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("outboxStatus", outboxStatus.name())
+                                      .addValue("filterValues", toArray(filterValues))
+                                      .addValue("claimedBy", claimedBy)
+                                      .addValue("leaseMillis", leaseDuration.toMillis())
+                                      .addValue("shardCount", shardCount)
+                                      .addValue("shards", shards.toArray(Integer[]::new))
+                                      .addValue("claimHorizon", claimHorizon(type))
+                                      .addValue("limit", limit),
+                                  this::mapRow);
+    }
+
+    public List<T> claimRetryable(String type, Duration leaseDuration, int limit, Enum<?>... filterValues) {
+        return jdbcTemplate.query(claimRetryable,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("filterValues", toArray(filterValues))
+                                      .addValue("leaseMillis", leaseDuration.toMillis())
+                                      .addValue("claimHorizon", claimHorizon(type))
+                                      .addValue("limit", limit),
+                                  this::mapRow);
+    }
+
+    public Optional<T> findBySagaId(String type, UUID sagaId, Enum<?>... filterValues) {
+        return jdbcTemplate.query(findBySagaId,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("sagaId", sagaId)
+                                      .addValue("filterValues", toArray(filterValues)),
+                                  this::mapRow)
+            .stream()
+            .findFirst();
+    }
+
+    public List<T> findBySagaIds(String type, Collection<UUID> sagaIds, Enum<?>... filterValues) {
+        return jdbcTemplate.query(findBySagaIds,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("sagaIds", toIdArray(sagaIds))
+                                      .addValue("filterValues", toArray(filterValues)),
+                                  this::mapRow);
+    }
+
+    public int deleteByOutboxStatus(String type, OutboxStatus outboxStatus, Enum<?>... filterValues) {
+        return jdbcTemplate.update(deleteByOutboxStatus,
+                                   new MapSqlParameterSource()
+                                       .addValue("type", type)
+                                       .addValue("outboxStatus", outboxStatus.name())
+                                       .addValue("filterValues", toArray(filterValues)));
+    }
+
+    public int deleteBatch(String type,
+                           OutboxStatus outboxStatus,
+                           ZonedDateTime createdBefore,
+                           int limit,
+                           Enum<?>... filterValues) {
+        return jdbcTemplate.update(deleteBatch,
+                                   new MapSqlParameterSource()
+                                       .addValue("type", type)
+                                       .addValue("outboxStatus", outboxStatus.name())
+                                       .addValue("filterValues", toArray(filterValues))
+                                       .addValue("createdBefore", toOffsetDateTime(createdBefore))
+                                       .addValue("limit", limit));
+    }
+
+    public List<OutboxRecord> findArchivablePage(String type,
+                                                 OutboxStatus outboxStatus,
+                                                 ZonedDateTime createdBefore,
+                                                 OutboxCursor after,
+                                                 int limit,
+                                                 Enum<?>... filterValues) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("type", type)
+            .addValue("outboxStatus", outboxStatus.name())
+            .addValue("filterValues", toArray(filterValues))
+            .addValue("createdBefore", toOffsetDateTime(createdBefore))
+            .addValue("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(findFirstArchivablePage, parameters, this::mapRecord);
+        }
+        parameters.addValue("afterCreatedAt", toOffsetDateTime(after.getCreatedAt()))
+            .addValue("afterId", after.getId());
+        return jdbcTemplate.query(findNextArchivablePage, parameters, this::mapRecord);
+    }
+
+    public int deleteByIds(ZonedDateTime createdBefore, List<UUID> ids) {
+        return jdbcTemplate.update(deleteByIds,
+                                   new MapSqlParameterSource()
+                                       .addValue("ids", toIdArray(ids))
+                                       .addValue("createdBefore", toOffsetDateTime(createdBefore)));
+    }
+
+    public static MapSqlParameterSource keyParameters(List<OutboxCursor> keys) {
+        return new MapSqlParameterSource()
+            .addValue("ids", toIdArray(keys.stream().map(OutboxCursor::getId).toList()))
+            .addValue("createdFrom", toOffsetDateTime(keys.stream()
+                                                          .map(OutboxCursor::getCreatedAt)
+                                                          .min(Comparator.naturalOrder())
+                                                          .orElseThrow()))
+            .addValue("createdTo", toOffsetDateTime(keys.stream()
+                                                        .map(OutboxCursor::getCreatedAt)
+                                                        .max(Comparator.naturalOrder())
+                                                        .orElseThrow()));
+    }
+
+    private OffsetDateTime claimHorizon(String type) {
+        if (!outboxTable.isPartitioned()) {
+            return null;
+        }
+        long now = System.nanoTime();
+        ClaimHorizon claimHorizon = claimHorizons.get(type);
+        if (claimHorizon == null || now - claimHorizon.refreshedAt() >= CLAIM_HORIZON_REFRESH.toNanos()) {
+            claimHorizon = new ClaimHorizon(findClaimHorizon(type), now);
+            claimHorizons.put(type, claimHorizon);
+        }
+        return claimHorizon.createdFrom();
+    }
+
+    private OffsetDateTime findClaimHorizon(String type) {
+        OffsetDateTime horizon = OffsetDateTime.now(ZoneOffset.UTC).minus(CLAIM_HORIZON_MARGIN);
+        OffsetDateTime oldestUnpublished = jdbcTemplate.queryForObject(findClaimHorizon,
+                                                                       new MapSqlParameterSource("type", type),
+                                                                       OffsetDateTime.class);
+        return oldestUnpublished != null && oldestUnpublished.isBefore(horizon) ? oldestUnpublished : horizon;
+    }
+
+    private static MapSqlParameterSource retryParameters(OutboxRetryPolicy retryPolicy) {
+        return new MapSqlParameterSource()
+            .addValue("maxAttempts", retryPolicy.getMaxAttempts())
+            .addValue("initialBackoffMillis", retryPolicy.getInitialBackoff().toMillis())
+            .addValue("maxBackoffMillis", retryPolicy.getMaxBackoff().toMillis())
+            .addValue("jitter", retryPolicy.getJitter());
+    }
+
+    private String columns(String prefix) {
+        return Stream.of(COLUMNS.stream(),
+                         outboxTable.isEncodedPayload() ? ENCODED_PAYLOAD_COLUMNS.stream() : Stream.<String>empty(),
+                         outboxTable.getStatusColumns().stream().map(OutboxStatusColumn::getName))
+            .flatMap(column -> column)
+            .map(column -> prefix + column)
+            .collect(joining(", "));
+    }
+
+    private String filterClause() {
+        OutboxStatusColumn filterColumn = outboxTable.getFilterColumn();
+        return filterColumn == null ? "" : "AND %s = ANY(CAST(:filterValues AS %s[]))"
+            .formatted(filterColumn.getName(), filterColumn.getType());
+    }
+
+    private SqlParameterSource toParameterSource(T outboxMessage) {
+        OutboxRecord outboxRecord = outboxRecordMapper.toOutboxRecord(outboxMessage);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", outboxRecord.getId())
+            .addValue("sagaId", outboxRecord.getSagaId())
+            .addValue("createdAt", toOffsetDateTime(outboxRecord.getCreatedAt()))
+            .addValue("processedAt", toOffsetDateTime(outboxRecord.getProcessedAt()))
+            .addValue("type", outboxRecord.getType())
+            .addValue("payload", outboxRecord.getPayload())
+            .addValue("outboxStatus", outboxRecord.getOutboxStatus().name())
+            .addValue("version", outboxRecord.getVersion());
+        if (outboxTable.isEncodedPayload()) {
+            parameters.addValue("payloadFormat", outboxRecord.getPayloadFormat().name())
+                .addValue("payloadBytes", outboxRecord.getPayloadBytes())
+                .addValue("schemaId", outboxRecord.getSchemaId());
+        }
+        outboxTable.getStatusColumns()
+            .forEach(column -> parameters.addValue(column.getName(), outboxRecord.getStatus(column.getName())));
+        return parameters;
+    }
+
+    private T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return outboxRecordMapper.fromOutboxRecord(mapRecord(rs, rowNum));
+    }
+
+    private OutboxRecord mapRecord(ResultSet rs, int rowNum) throws SQLException {
+        OutboxRecord.OutboxRecordBuilder outboxRecordBuilder = OutboxRecord.builder()
+            .id(rs.getObject("id", UUID.class))
+            .sagaId(rs.getObject("saga_id", UUID.class))
+            .createdAt(toZonedDateTime(rs.getObject("created_at", OffsetDateTime.class)))
+            .processedAt(toZonedDateTime(rs.getObject("processed_at", OffsetDateTime.class)))
+            .type(rs.getString("type"))
+            .payload(rs.getString("payload"))
+            .outboxStatus(OutboxStatus.valueOf(rs.getString("outbox_status")))
+            .version(rs.getInt("version"));
+        if (outboxTable.isEncodedPayload()) {
+            outboxRecordBuilder.payloadFormat(OutboxPayloadFormat.valueOf(rs.getString("payload_format")))
+                .payloadBytes(rs.getBytes("payload_bytes"))
+                .schemaId(rs.getObject("schema_id", Integer.class));
+        }
+        for (OutboxStatusColumn column : outboxTable.getStatusColumns()) {
+            outboxRecordBuilder.status(column.getName(), rs.getString(column.getName()));
+        }
+        return outboxRecordBuilder.build();
+    }
+
+    private static String[] toArray(Enum<?>... values) {
+        return Arrays.stream(values).map(Enum::name).toArray(String[]::new);
+    }
+
+    // The driver cannot bind a UUID[], ids go in as text and every statement casts them to uuid[].
+    private static String[] toIdArray(Collection<UUID> ids) {
+        return ids.stream().map(UUID::toString).toArray(String[]::new);
+    }
+
+    private static OffsetDateTime toOffsetDateTime(ZonedDateTime zonedDateTime) {
+        return zonedDateTime == null ? null : zonedDateTime.toOffsetDateTime();
+    }
+
+    private static ZonedDateTime toZonedDateTime(OffsetDateTime offsetDateTime) {
+        return offsetDateTime == null ? null : offsetDateTime.atZoneSameInstant(ZoneOffset.UTC);
+    }
+
+    private record ClaimHorizon(OffsetDateTime createdFrom, long refreshedAt) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.outbox.jdbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public final class OutboxStatusColumn {
+    private final String name;
+    private final String type;
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.outbox.jdbc;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+@Getter
+@Builder
+public class OutboxTable {
+    private final String name;
+    @Singular
+    private final List<OutboxStatusColumn> statusColumns;
+    private final OutboxStatusColumn filterColumn;
+    // Partitioned tables key rows by (id, created_at), as a partition key must be part of every unique constraint.
+    private final boolean partitioned;
+    // Only tables with payload_format, payload_bytes and schema_id columns can hold encoded payloads.
+    private final boolean encodedPayload;
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptivePollIntervalTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final AdaptivePollInterval pollInterval =
+        new AdaptivePollInterval(Duration.ofMillis(100), Duration.ofMillis(1600), Duration.ofMillis(400));
+
+    @Test
+    public void testEmptyPollsGrowDelayUpToCeiling() {
+        pollInterval.record(0, PAGE_SIZE);
+        assertEquals(Duration.ofMillis(800), pollInterval.getCurrent());
+
+        pollInterval.record(0, PAGE_SIZE);
+        pollInterval.record(0, PAGE_SIZE);
+        assertEquals(Duration.ofMillis(1600), pollInterval.getCurrent());
+    }
+
+    @Test
+    public void testFullPagesShrinkDelayDownToFloor() {
+        pollInterval.record(PAGE_SIZE, PAGE_SIZE);
+        assertEquals(Duration.ofMillis(200), pollInterval.getCurrent());
+
+        pollInterval.record(PAGE_SIZE, PAGE_SIZE);
+        pollInterval.record(PAGE_SIZE, PAGE_SIZE);
+        assertEquals(Duration.ofMillis(100), pollInterval.getCurrent());
+    }
+
+    @Test
+    public void testPartialPageKeepsDelay() {
+        pollInterval.record(PAGE_SIZE / 2, PAGE_SIZE);
+
+        assertEquals(Duration.ofMillis(400), pollInterval.getCurrent());
+    }
+
+    @Test
+    public void testFixedIntervalNeverChanges() {
+        AdaptivePollInterval fixed = AdaptivePollInterval.fixed(Duration.ofMillis(500));
+
+        fixed.record(0, PAGE_SIZE);
+        fixed.record(PAGE_SIZE, PAGE_SIZE);
+
+        assertEquals(Duration.ofMillis(500), fixed.getCurrent());
+        assertFalse(fixed.isAdaptive());
+        assertTrue(pollInterval.isAdaptive());
+    }
+
+    @Test
+    public void testFloorAboveCeilingIsRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new AdaptivePollInterval(Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OutboxAckAggregatorTest {
+
+    private final Map<OutboxStatus, List<Integer>> flushed = new ConcurrentHashMap<>();
+
+    @Test
+    public void testFlushesWhenBatchIsFull() throws InterruptedException {
+        CountDownLatch flushedLatch = new CountDownLatch(2);
+        try (OutboxAckAggregator<Integer> aggregator = aggregator(3, Duration.ofHours(1), flushedLatch)) {
+            aggregator.ack(1, OutboxStatus.COMPLETED);
+            aggregator.ack(2, OutboxStatus.FAILED);
+            assertTrue(flushed.isEmpty());
+
+            aggregator.ack(3, OutboxStatus.COMPLETED);
+
+            assertTrue(flushedLatch.await(5, TimeUnit.SECONDS));
+            assertEquals(Map.of(OutboxStatus.COMPLETED, List.of(1, 3), OutboxStatus.FAILED, List.of(2)), flushed);
+        }
+    }
+
+    @Test
+    public void testFlushesOnIntervalBelowBatchSize() throws InterruptedException {
+        CountDownLatch flushedLatch = new CountDownLatch(1);
+        try (OutboxAckAggregator<Integer> aggregator = aggregator(100, Duration.ofMillis(50), flushedLatch)) {
+            aggregator.ack(1, OutboxStatus.COMPLETED);
+
+            assertTrue(flushedLatch.await(5, TimeUnit.SECONDS));
+            assertEquals(Map.of(OutboxStatus.COMPLETED, List.of(1)), flushed);
+        }
+    }
+
+    @Test
+    public void testCloseFlushesPendingAcks() throws InterruptedException {
+        CountDownLatch flushedLatch = new CountDownLatch(1);
+        OutboxAckAggregator<Integer> aggregator = aggregator(100, Duration.ofHours(1), flushedLatch);
+        aggregator.ack(1, OutboxStatus.PARKED);
+
+        aggregator.close();
+
+        assertEquals(Map.of(OutboxStatus.PARKED, List.of(1)), flushed);
+    }
+
+    private OutboxAckAggregator<Integer> aggregator(int maxBatchSize,
+                                                    Duration flushInterval,
+                                                    CountDownLatch flushedLatch) {
+        return new OutboxAckAggregator<>("test-ack", maxBatchSize, flushInterval, (outboxStatus, outboxKeys) -> {
+            flushed.put(outboxStatus, outboxKeys);
+            flushedLatch.countDown();
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.food.ordering.system.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OutboxPollerTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final int RETRY_BATCH_SIZE = 1;
+
+    private final Deque<List<Message>> startedPages = new ArrayDeque<>();
+    private final Deque<List<Message>> retryPages = new ArrayDeque<>();
+    private final List<Integer> retryLimits = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, OutboxStatus> flushed = new ConcurrentHashMap<>();
+    private final OutboxPoller<Message, String> outboxPoller = new OutboxPoller<>(
+        "test",
+        OutboxPollerSettings.builder()
+            .pageSize(PAGE_SIZE)
+            .retryBatchSize(RETRY_BATCH_SIZE)
+            .publishLanes(2)
+            .build(),
+        limit -> startedPages.isEmpty() ? List.of() : startedPages.poll(),
+        limit -> {
+            retryLimits.add(limit);
+            return retryPages.isEmpty() ? List.of() : retryPages.poll();
+        },
+        Message::key,
+        Message::sagaId,
+        (message, completion) -> completion.accept(message, message.outboxStatus()),
+        (outboxStatus, keys) -> keys.forEach(key -> flushed.put(key, outboxStatus)),
+        OutboxMetrics.NOOP);
+
+    @AfterEach
+    public void close() throws InterruptedException {
+        outboxPoller.close();
+    }
+
+    @Test
+    public void testRetryableRowsAreClaimedOnEveryPoll() {
+        startedPages.add(messages("started-a", 2, OutboxStatus.COMPLETED));
+        startedPages.add(messages("started-b", 2, OutboxStatus.COMPLETED));
+        startedPages.add(messages("started-c", 1, OutboxStatus.COMPLETED));
+        retryPages.add(messages("retry", 1, OutboxStatus.COMPLETED));
+
+        int published = outboxPoller.poll();
+
+        assertEquals(6, published);
+        assertEquals(List.of(RETRY_BATCH_SIZE), retryLimits);
+        assertEquals(OutboxStatus.COMPLETED, flushed.get("retry-0"));
+        assertEquals(0, outboxPoller.poll());
+        assertEquals(List.of(RETRY_BATCH_SIZE, RETRY_BATCH_SIZE), retryLimits);
+    }
+
+    @Test
+    public void testPublishFlushesAcksAndNotifiesListener() {
+        List<Message> messages = new ArrayList<>(messages("redrive", 2, OutboxStatus.COMPLETED));
+        messages.addAll(messages("failed", 1, OutboxStatus.FAILED));
+        Map<String, OutboxStatus> listened = new ConcurrentHashMap<>();
+
+        boolean drained = outboxPoller.publish(messages,
+                                               (message, outboxStatus) -> listened.put(message.key(), outboxStatus));
+
+        assertTrue(drained);
+        assertEquals(Map.of("redrive-0", OutboxStatus.COMPLETED,
+                            "redrive-1", OutboxStatus.COMPLETED,
+                            "failed-0", OutboxStatus.FAILED), flushed);
+        assertEquals(flushed, listened);
+    }
+
+    private static List<Message> messages(String prefix, int count, OutboxStatus outboxStatus) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new Message(prefix + "-" + i, UUID.randomUUID(), outboxStatus))
+            .toList();
+    }
+
+    private record Message(String key, UUID sagaId, OutboxStatus outboxStatus) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.food.ordering.system.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OutboxPublishPipelineTest {
+
+    private final OutboxPublishPipeline<Message> outboxPublishPipeline =
+        new OutboxPublishPipeline<>("test", 4, 16, Duration.ofSeconds(5));
+
+    @AfterEach
+    public void close() throws InterruptedException {
+        outboxPublishPipeline.close();
+    }
+
+    @Test
+    public void testMessagesOfOneSagaArePublishedInOrder() {
+        List<UUID> sagaIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<Message> messages = new ArrayList<>();
+        for (int sequence = 0; sequence < 60; sequence++) {
+            messages.add(new Message(sagaIds.get(sequence % sagaIds.size()), sequence));
+        }
+        Map<UUID, List<Integer>> published = new ConcurrentHashMap<>();
+        Map<Message, OutboxStatus> acknowledged = new ConcurrentHashMap<>();
+
+        boolean drained = outboxPublishPipeline.publish(messages,
+                                                        Message::sagaId,
+                                                        (message, completion) -> {
+                                                            published.computeIfAbsent(message.sagaId(), sagaId ->
+                                                                Collections.synchronizedList(new ArrayList<>()))
+                                                                .add(message.sequence());
+                                                            completion.accept(message, OutboxStatus.COMPLETED);
+                                                        },
+                                                        acknowledged::put);
+
+        assertTrue(drained);
+        assertEquals(messages.size(), acknowledged.size());
+        for (UUID sagaId : sagaIds) {
+            assertEquals(messages.stream()
+                             .filter(message -> message.sagaId().equals(sagaId))
+                             .map(Message::sequence)
+                             .toList(),
+                         published.get(sagaId));
+        }
+    }
+
+    @Test
+    public void testFailedSendIsAcknowledgedAsFailed() {
+        Message message = new Message(UUID.randomUUID(), 0);
+        Map<Message, OutboxStatus> acknowledged = new ConcurrentHashMap<>();
+
+        boolean drained = outboxPublishPipeline.publish(List.of(message),
+                                                        Message::sagaId,
+                                                        (failing, completion) -> {
+                                                            throw new IllegalStateException("broker unavailable");
+                                                        },
+                                                        acknowledged::put);
+
+        assertTrue(drained);
+        assertEquals(Map.of(message, OutboxStatus.FAILED), acknowledged);
+    }
+
+    @Test
+    public void testPublishReturnsAfterDrainTimeoutWhenSendsDoNotComplete() throws InterruptedException {
+        try (OutboxPublishPipeline<Message> pipeline =
+                 new OutboxPublishPipeline<>("timeout", 1, 1, Duration.ofMillis(100))) {
+            long start = System.nanoTime();
+
+            boolean drained = pipeline.publish(List.of(new Message(UUID.randomUUID(), 0)),
+                                               Message::sagaId,
+                                               (message, completion) -> {
+                                               },
+                                               (message, outboxStatus) -> {
+                                               });
+
+            assertFalse(drained);
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        }
+    }
+
+    private record Message(UUID sagaId, int sequence) {
+    }
+}
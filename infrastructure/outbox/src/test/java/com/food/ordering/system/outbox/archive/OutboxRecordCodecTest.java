@@ -0,0 +1,104 @@
+package com.food.ordering.system.outbox.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OutboxRecordCodecTest {
+
+    @Test
+    public void testRecordWithEveryFieldRoundTrips() throws IOException {
+        OutboxRecord outboxRecord = OutboxRecord.builder()
+            .id(UUID.randomUUID())
+            .sagaId(UUID.randomUUID())
+            .createdAt(ZonedDateTime.of(2026, 10, 17, 8, 30, 15, 123_456_789, ZoneOffset.UTC))
+            .processedAt(ZonedDateTime.of(2026, 10, 17, 8, 30, 16, 0, ZoneOffset.UTC))
+            .type("OrderProcessingSaga")
+            .payload("{\"orderId\":\"1\"}")
+            .payloadFormat(OutboxPayloadFormat.AVRO)
+            .payloadBytes(new byte[]{0, 0, 0, 0, 7, 42})
+            .schemaId(7)
+            .outboxStatus(OutboxStatus.COMPLETED)
+            .status("saga_status", "SUCCEEDED")
+            .status("order_status", "APPROVED")
+            .version(3)
+            .build();
+
+        OutboxRecord decoded = roundTrip(outboxRecord);
+
+        assertEquals(outboxRecord.getId(), decoded.getId());
+        assertEquals(outboxRecord.getSagaId(), decoded.getSagaId());
+        assertEquals(outboxRecord.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(outboxRecord.getProcessedAt(), decoded.getProcessedAt());
+        assertEquals(outboxRecord.getType(), decoded.getType());
+        assertEquals(outboxRecord.getPayload(), decoded.getPayload());
+        assertEquals(outboxRecord.getPayloadFormat(), decoded.getPayloadFormat());
+        assertArrayEquals(outboxRecord.getPayloadBytes(), decoded.getPayloadBytes());
+        assertEquals(outboxRecord.getSchemaId(), decoded.getSchemaId());
+        assertEquals(outboxRecord.getOutboxStatus(), decoded.getOutboxStatus());
+        assertEquals(outboxRecord.getStatuses(), decoded.getStatuses());
+        assertEquals(outboxRecord.getVersion(), decoded.getVersion());
+    }
+
+    @Test
+    public void testRecordWithoutOptionalFieldsRoundTrips() throws IOException {
+        OutboxRecord outboxRecord = OutboxRecord.builder()
+            .id(UUID.randomUUID())
+            .sagaId(UUID.randomUUID())
+            .createdAt(ZonedDateTime.of(2026, 10, 17, 8, 30, 15, 0, ZoneOffset.UTC))
+            .type("OrderProcessingSaga")
+            .outboxStatus(OutboxStatus.PARKED)
+            .build();
+
+        OutboxRecord decoded = roundTrip(outboxRecord);
+
+        assertNull(decoded.getProcessedAt());
+        assertNull(decoded.getPayload());
+        assertNull(decoded.getPayloadBytes());
+        assertNull(decoded.getSchemaId());
+        assertEquals(OutboxPayloadFormat.JSON, decoded.getPayloadFormat());
+        assertEquals(outboxRecord.getStatuses(), decoded.getStatuses());
+    }
+
+    @Test
+    public void testTruncatedRecordIsRejected() throws IOException {
+        byte[] encoded = encode(OutboxRecord.builder()
+                                    .id(UUID.randomUUID())
+                                    .sagaId(UUID.randomUUID())
+                                    .createdAt(ZonedDateTime.now(ZoneOffset.UTC))
+                                    .type("OrderProcessingSaga")
+                                    .outboxStatus(OutboxStatus.COMPLETED)
+                                    .build());
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThrows(EOFException.class, () ->
+            OutboxRecordCodec.decode(new DataInputStream(new ByteArrayInputStream(truncated))));
+    }
+
+    private static OutboxRecord roundTrip(OutboxRecord outboxRecord) throws IOException {
+        return OutboxRecordCodec.decode(new DataInputStream(new ByteArrayInputStream(encode(outboxRecord))));
+    }
+
+    private static byte[] encode(OutboxRecord outboxRecord) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        OutboxRecordCodec.encode(outboxRecord, new DataOutputStream(encoded));
+        return encoded.toByteArray();
+    }
+}
@@ -0,0 +1,102 @@
+package com.food.ordering.system.outbox.archive;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OutboxSegmentArchiveTest {
+
+    private static final ZonedDateTime CREATED_AT = ZonedDateTime.of(2026, 10, 17, 8, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testRecordsOfOneSagaAreFoundAcrossBlocksAndSegments() throws IOException {
+        UUID sagaId = UUID.randomUUID();
+        List<OutboxRecord> outboxRecords = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            outboxRecords.add(outboxRecord(i % 2 == 0 ? sagaId : UUID.randomUUID(), i));
+        }
+
+        try (OutboxSegmentArchive archive = new OutboxSegmentArchive(directory, "payment-outbox", 1, 3)) {
+            archive.append(outboxRecords.subList(0, 5));
+            archive.append(outboxRecords.subList(5, 10));
+
+            assertEquals(outboxRecords.stream()
+                             .filter(outboxRecord -> outboxRecord.getSagaId().equals(sagaId))
+                             .map(OutboxRecord::getId)
+                             .toList(),
+                         archive.findBySagaId(sagaId).stream().map(OutboxRecord::getId).toList());
+        }
+        assertTrue(segments().size() > 1);
+    }
+
+    @Test
+    public void testArchiveReopensAfterExistingSegments() throws IOException {
+        UUID sagaId = UUID.randomUUID();
+        try (OutboxSegmentArchive archive = new OutboxSegmentArchive(directory, "payment-outbox", 1 << 20, 100)) {
+            archive.append(List.of(outboxRecord(sagaId, 0)));
+        }
+        try (OutboxSegmentArchive archive = new OutboxSegmentArchive(directory, "payment-outbox", 1 << 20, 100)) {
+            archive.append(List.of(outboxRecord(sagaId, 1)));
+
+            assertEquals(2, archive.findBySagaId(sagaId).size());
+        }
+        assertEquals(2, segments().size());
+    }
+
+    @Test
+    public void testTruncatedSegmentIsReportedInsteadOfReadPartially() throws IOException {
+        UUID sagaId = UUID.randomUUID();
+        try (OutboxSegmentArchive archive = new OutboxSegmentArchive(directory, "payment-outbox", 1 << 20, 100)) {
+            archive.append(List.of(outboxRecord(sagaId, 0), outboxRecord(sagaId, 1)));
+        }
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 4);
+        }
+
+        try (OutboxSegmentArchive archive = new OutboxSegmentArchive(directory, "payment-outbox", 1 << 20, 100)) {
+            assertThrows(EOFException.class, () -> archive.findBySagaId(sagaId));
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private static OutboxRecord outboxRecord(UUID sagaId, int sequence) {
+        return OutboxRecord.builder()
+            .id(UUID.randomUUID())
+            .sagaId(sagaId)
+            .createdAt(CREATED_AT.plusSeconds(sequence))
+            .processedAt(CREATED_AT.plusSeconds(sequence + 1))
+            .type("OrderProcessingSaga")
+            .payload("{\"sequence\":" + sequence + "}")
+            .outboxStatus(OutboxStatus.COMPLETED)
+            .status("saga_status", "SUCCEEDED")
+            .version(1)
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.food.ordering.system.outbox.jdbc;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class AdvisoryLockShardCoordinatorPostgresTest {
+
+    private static final int SHARD_COUNT = 8;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+
+    private AdvisoryLockShardCoordinator first;
+    private AdvisoryLockShardCoordinator second;
+
+    @BeforeEach
+    public void init() {
+        DataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                                                            POSTGRES.getUsername(),
+                                                            POSTGRES.getPassword());
+        first = new AdvisoryLockShardCoordinator(dataSource, "payment-outbox", SHARD_COUNT);
+        second = new AdvisoryLockShardCoordinator(dataSource, "payment-outbox", SHARD_COUNT);
+    }
+
+    @AfterEach
+    public void close() {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void testMembersSplitShardsWithoutOverlap() {
+        assertEquals(SHARD_COUNT, first.rebalance().size());
+        // The joining member finds every shard locked until the first member gives up its excess.
+        assertTrue(second.rebalance().isEmpty());
+
+        Set<Integer> ownedByFirst = first.rebalance();
+        Set<Integer> ownedBySecond = second.rebalance();
+
+        assertEquals(SHARD_COUNT / 2, ownedByFirst.size());
+        assertEquals(SHARD_COUNT / 2, ownedBySecond.size());
+        Set<Integer> owned = new HashSet<>(ownedByFirst);
+        owned.addAll(ownedBySecond);
+        assertEquals(SHARD_COUNT, owned.size());
+    }
+
+    @Test
+    public void testShardsOfAClosedMemberAreTakenOver() {
+        first.rebalance();
+        second.rebalance();
+        first.rebalance();
+        second.rebalance();
+
+        first.close();
+
+        assertEquals(SHARD_COUNT, second.rebalance().size());
+    }
+}
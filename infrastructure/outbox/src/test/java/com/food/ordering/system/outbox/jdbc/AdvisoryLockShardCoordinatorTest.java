@@ -0,0 +1,107 @@
+package com.food.ordering.system.outbox.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AdvisoryLockShardCoordinatorTest {
+
+    private static final int SHARD_COUNT = 8;
+
+    private final Set<Integer> lockedByOthers = new HashSet<>();
+    private final Set<Integer> unlocked = new HashSet<>();
+    private int members = 1;
+    private boolean sessionLost;
+
+    private Connection connection;
+    private AdvisoryLockShardCoordinator coordinator;
+
+    @BeforeEach
+    public void init() throws SQLException {
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> statement(invocation.getArgument(0)));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        coordinator = new AdvisoryLockShardCoordinator(dataSource, "payment-outbox", SHARD_COUNT);
+    }
+
+    @Test
+    public void testSingleMemberOwnsEveryShard() {
+        assertEquals(Set.of(0, 1, 2, 3, 4, 5, 6, 7), coordinator.rebalance());
+    }
+
+    @Test
+    public void testExcessShardsAreReleasedWhenMembersJoin() {
+        coordinator.rebalance();
+        members = 3;
+
+        Set<Integer> owned = coordinator.rebalance();
+
+        assertEquals(3, owned.size());
+        assertEquals(5, unlocked.size());
+        assertTrue(unlocked.stream().noneMatch(owned::contains));
+    }
+
+    @Test
+    public void testShardsLockedByOtherMembersAreSkipped() {
+        members = 2;
+        lockedByOthers.addAll(Set.of(0, 1, 2, 3, 4));
+
+        assertEquals(Set.of(5, 6, 7), coordinator.rebalance());
+    }
+
+    @Test
+    public void testLostSessionReleasesEveryShard() throws SQLException {
+        coordinator.rebalance();
+        sessionLost = true;
+
+        assertEquals(Set.of(), coordinator.rebalance());
+        verify(connection).close();
+    }
+
+    private PreparedStatement statement(String sql) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        int[] key = new int[1];
+        doAnswer(invocation -> {
+            if (invocation.<Integer>getArgument(0) == 2) {
+                key[0] = invocation.getArgument(1);
+            }
+            return null;
+        }).when(statement).setInt(anyInt(), anyInt());
+        when(statement.executeQuery()).thenAnswer(invocation -> resultSet(sql, key[0]));
+        return statement;
+    }
+
+    private ResultSet resultSet(String sql, int key) throws SQLException {
+        if (sessionLost) {
+            throw new SQLException("terminating connection due to administrator command");
+        }
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(members);
+        if (sql.contains("pg_try_advisory_lock")) {
+            when(resultSet.getBoolean(1)).thenReturn(!lockedByOthers.contains(key));
+        } else if (sql.contains("pg_advisory_unlock")) {
+            unlocked.add(key);
+            when(resultSet.getBoolean(1)).thenReturn(true);
+        }
+        return resultSet;
+    }
+}
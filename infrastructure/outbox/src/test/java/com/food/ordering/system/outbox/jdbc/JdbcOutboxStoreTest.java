@@ -0,0 +1,289 @@
+package com.food.ordering.system.outbox.jdbc;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRecordMapper;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class JdbcOutboxStoreTest {
+
+    private static final String TYPE = "OrderProcessingSaga";
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private static final OutboxStatusColumn SAGA_STATUS = OutboxStatusColumn.of("saga_status", "saga_status");
+
+    private static final OutboxTable TEST_OUTBOX = OutboxTable.builder()
+        .name("test_outbox")
+        .statusColumn(SAGA_STATUS)
+        .filterColumn(SAGA_STATUS)
+        .partitioned(true)
+        .build();
+
+    private static final OutboxRecordMapper<OutboxRecord> OUTBOX_RECORD_MAPPER = new OutboxRecordMapper<>() {
+        @Override
+        public OutboxRecord toOutboxRecord(OutboxRecord outboxMessage) {
+            return outboxMessage;
+        }
+
+        @Override
+        public OutboxRecord fromOutboxRecord(OutboxRecord outboxRecord) {
+            return outboxRecord;
+        }
+    };
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine")
+        .withUrlParam("stringtype", "unspecified")
+        .withInitScript("outbox-schema.sql");
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcOutboxStore<OutboxRecord> outboxStore;
+
+    @BeforeEach
+    public void init() {
+        DataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                                                            POSTGRES.getUsername(),
+                                                            POSTGRES.getPassword());
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.getJdbcTemplate().update("TRUNCATE test_outbox");
+        outboxStore = new JdbcOutboxStore<>(jdbcTemplate, TEST_OUTBOX, OUTBOX_RECORD_MAPPER);
+    }
+
+    @Test
+    public void testConcurrentClaimersSkipLockedRows() {
+        List<UUID> ids = ids(saveStarted(4));
+
+        List<UUID> claimedByFirst = new ArrayList<>();
+        List<UUID> claimedBySecond = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            claimedByFirst.addAll(ids(outboxStore.claim(TYPE, OutboxStatus.STARTED, "instance-a", LEASE, 2,
+                                                        SagaStatus.STARTED)));
+            // The first claim is still uncommitted, so its rows are only kept from the second claimer by the lock.
+            claimedBySecond.addAll(CompletableFuture
+                                       .supplyAsync(() -> ids(outboxStore.claim(TYPE, OutboxStatus.STARTED,
+                                                                                "instance-b", LEASE, 4,
+                                                                                SagaStatus.STARTED)))
+                                       .orTimeout(10, TimeUnit.SECONDS)
+                                       .join());
+        });
+
+        assertEquals(2, claimedByFirst.size());
+        assertEquals(2, claimedBySecond.size());
+        Set<UUID> claimed = new HashSet<>(claimedByFirst);
+        claimed.addAll(claimedBySecond);
+        assertEquals(Set.copyOf(ids), claimed);
+        assertTrue(outboxStore.claim(TYPE, OutboxStatus.STARTED, "instance-c", LEASE, 4, SagaStatus.STARTED)
+                       .isEmpty());
+    }
+
+    @Test
+    public void testExpiredLeaseIsReclaimed() {
+        List<UUID> ids = ids(saveStarted(2));
+        assertEquals(2, outboxStore.claim(TYPE, OutboxStatus.STARTED, "instance-a", LEASE, 10, SagaStatus.STARTED)
+            .size());
+        assertTrue(outboxStore.claim(TYPE, OutboxStatus.STARTED, "instance-b", LEASE, 10, SagaStatus.STARTED)
+                       .isEmpty());
+
+        jdbcTemplate.getJdbcTemplate().update("UPDATE test_outbox SET lease_until = now() - INTERVAL '1 second'");
+
+        List<OutboxRecord> reclaimed =
+            outboxStore.claim(TYPE, OutboxStatus.STARTED, "instance-b", LEASE, 10, SagaStatus.STARTED);
+        assertEquals(Set.copyOf(ids), Set.copyOf(ids(reclaimed)));
+        assertEquals(List.of("instance-b"), jdbcTemplate.getJdbcTemplate()
+            .queryForList("SELECT DISTINCT claimed_by FROM test_outbox", String.class));
+    }
+
+    @Test
+    public void testRowIsParkedAtMaxAttempts() {
+        UUID id = saveStarted(1).get(0).getId();
+        OutboxRetryPolicy retryPolicy = OutboxRetryPolicy.of(2, Duration.ZERO, Duration.ZERO, 0);
+
+        assertTrue(outboxStore.scheduleRetryByIds(List.of(id), retryPolicy).isEmpty());
+        assertEquals(OutboxStatus.FAILED, outboxStatus(id));
+        assertEquals(List.of(id), ids(outboxStore.claimRetryable(TYPE, LEASE, 10, SagaStatus.STARTED)));
+        // A claimed retry is pushed out by the lease, so a second claimer does not publish it again.
+        assertTrue(outboxStore.claimRetryable(TYPE, LEASE, 10, SagaStatus.STARTED).isEmpty());
+
+        assertEquals(List.of(id), outboxStore.scheduleRetryByIds(List.of(id), retryPolicy));
+        assertEquals(OutboxStatus.PARKED, outboxStatus(id));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT attempt_count FROM test_outbox WHERE id = :id",
+                                                    new MapSqlParameterSource("id", id),
+                                                    Integer.class));
+        jdbcTemplate.getJdbcTemplate().update("UPDATE test_outbox SET next_attempt_at = now() - INTERVAL '1 second'");
+        assertTrue(outboxStore.claimRetryable(TYPE, LEASE, 10, SagaStatus.STARTED).isEmpty());
+    }
+
+    @Test
+    public void testStaleVersionIsRejected() {
+        OutboxRecord outboxRecord = saveStarted(1).get(0);
+        OutboxRecord processing = withSagaStatus(outboxRecord, "PROCESSING", outboxRecord.getVersion());
+        OutboxRecord compensating = withSagaStatus(outboxRecord, "COMPENSATING", outboxRecord.getVersion());
+
+        assertTrue(outboxStore.updateByIdAndVersion(processing));
+        assertFalse(outboxStore.updateByIdAndVersion(compensating));
+        assertFalse(outboxStore.updateAllByIdAndVersion(List.of(compensating)));
+
+        OutboxRecord stored = outboxStore.findBySagaId(TYPE, outboxRecord.getSagaId(), SagaStatus.PROCESSING)
+            .orElseThrow();
+        assertEquals(outboxRecord.getVersion() + 1, stored.getVersion());
+        assertTrue(outboxStore.updateByIdAndVersion(withSagaStatus(stored, "COMPENSATING", stored.getVersion())));
+    }
+
+    @Test
+    public void testKeysetPagesVisitEveryRowOnce() {
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+        // Rows sharing a created_at are ordered by id, so a page boundary between them neither repeats nor skips.
+        List<OutboxRecord> outboxRecords = new ArrayList<>(IntStream.range(0, 3)
+                                                               .mapToObj(i -> outboxRecord(createdAt))
+                                                               .toList());
+        outboxRecords.add(outboxRecord(createdAt.plusSeconds(1)));
+        outboxRecords.add(outboxRecord(createdAt.plusSeconds(2)));
+        outboxStore.saveAll(outboxRecords);
+        outboxStore.save(withOutboxStatus(outboxRecord(createdAt), OutboxStatus.COMPLETED));
+        outboxStore.save(withSagaStatus(outboxRecord(createdAt), "PROCESSING", 0));
+
+        List<UUID> paged = new ArrayList<>();
+        OutboxCursor cursor = null;
+        List<OutboxRecord> page;
+        do {
+            page = outboxStore.findPage(TYPE, OutboxStatus.STARTED, cursor, 2, SagaStatus.STARTED);
+            paged.addAll(ids(page));
+            if (!page.isEmpty()) {
+                OutboxRecord last = page.get(page.size() - 1);
+                cursor = OutboxCursor.of(last.getCreatedAt(), last.getId());
+            }
+        } while (page.size() == 2);
+
+        assertEquals(ids(outboxStore.findPage(TYPE, OutboxStatus.STARTED, null, 10, SagaStatus.STARTED)), paged);
+        assertEquals(Set.copyOf(ids(outboxRecords)), Set.copyOf(paged));
+        assertEquals(outboxRecords.size(), paged.size());
+    }
+
+    @Test
+    public void testAckUpdatesOnlyTheGivenRows() {
+        List<OutboxRecord> outboxRecords = saveStarted(4);
+
+        assertEquals(2, outboxStore.updateOutboxStatusByIds(OutboxStatus.COMPLETED,
+                                                            ids(outboxRecords.subList(0, 2))));
+        assertEquals(1, outboxStore.updateOutboxStatusByKeys(OutboxStatus.FAILED,
+                                                             List.of(OutboxCursor.of(
+                                                                 outboxRecords.get(2).getCreatedAt(),
+                                                                 outboxRecords.get(2).getId()))));
+
+        assertEquals(OutboxStatus.COMPLETED, outboxStatus(outboxRecords.get(0).getId()));
+        assertEquals(OutboxStatus.COMPLETED, outboxStatus(outboxRecords.get(1).getId()));
+        assertEquals(OutboxStatus.FAILED, outboxStatus(outboxRecords.get(2).getId()));
+        assertEquals(OutboxStatus.STARTED, outboxStatus(outboxRecords.get(3).getId()));
+    }
+
+    @Test
+    public void testShardClaimsSplitRowsBySaga() {
+        List<UUID> ids = ids(saveStarted(16));
+
+        List<UUID> shardZero = ids(outboxStore.claimShard(TYPE, OutboxStatus.STARTED, "instance-a", LEASE, 16,
+                                                          2, Set.of(0), SagaStatus.STARTED));
+        List<UUID> shardOne = ids(outboxStore.claimShard(TYPE, OutboxStatus.STARTED, "instance-b", LEASE, 16,
+                                                         2, Set.of(1), SagaStatus.STARTED));
+
+        assertTrue(shardZero.stream().noneMatch(shardOne::contains));
+        assertEquals(ids.size(), shardZero.size() + shardOne.size());
+    }
+
+    private List<OutboxRecord> saveStarted(int count) {
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+        List<OutboxRecord> outboxRecords = IntStream.range(0, count)
+            .mapToObj(i -> outboxRecord(createdAt.plus(i, ChronoUnit.MILLIS)))
+            .toList();
+        outboxStore.saveAll(outboxRecords);
+        return outboxRecords;
+    }
+
+    private OutboxStatus outboxStatus(UUID id) {
+        return OutboxStatus.valueOf(jdbcTemplate.queryForObject("SELECT outbox_status FROM test_outbox WHERE id = :id",
+                                                                new MapSqlParameterSource("id", id),
+                                                                String.class));
+    }
+
+    private static OutboxRecord outboxRecord(ZonedDateTime createdAt) {
+        return OutboxRecord.builder()
+            .id(UUID.randomUUID())
+            .sagaId(UUID.randomUUID())
+            .createdAt(createdAt)
+            .type(TYPE)
+            .payload("{}")
+            .outboxStatus(OutboxStatus.STARTED)
+            .status(SAGA_STATUS.getName(), SagaStatus.STARTED.name())
+            .version(0)
+            .build();
+    }
+
+    private static OutboxRecord withSagaStatus(OutboxRecord outboxRecord, String sagaStatus, int version) {
+        return OutboxRecord.builder()
+            .id(outboxRecord.getId())
+            .sagaId(outboxRecord.getSagaId())
+            .createdAt(outboxRecord.getCreatedAt())
+            .processedAt(ZonedDateTime.now(ZoneOffset.UTC))
+            .type(outboxRecord.getType())
+            .payload(outboxRecord.getPayload())
+            .outboxStatus(outboxRecord.getOutboxStatus())
+            .status(SAGA_STATUS.getName(), sagaStatus)
+            .version(version)
+            .build();
+    }
+
+    private static OutboxRecord withOutboxStatus(OutboxRecord outboxRecord, OutboxStatus outboxStatus) {
+        return OutboxRecord.builder()
+            .id(outboxRecord.getId())
+            .sagaId(outboxRecord.getSagaId())
+            .createdAt(outboxRecord.getCreatedAt())
+            .type(outboxRecord.getType())
+            .payload(outboxRecord.getPayload())
+            .outboxStatus(outboxStatus)
+            .statuses(outboxRecord.getStatuses())
+            .version(outboxRecord.getVersion())
+            .build();
+    }
+
+    private static List<UUID> ids(List<OutboxRecord> outboxRecords) {
+        return outboxRecords.stream().map(OutboxRecord::getId).toList();
+    }
+
+    // The outbox module does not depend on the saga module, the filter only needs the enum constant names.
+    private enum SagaStatus {
+        STARTED,
+        PROCESSING
+    }
+}
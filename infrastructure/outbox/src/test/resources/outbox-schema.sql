@@ -0,0 +1,22 @@
+CREATE TYPE saga_status AS ENUM ('STARTED','FAILED','SUCCEEDED','PROCESSING','COMPENSATING','COMPENSATED');
+CREATE TYPE outbox_status AS ENUM ('STARTED','FAILED','COMPLETED','PARKED');
+
+CREATE TABLE test_outbox
+(
+    id              uuid                     NOT NULL,
+    saga_id         uuid                     NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at    TIMESTAMP WITH TIME ZONE,
+    type            character varying        NOT NULL,
+    payload         jsonb,
+    outbox_status   outbox_status            NOT NULL,
+    saga_status     saga_status              NOT NULL,
+    version         INTEGER                  NOT NULL,
+    claimed_by      character varying,
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    attempt_count   INTEGER DEFAULT 0        NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT test_outbox_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE test_outbox_default PARTITION OF test_outbox DEFAULT;
@@ -0,0 +1,61 @@
+package com.food.ordering.system.saga;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class SagaDefinition<S extends Enum<S>> {
+
+    private final String name;
+    private final SagaStatus[] sagaStatuses;
+
+    private SagaDefinition(String name, SagaStatus[] sagaStatuses) {
+        this.name = name;
+        this.sagaStatuses = sagaStatuses;
+    }
+
+    public static <S extends Enum<S>> Builder<S> builder(String name, Class<S> stateType) {
+        return new Builder<>(name, stateType);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SagaStatus getSagaStatus(S state) {
+        return sagaStatuses[state.ordinal()];
+    }
+
+    public static final class Builder<S extends Enum<S>> {
+
+        private final String name;
+        private final Class<S> stateType;
+        private final Map<S, SagaStatus> sagaStatuses;
+
+        private Builder(String name, Class<S> stateType) {
+            this.name = name;
+            this.stateType = stateType;
+            this.sagaStatuses = new EnumMap<>(stateType);
+        }
+
+        public Builder<S> state(S state, SagaStatus sagaStatus) {
+            if (sagaStatuses.putIfAbsent(state, sagaStatus) != null) {
+                throw new IllegalStateException(
+                    String.format("Saga %s already maps state %s to %s", name, state, sagaStatuses.get(state)));
+            }
+            return this;
+        }
+
+        public SagaDefinition<S> build() {
+            S[] states = stateType.getEnumConstants();
+            SagaStatus[] table = new SagaStatus[states.length];
+            for (S state : states) {
+                table[state.ordinal()] = sagaStatuses.get(state);
+                if (table[state.ordinal()] == null) {
+                    throw new IllegalStateException(
+                        String.format("Saga %s has no saga status for state %s", name, state));
+                }
+            }
+            return new SagaDefinition<>(name, table);
+        }
+    }
+}
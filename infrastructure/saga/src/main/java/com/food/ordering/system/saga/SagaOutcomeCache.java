@@ -0,0 +1,84 @@
+package com.food.ordering.system.saga;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class SagaOutcomeCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Map<Key, Long> expirations = new ConcurrentHashMap<>();
+    // With a fixed ttl insertion order is also expiration order, so the oldest entry is always at the head.
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SagaOutcomeCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    public SagaOutcomeCache(int maxSize, Duration ttl, LongSupplier ticker) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    public boolean contains(UUID sagaId, String step, Enum<?> status) {
+        Long expiresAt = expirations.get(new Key(sagaId, step, status.name()));
+        if (expiresAt != null && expiresAt - ticker.getAsLong() > 0) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    public void put(UUID sagaId, String step, Enum<?> status) {
+        Key key = new Key(sagaId, step, status.name());
+        long expiresAt = ticker.getAsLong() + ttlNanos;
+        expirations.put(key, expiresAt);
+        insertionOrder.add(new Entry(key, expiresAt));
+        evict(ticker.getAsLong());
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return expirations.size();
+    }
+
+    private void evict(long now) {
+        Entry head;
+        while ((head = insertionOrder.peek()) != null
+            && (expirations.size() > maxSize || head.expiresAt() - now <= 0 || isStale(head))) {
+            if (insertionOrder.remove(head)) {
+                // A refreshed key has a newer entry further back in the queue and keeps its mapping.
+                expirations.remove(head.key(), head.expiresAt());
+            }
+        }
+    }
+
+    private boolean isStale(Entry entry) {
+        Long expiresAt = expirations.get(entry.key());
+        return expiresAt == null || expiresAt != entry.expiresAt();
+    }
+
+    private record Key(UUID sagaId, String step, String status) {
+    }
+
+    private record Entry(Key key, long expiresAt) {
+    }
+}
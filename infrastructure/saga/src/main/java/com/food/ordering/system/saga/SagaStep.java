@@ -1,7 +1,17 @@
 package com.food.ordering.system.saga;
 
+import java.util.List;
+
 public interface SagaStep<T> {
     void process(T data);
 
     void rollback(T data);
+
+    default void processAll(List<T> data) {
+        data.forEach(this::process);
+    }
+
+    default void rollbackAll(List<T> data) {
+        data.forEach(this::rollback);
+    }
 }
@@ -0,0 +1,90 @@
+package com.food.ordering.system.saga;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+public final class SagaStepDefinition<E extends Enum<E>> {
+
+    private final String name;
+    // Indexed by response status ordinal, the arrays are shared and must not be modified by callers.
+    private final SagaStatus[][] expectedSagaStatuses;
+    private final int[] expectedSagaStatusMasks;
+    private final SagaStatus[] allExpectedSagaStatuses;
+
+    private SagaStepDefinition(String name,
+                               SagaStatus[][] expectedSagaStatuses,
+                               int[] expectedSagaStatusMasks,
+                               SagaStatus[] allExpectedSagaStatuses) {
+        this.name = name;
+        this.expectedSagaStatuses = expectedSagaStatuses;
+        this.expectedSagaStatusMasks = expectedSagaStatusMasks;
+        this.allExpectedSagaStatuses = allExpectedSagaStatuses;
+    }
+
+    public static <E extends Enum<E>> Builder<E> builder(String name, Class<E> responseStatusType) {
+        return new Builder<>(name, responseStatusType);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SagaStatus[] getExpectedSagaStatuses(E responseStatus) {
+        return expectedSagaStatuses[responseStatus.ordinal()];
+    }
+
+    public SagaStatus[] getAllExpectedSagaStatuses() {
+        return allExpectedSagaStatuses;
+    }
+
+    public boolean isExpected(E responseStatus, SagaStatus sagaStatus) {
+        return (expectedSagaStatusMasks[responseStatus.ordinal()] & (1 << sagaStatus.ordinal())) != 0;
+    }
+
+    public static final class Builder<E extends Enum<E>> {
+
+        private final String name;
+        private final Class<E> responseStatusType;
+        private final Map<E, Set<SagaStatus>> expectedSagaStatuses;
+
+        private Builder(String name, Class<E> responseStatusType) {
+            this.name = name;
+            this.responseStatusType = responseStatusType;
+            this.expectedSagaStatuses = new EnumMap<>(responseStatusType);
+        }
+
+        public Builder<E> on(E responseStatus, SagaStatus expectedSagaStatus, SagaStatus... expectedSagaStatuses) {
+            if (this.expectedSagaStatuses.containsKey(responseStatus)) {
+                throw new IllegalStateException(
+                    String.format("Saga step %s already defines response status %s", name, responseStatus));
+            }
+            this.expectedSagaStatuses.put(responseStatus, EnumSet.of(expectedSagaStatus, expectedSagaStatuses));
+            return this;
+        }
+
+        public SagaStepDefinition<E> build() {
+            E[] responseStatuses = responseStatusType.getEnumConstants();
+            SagaStatus[][] statusTable = new SagaStatus[responseStatuses.length][];
+            int[] maskTable = new int[responseStatuses.length];
+            Set<SagaStatus> allExpectedSagaStatuses = EnumSet.noneOf(SagaStatus.class);
+            for (E responseStatus : responseStatuses) {
+                Set<SagaStatus> sagaStatuses = expectedSagaStatuses.get(responseStatus);
+                if (sagaStatuses == null) {
+                    throw new IllegalStateException(
+                        String.format("Saga step %s has no transition for response status %s", name, responseStatus));
+                }
+                statusTable[responseStatus.ordinal()] = sagaStatuses.toArray(SagaStatus[]::new);
+                for (SagaStatus sagaStatus : sagaStatuses) {
+                    maskTable[responseStatus.ordinal()] |= 1 << sagaStatus.ordinal();
+                }
+                allExpectedSagaStatuses.addAll(sagaStatuses);
+            }
+            return new SagaStepDefinition<>(name,
+                                            statusTable,
+                                            maskTable,
+                                            allExpectedSagaStatuses.toArray(SagaStatus[]::new));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.food.ordering.system.saga;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class SagaStepExecutor<T, E extends Enum<E>, I> {
+
+    private final SagaStepDefinition<E> stepDefinition;
+    private final Function<T, E> responseStatus;
+    private final Function<T, UUID> sagaId;
+    private final BiFunction<UUID, SagaStatus[], Optional<I>> sagaInstanceLookup;
+    private final Consumer<I> sagaInstanceUpdate;
+
+    public SagaStepExecutor(SagaStepDefinition<E> stepDefinition,
+                            Function<T, E> responseStatus,
+                            Function<T, UUID> sagaId,
+                            BiFunction<UUID, SagaStatus[], Optional<I>> sagaInstanceLookup,
+                            Consumer<I> sagaInstanceUpdate) {
+        this.stepDefinition = stepDefinition;
+        this.responseStatus = responseStatus;
+        this.sagaId = sagaId;
+        this.sagaInstanceLookup = sagaInstanceLookup;
+        this.sagaInstanceUpdate = sagaInstanceUpdate;
+    }
+
+    public SagaStepDefinition<E> getStepDefinition() {
+        return stepDefinition;
+    }
+
+    // Returns false when no saga instance is waiting for the response, i.e. the step was already processed.
+    public boolean execute(T response, BiFunction<T, I, I> transition) {
+        Optional<I> sagaInstance = sagaInstanceLookup.apply(
+            sagaId.apply(response),
+            stepDefinition.getExpectedSagaStatuses(responseStatus.apply(response)));
+        if (sagaInstance.isEmpty()) {
+            return false;
+        }
+        sagaInstanceUpdate.accept(transition.apply(response, sagaInstance.get()));
+        return true;
+    }
+}
@@ -0,0 +1,7 @@
+package com.food.ordering.system.saga;
+
+public enum SagaStepOutcome {
+    APPLIED,
+    ALREADY_PROCESSED,
+    ORDER_STATE_MISMATCH
+}
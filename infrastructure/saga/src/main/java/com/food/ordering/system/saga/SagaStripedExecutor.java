@@ -0,0 +1,84 @@
+package com.food.ordering.system.saga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SagaStripedExecutor implements AutoCloseable {
+
+    private final String name;
+    private final ExecutorService[] stripes;
+
+    public SagaStripedExecutor(String name, int stripeCount) {
+        this.name = name;
+        this.stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            String stripeName = name + "-stripe-" + i;
+            stripes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, stripeName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public <T> void execute(List<T> messages, Function<T, UUID> stripeKeyExtractor, Consumer<List<T>> handler) {
+        List<List<T>> stripedMessages = new ArrayList<>(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            stripedMessages.add(new ArrayList<>());
+        }
+        messages.forEach(message -> stripedMessages.get(stripeOf(stripeKeyExtractor.apply(message))).add(message));
+
+        List<Future<?>> pending = new ArrayList<>(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            List<T> stripe = stripedMessages.get(i);
+            if (!stripe.isEmpty()) {
+                pending.add(stripes[i].submit(() -> handler.accept(stripe)));
+            }
+        }
+        // Every stripe is awaited before failing, so a redelivered batch never overlaps with one still running.
+        RuntimeException failure = null;
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("{} could not process a stripe of {} messages", name, messages.size(), e.getCause());
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(name + " was interrupted while waiting for its stripes", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private int stripeOf(UUID stripeKey) {
+        return Math.floorMod(stripeKey.hashCode(), stripes.length);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ExecutorService stripe : stripes) {
+            stripe.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
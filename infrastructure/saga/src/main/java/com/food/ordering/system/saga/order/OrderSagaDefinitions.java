@@ -0,0 +1,38 @@
+package com.food.ordering.system.saga.order;
+
+import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.saga.SagaDefinition;
+import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.saga.SagaStepDefinition;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OrderSagaDefinitions {
+
+    public static final SagaDefinition<OrderStatus> ORDER_SAGA = SagaDefinition
+        .builder(ORDER_SAGA_NAME, OrderStatus.class)
+        .state(OrderStatus.PENDING, SagaStatus.STARTED)
+        .state(OrderStatus.PAID, SagaStatus.PROCESSING)
+        .state(OrderStatus.APPROVED, SagaStatus.SUCCEEDED)
+        .state(OrderStatus.CANCELLING, SagaStatus.COMPENSATING)
+        .state(OrderStatus.CANCELLED, SagaStatus.COMPENSATED)
+        .build();
+
+    public static final SagaStepDefinition<PaymentStatus> PAYMENT_STEP = SagaStepDefinition
+        .builder("payment", PaymentStatus.class)
+        .on(PaymentStatus.COMPLETED, SagaStatus.STARTED)
+        .on(PaymentStatus.CANCELLED, SagaStatus.COMPENSATING)
+        .on(PaymentStatus.FAILED, SagaStatus.STARTED, SagaStatus.COMPENSATING)
+        .build();
+
+    public static final SagaStepDefinition<OrderApprovalStatus> APPROVAL_STEP = SagaStepDefinition
+        .builder("restaurant-approval", OrderApprovalStatus.class)
+        .on(OrderApprovalStatus.APPROVED, SagaStatus.PROCESSING)
+        .on(OrderApprovalStatus.REJECTED, SagaStatus.PROCESSING)
+        .build();
+}
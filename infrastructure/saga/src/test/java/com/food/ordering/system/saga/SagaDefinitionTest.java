@@ -0,0 +1,44 @@
+package com.food.ordering.system.saga;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SagaDefinitionTest {
+
+    private enum State {
+        OPEN, CLOSED
+    }
+
+    @Test
+    public void testStateWithoutSagaStatusIsRejected() {
+        SagaDefinition.Builder<State> builder = SagaDefinition.builder("test", State.class)
+            .state(State.OPEN, SagaStatus.STARTED);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void testStateMappedTwiceIsRejected() {
+        SagaDefinition.Builder<State> builder = SagaDefinition.builder("test", State.class)
+            .state(State.OPEN, SagaStatus.STARTED);
+
+        assertThrows(IllegalStateException.class, () -> builder.state(State.OPEN, SagaStatus.PROCESSING));
+    }
+
+    @Test
+    public void testResponseStatusWithoutTransitionIsRejected() {
+        SagaStepDefinition.Builder<State> builder = SagaStepDefinition.builder("test", State.class)
+            .on(State.OPEN, SagaStatus.STARTED);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void testResponseStatusDefinedTwiceIsRejected() {
+        SagaStepDefinition.Builder<State> builder = SagaStepDefinition.builder("test", State.class)
+            .on(State.OPEN, SagaStatus.STARTED);
+
+        assertThrows(IllegalStateException.class, () -> builder.on(State.OPEN, SagaStatus.COMPENSATING));
+    }
+}
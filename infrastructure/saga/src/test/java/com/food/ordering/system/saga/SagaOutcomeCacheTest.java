@@ -0,0 +1,73 @@
+package com.food.ordering.system.saga;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SagaOutcomeCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void testOutcomeIsCachedPerStepAndStatus() {
+        SagaOutcomeCache sagaOutcomeCache = new SagaOutcomeCache(10, Duration.ofMinutes(1), now::get);
+        UUID sagaId = UUID.randomUUID();
+
+        sagaOutcomeCache.put(sagaId, "payment", SagaStatus.SUCCEEDED);
+
+        assertTrue(sagaOutcomeCache.contains(sagaId, "payment", SagaStatus.SUCCEEDED));
+        assertFalse(sagaOutcomeCache.contains(sagaId, "payment", SagaStatus.FAILED));
+        assertFalse(sagaOutcomeCache.contains(sagaId, "restaurant-approval", SagaStatus.SUCCEEDED));
+        assertEquals(1, sagaOutcomeCache.hitCount());
+        assertEquals(2, sagaOutcomeCache.missCount());
+    }
+
+    @Test
+    public void testOutcomeExpiresAfterTtl() {
+        SagaOutcomeCache sagaOutcomeCache = new SagaOutcomeCache(10, Duration.ofSeconds(1), now::get);
+        UUID sagaId = UUID.randomUUID();
+        sagaOutcomeCache.put(sagaId, "payment", SagaStatus.SUCCEEDED);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertFalse(sagaOutcomeCache.contains(sagaId, "payment", SagaStatus.SUCCEEDED));
+        sagaOutcomeCache.put(UUID.randomUUID(), "payment", SagaStatus.SUCCEEDED);
+        assertEquals(1, sagaOutcomeCache.size());
+    }
+
+    @Test
+    public void testOldestOutcomeIsEvictedAboveMaxSize() {
+        SagaOutcomeCache sagaOutcomeCache = new SagaOutcomeCache(2, Duration.ofMinutes(1), now::get);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        sagaOutcomeCache.put(first, "payment", SagaStatus.SUCCEEDED);
+        sagaOutcomeCache.put(second, "payment", SagaStatus.SUCCEEDED);
+        sagaOutcomeCache.put(third, "payment", SagaStatus.SUCCEEDED);
+
+        assertEquals(2, sagaOutcomeCache.size());
+        assertFalse(sagaOutcomeCache.contains(first, "payment", SagaStatus.SUCCEEDED));
+        assertTrue(sagaOutcomeCache.contains(third, "payment", SagaStatus.SUCCEEDED));
+    }
+
+    @Test
+    public void testRefreshedOutcomeOutlivesItsFirstEntry() {
+        SagaOutcomeCache sagaOutcomeCache = new SagaOutcomeCache(10, Duration.ofSeconds(2), now::get);
+        UUID sagaId = UUID.randomUUID();
+        sagaOutcomeCache.put(sagaId, "payment", SagaStatus.SUCCEEDED);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        sagaOutcomeCache.put(sagaId, "payment", SagaStatus.SUCCEEDED);
+        now.addAndGet(Duration.ofMillis(1500).toNanos());
+        sagaOutcomeCache.put(UUID.randomUUID(), "payment", SagaStatus.SUCCEEDED);
+
+        assertTrue(sagaOutcomeCache.contains(sagaId, "payment", SagaStatus.SUCCEEDED));
+    }
+}
@@ -0,0 +1,71 @@
+package com.food.ordering.system.saga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SagaStepExecutorTest {
+
+    private enum ResponseStatus {
+        COMPLETED, FAILED
+    }
+
+    private static final SagaStepDefinition<ResponseStatus> STEP = SagaStepDefinition
+        .builder("test", ResponseStatus.class)
+        .on(ResponseStatus.COMPLETED, SagaStatus.STARTED)
+        .on(ResponseStatus.FAILED, SagaStatus.STARTED, SagaStatus.COMPENSATING)
+        .build();
+
+    private final List<Instance> updated = new ArrayList<>();
+
+    @Test
+    public void testResponseIsAppliedToAnInstanceInAnExpectedStatus() {
+        Instance instance = new Instance(UUID.randomUUID(), SagaStatus.STARTED);
+
+        boolean applied = executor(instance).execute(new Response(instance.sagaId(), ResponseStatus.COMPLETED),
+                                                     (response, current) -> current.moveTo(SagaStatus.PROCESSING));
+
+        assertTrue(applied);
+        assertEquals(List.of(new Instance(instance.sagaId(), SagaStatus.PROCESSING)), updated);
+    }
+
+    @Test
+    public void testResponseForAnInstanceInAnotherStatusIsRejected() {
+        Instance instance = new Instance(UUID.randomUUID(), SagaStatus.COMPENSATING);
+
+        boolean applied = executor(instance).execute(new Response(instance.sagaId(), ResponseStatus.COMPLETED),
+                                                     (response, current) -> current.moveTo(SagaStatus.PROCESSING));
+
+        assertFalse(applied);
+        assertTrue(updated.isEmpty());
+    }
+
+    private SagaStepExecutor<Response, ResponseStatus, Instance> executor(Instance instance) {
+        return new SagaStepExecutor<>(STEP,
+                                      Response::status,
+                                      Response::sagaId,
+                                      (sagaId, sagaStatuses) -> Optional.of(instance)
+                                          .filter(current -> current.sagaId().equals(sagaId))
+                                          .filter(current -> Arrays.asList(sagaStatuses)
+                                              .contains(current.sagaStatus())),
+                                      updated::add);
+    }
+
+    private record Response(UUID sagaId, ResponseStatus status) {
+    }
+
+    private record Instance(UUID sagaId, SagaStatus sagaStatus) {
+
+        Instance moveTo(SagaStatus next) {
+            return new Instance(sagaId, next);
+        }
+    }
+}
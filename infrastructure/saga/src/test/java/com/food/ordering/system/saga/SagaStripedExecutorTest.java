@@ -0,0 +1,98 @@
+package com.food.ordering.system.saga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SagaStripedExecutorTest {
+
+    private static final int STRIPE_COUNT = 4;
+
+    private final SagaStripedExecutor sagaStripedExecutor = new SagaStripedExecutor("test", STRIPE_COUNT);
+
+    @AfterEach
+    public void close() throws InterruptedException {
+        sagaStripedExecutor.close();
+    }
+
+    @Test
+    public void testMessagesOfOneKeyKeepTheirOrder() {
+        List<UUID> keys = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<Message> messages = new ArrayList<>();
+        for (int sequence = 0; sequence < 100; sequence++) {
+            messages.add(new Message(keys.get(sequence % keys.size()), sequence));
+        }
+        Map<UUID, List<Integer>> handled = new ConcurrentHashMap<>();
+
+        sagaStripedExecutor.execute(messages, Message::key, stripe -> stripe.forEach(message ->
+            handled.computeIfAbsent(message.key(), key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(message.sequence())));
+
+        for (UUID key : keys) {
+            List<Integer> expected = messages.stream()
+                .filter(message -> message.key().equals(key))
+                .map(Message::sequence)
+                .toList();
+            assertEquals(expected, handled.get(key));
+        }
+    }
+
+    @Test
+    public void testFailingStripeIsRethrownAfterEveryStripeFinished() {
+        UUID failingKey = UUID.randomUUID();
+        UUID slowKey = keyOnAnotherStripe(failingKey);
+        IllegalStateException failure = new IllegalStateException("stripe failed");
+        CountDownLatch failed = new CountDownLatch(1);
+        AtomicBoolean slowFinished = new AtomicBoolean();
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+            sagaStripedExecutor.execute(List.of(new Message(failingKey, 0), new Message(slowKey, 1)),
+                                        Message::key,
+                                        stripe -> {
+                                            if (stripe.get(0).key().equals(failingKey)) {
+                                                failed.countDown();
+                                                throw failure;
+                                            }
+                                            await(failed);
+                                            slowFinished.set(true);
+                                        }));
+
+        // The listener throwing is what keeps the container from committing the batch offsets.
+        assertSame(failure, thrown);
+        assertTrue(slowFinished.get());
+    }
+
+    private static UUID keyOnAnotherStripe(UUID key) {
+        UUID other;
+        do {
+            other = UUID.randomUUID();
+        } while (Math.floorMod(other.hashCode(), STRIPE_COUNT) == Math.floorMod(key.hashCode(), STRIPE_COUNT));
+        return other;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Message(UUID key, int sequence) {
+    }
+}
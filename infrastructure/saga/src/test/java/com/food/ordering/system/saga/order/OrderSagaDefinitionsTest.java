@@ -0,0 +1,68 @@
+package com.food.ordering.system.saga.order;
+
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.APPROVAL_STEP;
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.ORDER_SAGA;
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.PAYMENT_STEP;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.saga.SagaStepDefinition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OrderSagaDefinitionsTest {
+
+    @Test
+    public void testOrderStatusesMapToSagaStatuses() {
+        Map<OrderStatus, SagaStatus> expected = Map.of(OrderStatus.PENDING, SagaStatus.STARTED,
+                                                       OrderStatus.PAID, SagaStatus.PROCESSING,
+                                                       OrderStatus.APPROVED, SagaStatus.SUCCEEDED,
+                                                       OrderStatus.CANCELLING, SagaStatus.COMPENSATING,
+                                                       OrderStatus.CANCELLED, SagaStatus.COMPENSATED);
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            assertEquals(expected.get(orderStatus), ORDER_SAGA.getSagaStatus(orderStatus), orderStatus.name());
+        }
+    }
+
+    @Test
+    public void testPaymentStepTransitions() {
+        assertTransitions(PAYMENT_STEP,
+                          Map.of(PaymentStatus.COMPLETED, EnumSet.of(SagaStatus.STARTED),
+                                 PaymentStatus.CANCELLED, EnumSet.of(SagaStatus.COMPENSATING),
+                                 PaymentStatus.FAILED, EnumSet.of(SagaStatus.STARTED, SagaStatus.COMPENSATING)),
+                          PaymentStatus.values());
+        assertEquals(EnumSet.of(SagaStatus.STARTED, SagaStatus.COMPENSATING),
+                     Set.of(PAYMENT_STEP.getAllExpectedSagaStatuses()));
+    }
+
+    @Test
+    public void testApprovalStepTransitions() {
+        assertTransitions(APPROVAL_STEP,
+                          Map.of(OrderApprovalStatus.APPROVED, EnumSet.of(SagaStatus.PROCESSING),
+                                 OrderApprovalStatus.REJECTED, EnumSet.of(SagaStatus.PROCESSING)),
+                          OrderApprovalStatus.values());
+        assertEquals(EnumSet.of(SagaStatus.PROCESSING), Set.of(APPROVAL_STEP.getAllExpectedSagaStatuses()));
+    }
+
+    private static <E extends Enum<E>> void assertTransitions(SagaStepDefinition<E> step,
+                                                              Map<E, Set<SagaStatus>> expected,
+                                                              E[] responseStatuses) {
+        for (E responseStatus : responseStatuses) {
+            Set<SagaStatus> expectedSagaStatuses = expected.get(responseStatus);
+            assertEquals(expectedSagaStatuses, Set.of(step.getExpectedSagaStatuses(responseStatus)));
+            // Every saga status outside the table is rejected for the response.
+            for (SagaStatus sagaStatus : SagaStatus.values()) {
+                assertEquals(expectedSagaStatuses.contains(sagaStatus),
+                             step.isExpected(responseStatus, sagaStatus),
+                             responseStatus + " in " + sagaStatus);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.application.rest;
+
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveCommand;
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.SagaRedriveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/sagas/redrive", produces = "application/vnd.api.v1+json")
+public class SagaRedriveController {
+
+    private final SagaRedriveService sagaRedriveService;
+
+    public SagaRedriveController(SagaRedriveService sagaRedriveService) {
+        this.sagaRedriveService = sagaRedriveService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SagaRedriveResponse> redriveSagas(@RequestBody SagaRedriveCommand sagaRedriveCommand) {
+        log.info("Re-driving {} sagas created from: {} to: {} at restaurant: {}", sagaRedriveCommand.getSagaStatus(),
+                sagaRedriveCommand.getCreatedFrom(), sagaRedriveCommand.getCreatedTo(),
+                sagaRedriveCommand.getRestaurantId());
+        SagaRedriveResponse sagaRedriveResponse = sagaRedriveService.redriveSagas(sagaRedriveCommand);
+        log.info("Saga re-drive started with id: {}", sagaRedriveResponse.getRedriveId());
+        return ResponseEntity.accepted().body(sagaRedriveResponse);
+    }
+
+    @GetMapping
+    public ResponseEntity<SagaRedriveResponse> getSagaRedrive() {
+        return sagaRedriveService.getSagaRedrive()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -64,53 +64,167 @@ ALTER TABLE "order".order_address
 DROP TYPE IF EXISTS saga_status;
 CREATE TYPE saga_status AS ENUM ('STARTED','FAILED','SUCCEEDED','PROCESSING','COMPENSATING','COMPENSATED');
 DROP TYPE IF EXISTS outbox_status;
-CREATE TYPE outbox_status AS ENUM ('STARTED','FAILED','COMPLETED');
+CREATE TYPE outbox_status AS ENUM ('STARTED','FAILED','COMPLETED','PARKED');
+DROP TYPE IF EXISTS outbox_payload_format;
+CREATE TYPE outbox_payload_format AS ENUM ('JSON','AVRO');
 
-DROP TABLE IF EXISTS "order".payment_outbox CASCADE;
+DROP TABLE IF EXISTS "order".saga_instance CASCADE;
 
-CREATE TABLE "order".payment_outbox
+CREATE TABLE "order".saga_instance
 (
-    id            uuid                                           NOT NULL,
     saga_id       uuid                                           NOT NULL,
-    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
-    processed_at  TIMESTAMP WITH TIME ZONE,
     type          character varying COLLATE pg_catalog."default" NOT NULL,
-    payload       jsonb                                          NOT NULL,
-    outbox_status outbox_status                                  NOT NULL,
+    order_id      uuid                                           NOT NULL,
+    step          character varying COLLATE pg_catalog."default" NOT NULL,
     saga_status   saga_status                                    NOT NULL,
     order_status  order_status                                   NOT NULL,
-    version       INTEGER                                        not null,
-    CONSTRAINT payment_outbox_pkey PRIMARY KEY (id)
+    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at  TIMESTAMP WITH TIME ZONE,
+    version       INTEGER                                        NOT NULL,
+    saga_deadline TIMESTAMP WITH TIME ZONE,
+    redrive_count INTEGER DEFAULT 0                              NOT NULL,
+    payment_requested_at  TIMESTAMP WITH TIME ZONE,
+    payment_responded_at  TIMESTAMP WITH TIME ZONE,
+    approval_requested_at TIMESTAMP WITH TIME ZONE,
+    approval_responded_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT saga_instance_pkey PRIMARY KEY (saga_id)
 );
 
+CREATE INDEX "saga_instance_saga_deadline"
+    ON "order".saga_instance (type, saga_deadline)
+    WHERE saga_deadline IS NOT NULL;
+
+
+DROP TABLE IF EXISTS "order".payment_outbox CASCADE;
+
+CREATE TABLE "order".payment_outbox
+(
+    id              uuid                                           NOT NULL,
+    saga_id         uuid                                           NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at    TIMESTAMP WITH TIME ZONE,
+    type            character varying COLLATE pg_catalog."default" NOT NULL,
+    payload         jsonb,
+    payload_format  outbox_payload_format                          NOT NULL,
+    payload_bytes   bytea,
+    schema_id       INTEGER,
+    outbox_status   outbox_status                                  NOT NULL,
+    saga_status     saga_status                                    NOT NULL,
+    order_status    order_status                                   NOT NULL,
+    version         INTEGER                                        not null,
+    claimed_by      character varying COLLATE pg_catalog."default",
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    attempt_count   INTEGER DEFAULT 0                              NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT payment_outbox_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
 CREATE INDEX "payment_outbox_saga_status"
-    ON "order".payment_outbox (type, outbox_status, saga_status);
+    ON "order".payment_outbox (type, outbox_status, saga_status, created_at, id);
 
-CREATE UNIQUE INDEX "payment_outbox_saga_id"
+-- Not unique as a partitioned unique index must include created_at, a saga step writes its outbox row
+-- in the same transaction as the saga_instance version check, which keeps it to one row.
+CREATE INDEX "payment_outbox_saga_id"
     ON "order".payment_outbox (type, saga_id, saga_status);
 
+CREATE INDEX "payment_outbox_retry"
+    ON "order".payment_outbox (type, next_attempt_at)
+    WHERE outbox_status = 'FAILED';
+
+CREATE TABLE "order".payment_outbox_default PARTITION OF "order".payment_outbox DEFAULT;
+
 
 DROP TABLE IF EXISTS "order".restaurant_approval_outbox CASCADE;
 
 CREATE TABLE "order".restaurant_approval_outbox
 (
-    id            uuid                                           NOT NULL,
-    saga_id       uuid                                           NOT NULL,
-    created_at    TIMESTAMP WITH TIME ZONE                       NOT NULL,
-    processed_at  TIMESTAMP WITH TIME ZONE,
-    type          character varying COLLATE pg_catalog."default" NOT NULL,
-    payload       jsonb                                          NOT NULL,
-    outbox_status outbox_status                                  NOT NULL,
-    saga_status   saga_status                                    NOT NULL,
-    order_status  order_status                                   NOT NULL,
-    version       INTEGER                                        not null,
-    CONSTRAINT restaurant_approval_outbox_pkey PRIMARY KEY (id)
-);
+    id              uuid                                           NOT NULL,
+    saga_id         uuid                                           NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at    TIMESTAMP WITH TIME ZONE,
+    type            character varying COLLATE pg_catalog."default" NOT NULL,
+    payload         jsonb,
+    payload_format  outbox_payload_format                          NOT NULL,
+    payload_bytes   bytea,
+    schema_id       INTEGER,
+    outbox_status   outbox_status                                  NOT NULL,
+    saga_status     saga_status                                    NOT NULL,
+    order_status    order_status                                   NOT NULL,
+    version         INTEGER                                        not null,
+    claimed_by      character varying COLLATE pg_catalog."default",
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    attempt_count   INTEGER DEFAULT 0                              NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT restaurant_approval_outbox_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
 
 
 CREATE INDEX "restaurant_approval_outbox_saga_status"
-    ON "order".restaurant_approval_outbox (type, outbox_status, saga_status);
+    ON "order".restaurant_approval_outbox (type, outbox_status, saga_status, created_at, id);
 
-CREATE UNIQUE INDEX "restaurant_approval_outbox_saga_id"
+CREATE INDEX "restaurant_approval_outbox_saga_id"
     ON "order".restaurant_approval_outbox (type, saga_id, saga_status);
 
+CREATE INDEX "restaurant_approval_outbox_retry"
+    ON "order".restaurant_approval_outbox (type, next_attempt_at)
+    WHERE outbox_status = 'FAILED';
+
+CREATE TABLE "order".restaurant_approval_outbox_default PARTITION OF "order".restaurant_approval_outbox DEFAULT;
+
+
+CREATE OR REPLACE FUNCTION "order".create_outbox_partition(parent_table text, partition_day date)
+    RETURNS text
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    partition_table text := parent_table || '_p' || to_char(partition_day, 'YYYYMMDD');
+    default_rows    boolean;
+BEGIN
+    IF to_regclass(format('"order".%I', partition_table)) IS NULL THEN
+        -- Rows that already fell into the default partition for this day would block the new partition.
+        EXECUTE format('SELECT EXISTS(SELECT 1 FROM "order".%I WHERE created_at >= $1 AND created_at < $2)',
+                       parent_table || '_default')
+            INTO default_rows
+            USING partition_day::timestamp AT TIME ZONE 'UTC', (partition_day + 1)::timestamp AT TIME ZONE 'UTC';
+        IF default_rows THEN
+            RETURN NULL;
+        END IF;
+    END IF;
+    EXECUTE format('CREATE TABLE IF NOT EXISTS "order".%I PARTITION OF "order".%I FOR VALUES FROM (%L) TO (%L)',
+                   partition_table,
+                   parent_table,
+                   partition_day::timestamp AT TIME ZONE 'UTC',
+                   (partition_day + 1)::timestamp AT TIME ZONE 'UTC');
+    RETURN partition_table;
+END;
+$$;
+
+SELECT "order".create_outbox_partition(parent_table, partition_day::date)
+FROM unnest(ARRAY ['payment_outbox', 'restaurant_approval_outbox']) AS parent_table,
+     generate_series(current_date - 1, current_date + 3, INTERVAL '1 day') AS partition_day;
+
+CREATE OR REPLACE FUNCTION "order".notify_outbox_insert()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    PERFORM pg_notify(TG_ARGV[0], '');
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER payment_outbox_notify
+    AFTER INSERT
+    ON "order".payment_outbox
+    FOR EACH ROW
+    WHEN (NEW.outbox_status = 'STARTED')
+EXECUTE PROCEDURE "order".notify_outbox_insert('payment_outbox');
+
+CREATE TRIGGER restaurant_approval_outbox_notify
+    AFTER INSERT
+    ON "order".restaurant_approval_outbox
+    FOR EACH ROW
+    WHEN (NEW.outbox_status = 'STARTED')
+EXECUTE PROCEDURE "order".notify_outbox_insert('restaurant_approval_outbox');
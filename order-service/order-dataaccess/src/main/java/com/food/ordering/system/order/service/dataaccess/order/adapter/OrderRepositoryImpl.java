@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
@@ -39,4 +41,15 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findById(orderId.getValue())
             .map(orderDataAccessMapper::orderEntityToOrder);
     }
+
+    @Override
+    public List<Order> findAllById(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderJpaRepository.findAllWithItemsByIdIn(orderIds.stream().map(OrderId::getValue).toList())
+            .stream()
+            .map(orderDataAccessMapper::orderEntityToOrder)
+            .toList();
+    }
 }
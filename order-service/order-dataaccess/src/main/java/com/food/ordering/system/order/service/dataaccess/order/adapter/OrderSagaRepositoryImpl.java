@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderSagaJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaStepResult;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderSagaRepositoryImpl implements OrderSagaRepository {
+
+    private final OrderSagaJdbcRepository orderSagaJdbcRepository;
+    private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+    private final OrderDataAccessMapper orderDataAccessMapper;
+
+    @Override
+    public OrderSagaStepResult payOrder(OrderId orderId,
+                                        ZonedDateTime processedAt,
+                                        ZonedDateTime respondedAt,
+                                        SagaStatus sagaStatus,
+                                        String step,
+                                        OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        return orderSagaJdbcRepository.payOrder(
+            orderId.getValue(),
+            processedAt,
+            respondedAt,
+            sagaStatus,
+            step,
+            approvalOutboxDataAccessMapper.orderApprovalOutboxMessageToOutboxEntity(orderApprovalOutboxMessage));
+    }
+
+    @Override
+    public OrderSagaStepResult approveOrder(String type,
+                                            UUID sagaId,
+                                            OrderId orderId,
+                                            ZonedDateTime processedAt,
+                                            ZonedDateTime respondedAt,
+                                            SagaStatus sagaStatus) {
+        return orderSagaJdbcRepository.approveOrder(type,
+                                                    sagaId,
+                                                    orderId.getValue(),
+                                                    processedAt,
+                                                    respondedAt,
+                                                    sagaStatus);
+    }
+
+    @Override
+    public boolean updateOrderStatuses(List<Order> orders) {
+        return orders.isEmpty() || orderSagaJdbcRepository.updateOrderStatuses(
+            orders.stream().map(orderDataAccessMapper::orderToOrderEntity).toList());
+    }
+}
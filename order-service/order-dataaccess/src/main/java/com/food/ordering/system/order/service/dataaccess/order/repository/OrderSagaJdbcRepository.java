@@ -0,0 +1,237 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaStepResult;
+import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.saga.SagaStepOutcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderSagaJdbcRepository {
+
+    private static final String PAY_ORDER = """
+        WITH saga_started AS (
+            SELECT saga_id, created_at, payment_requested_at
+            FROM saga_instance
+            WHERE type = :type
+              AND saga_id = :sagaId
+              AND saga_status = 'STARTED'
+        ), paid_order AS (
+            UPDATE orders
+            SET order_status = 'PAID'
+            WHERE id = :orderId
+              AND order_status = 'PENDING'
+              AND EXISTS (SELECT 1 FROM saga_started)
+            RETURNING id, restaurant_id, price
+        ), saga_updated AS (
+            UPDATE saga_instance s
+            SET step          = :step,
+                saga_status   = CAST(:sagaStatus AS saga_status),
+                order_status  = 'PAID',
+                processed_at  = :processedAt,
+                version       = s.version + 1,
+                saga_deadline = now() + CAST(:sagaTimeoutMillis AS bigint) * INTERVAL '1 millisecond',
+                redrive_count = 0,
+                payment_responded_at = :respondedAt
+            FROM saga_started ss
+            WHERE s.saga_id = ss.saga_id
+              AND EXISTS (SELECT 1 FROM paid_order)
+            RETURNING s.saga_id
+        ), approval_outbox_inserted AS (
+            INSERT INTO restaurant_approval_outbox (id, saga_id, created_at, type, payload, payload_format,
+                                                    outbox_status, saga_status, order_status, version)
+            SELECT :approvalOutboxId,
+                   :sagaId,
+                   :createdAt,
+                   :type,
+                   CAST(:payload AS jsonb) || jsonb_build_object(
+                       'restaurantId', o.restaurant_id,
+                       'price', o.price,
+                       'products', (SELECT coalesce(jsonb_agg(jsonb_build_object('id', i.product_id,
+                                                                                 'quantity', i.quantity)
+                                                              ORDER BY i.id), '[]'::jsonb)
+                                    FROM order_items i
+                                    WHERE i.order_id = o.id)),
+                   'JSON',
+                   CAST(:outboxStatus AS outbox_status),
+                   CAST(:approvalSagaStatus AS saga_status),
+                   'PAID',
+                   0
+            FROM paid_order o
+            RETURNING id
+        )
+        SELECT (SELECT count(*) FROM saga_started)              AS saga_matched,
+               (SELECT count(*) FROM paid_order)                AS orders_updated,
+               (SELECT created_at FROM saga_started)            AS saga_created_at,
+               (SELECT payment_requested_at FROM saga_started)  AS requested_at
+        """;
+
+    private static final String APPROVE_ORDER = """
+        WITH saga_processing AS (
+            SELECT saga_id, created_at, approval_requested_at
+            FROM saga_instance
+            WHERE type = :type
+              AND saga_id = :sagaId
+              AND saga_status = 'PROCESSING'
+        ), approved_order AS (
+            UPDATE orders
+            SET order_status = 'APPROVED'
+            WHERE id = :orderId
+              AND order_status = 'PAID'
+              AND EXISTS (SELECT 1 FROM saga_processing)
+            RETURNING id
+        ), saga_updated AS (
+            UPDATE saga_instance s
+            SET saga_status   = CAST(:sagaStatus AS saga_status),
+                order_status  = 'APPROVED',
+                processed_at  = :processedAt,
+                version       = s.version + 1,
+                saga_deadline = NULL,
+                approval_responded_at = :respondedAt
+            FROM saga_processing sp
+            WHERE s.saga_id = sp.saga_id
+              AND EXISTS (SELECT 1 FROM approved_order)
+            RETURNING s.saga_id
+        )
+        SELECT (SELECT count(*) FROM saga_processing)               AS saga_matched,
+               (SELECT count(*) FROM approved_order)                AS orders_updated,
+               (SELECT created_at FROM saga_processing)             AS saga_created_at,
+               (SELECT approval_requested_at FROM saga_processing)  AS requested_at
+        """;
+
+    private static final String FIND_SAGA_STATUS = """
+        SELECT saga_status
+        FROM saga_instance
+        WHERE type = :type
+          AND saga_id = :sagaId
+        """;
+
+    private static final String UPDATE_ORDER_STATUS = """
+        UPDATE orders
+        SET order_status     = CAST(:orderStatus AS order_status),
+            failure_messages = :failureMessages
+        WHERE id = :id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public OrderSagaStepResult payOrder(UUID orderId,
+                                        ZonedDateTime processedAt,
+                                        ZonedDateTime respondedAt,
+                                        SagaStatus sagaStatus,
+                                        String step,
+                                        ApprovalOutboxEntity approvalOutboxEntity) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("type", approvalOutboxEntity.getType())
+            .addValue("sagaId", approvalOutboxEntity.getSagaId())
+            .addValue("orderId", orderId)
+            .addValue("processedAt", processedAt.toOffsetDateTime())
+            .addValue("respondedAt", toOffsetDateTime(respondedAt))
+            .addValue("sagaStatus", sagaStatus.name())
+            .addValue("step", step)
+            .addValue("approvalOutboxId", approvalOutboxEntity.getId())
+            .addValue("createdAt", approvalOutboxEntity.getCreatedAt().toOffsetDateTime())
+            .addValue("payload", approvalOutboxEntity.getPayload())
+            .addValue("outboxStatus", approvalOutboxEntity.getOutboxStatus().name())
+            .addValue("approvalSagaStatus", approvalOutboxEntity.getSagaStatus().name())
+            .addValue("sagaTimeoutMillis", orderServiceConfigData.getSagaDeadlineTimeout().toMillis());
+        OrderSagaStepResult orderSagaStepResult =
+            jdbcTemplate.queryForObject(PAY_ORDER, parameters, OrderSagaJdbcRepository::mapStepResult);
+        return resolveMismatch(orderSagaStepResult,
+                               approvalOutboxEntity.getType(),
+                               approvalOutboxEntity.getSagaId(),
+                               SagaStatus.STARTED);
+    }
+
+    public OrderSagaStepResult approveOrder(String type,
+                                            UUID sagaId,
+                                            UUID orderId,
+                                            ZonedDateTime processedAt,
+                                            ZonedDateTime respondedAt,
+                                            SagaStatus sagaStatus) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("type", type)
+            .addValue("sagaId", sagaId)
+            .addValue("orderId", orderId)
+            .addValue("processedAt", processedAt.toOffsetDateTime())
+            .addValue("respondedAt", toOffsetDateTime(respondedAt))
+            .addValue("sagaStatus", sagaStatus.name());
+        OrderSagaStepResult orderSagaStepResult =
+            jdbcTemplate.queryForObject(APPROVE_ORDER, parameters, OrderSagaJdbcRepository::mapStepResult);
+        return resolveMismatch(orderSagaStepResult, type, sagaId, SagaStatus.PROCESSING);
+    }
+
+    public boolean updateOrderStatuses(List<OrderEntity> orderEntities) {
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS, orderEntities.stream()
+            .map(orderEntity -> new MapSqlParameterSource()
+                .addValue("id", orderEntity.getId())
+                .addValue("orderStatus", orderEntity.getOrderStatus().name())
+                .addValue("failureMessages", orderEntity.getFailureMessages()))
+            .toArray(SqlParameterSource[]::new));
+        return Arrays.stream(updated).allMatch(count -> count == 1);
+    }
+
+    // The step statements read saga_instance from their snapshot, so a duplicate response racing the first one only
+    // finds the order already moved. Re-reading the saga tells that apart from an order in the wrong state.
+    private OrderSagaStepResult resolveMismatch(OrderSagaStepResult orderSagaStepResult,
+                                                String type,
+                                                UUID sagaId,
+                                                SagaStatus expectedSagaStatus) {
+        if (orderSagaStepResult.getOutcome() != SagaStepOutcome.ORDER_STATE_MISMATCH) {
+            return orderSagaStepResult;
+        }
+        List<String> sagaStatuses = jdbcTemplate.queryForList(FIND_SAGA_STATUS,
+                                                              new MapSqlParameterSource()
+                                                                  .addValue("type", type)
+                                                                  .addValue("sagaId", sagaId),
+                                                              String.class);
+        if (sagaStatuses.contains(expectedSagaStatus.name())) {
+            return orderSagaStepResult;
+        }
+        return OrderSagaStepResult.builder()
+            .outcome(SagaStepOutcome.ALREADY_PROCESSED)
+            .sagaCreatedAt(orderSagaStepResult.getSagaCreatedAt())
+            .requestedAt(orderSagaStepResult.getRequestedAt())
+            .build();
+    }
+
+    private static OrderSagaStepResult mapStepResult(ResultSet rs, int rowNum) throws SQLException {
+        return OrderSagaStepResult.builder()
+            .outcome(toOutcome(rs.getLong("saga_matched"), rs.getLong("orders_updated")))
+            .sagaCreatedAt(toZonedDateTime(rs.getObject("saga_created_at", OffsetDateTime.class)))
+            .requestedAt(toZonedDateTime(rs.getObject("requested_at", OffsetDateTime.class)))
+            .build();
+    }
+
+    private static SagaStepOutcome toOutcome(long sagaMatched, long ordersUpdated) {
+        if (sagaMatched == 0) {
+            return SagaStepOutcome.ALREADY_PROCESSED;
+        }
+        return ordersUpdated == 0 ? SagaStepOutcome.ORDER_STATE_MISMATCH : SagaStepOutcome.APPLIED;
+    }
+
+    private static OffsetDateTime toOffsetDateTime(ZonedDateTime zonedDateTime) {
+        return zonedDateTime == null ? null : zonedDateTime.toOffsetDateTime();
+    }
+
+    private static ZonedDateTime toZonedDateTime(OffsetDateTime offsetDateTime) {
+        return offsetDateTime == null ? null : offsetDateTime.atZoneSameInstant(ZoneOffset.UTC);
+    }
+}
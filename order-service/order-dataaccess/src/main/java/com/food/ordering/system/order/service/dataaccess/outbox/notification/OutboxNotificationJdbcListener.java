@@ -0,0 +1,115 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.notification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.outbox.OutboxNotificationListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order-service", name = "outbox-scheduler-notify-enabled", havingValue = "true")
+public class OutboxNotificationJdbcListener {
+
+    private static final String PAYMENT_OUTBOX_CHANNEL = "payment_outbox";
+    private static final String APPROVAL_OUTBOX_CHANNEL = "restaurant_approval_outbox";
+    private static final int NOTIFICATION_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OutboxNotificationListener outboxNotificationListener;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "outbox-notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        listenerThread.interrupt();
+        listenerThread.join(RECONNECT_DELAY_MILLIS);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openConnection()) {
+                execute(connection, "LISTEN " + PAYMENT_OUTBOX_CHANNEL);
+                execute(connection, "LISTEN " + APPROVAL_OUTBOX_CHANNEL);
+                log.info("Listening for notifications on channels {} and {}",
+                         PAYMENT_OUTBOX_CHANNEL,
+                         APPROVAL_OUTBOX_CHANNEL);
+                try {
+                    // Notifications sent while we were not listening are lost, so drain once on (re)connect.
+                    outboxNotificationListener.paymentOutboxNotified();
+                    outboxNotificationListener.approvalOutboxNotified();
+                    receive(connection.unwrap(PGConnection.class));
+                } finally {
+                    execute(connection, "UNLISTEN *");
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.error("Outbox notification connection failed, reconnecting in {} ms",
+                              RECONNECT_DELAY_MILLIS,
+                              e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    // LISTEN holds its connection for the life of the process, so it is opened outside the Hikari pool.
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                                           dataSourceProperties.determineUsername(),
+                                           dataSourceProperties.determinePassword());
+    }
+
+    private void receive(PGConnection pgConnection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_MILLIS);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                switch (notification.getName()) {
+                    case PAYMENT_OUTBOX_CHANNEL -> outboxNotificationListener.paymentOutboxNotified();
+                    case APPROVAL_OUTBOX_CHANNEL -> outboxNotificationListener.approvalOutboxNotified();
+                    default -> log.warn("Received notification on unexpected channel: {}", notification.getName());
+                }
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
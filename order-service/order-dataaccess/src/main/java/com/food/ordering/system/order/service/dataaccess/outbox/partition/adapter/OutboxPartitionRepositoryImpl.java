@@ -0,0 +1,98 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.partition.adapter;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.partition.repository.OutboxPartitionJdbcRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OutboxPartitionRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPartitionRepositoryImpl implements OutboxPartitionRepository {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("payment_outbox", "restaurant_approval_outbox");
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final OutboxPartitionJdbcRepository outboxPartitionJdbcRepository;
+
+    @Override
+    public List<String> createPartitions(LocalDate from, LocalDate to) {
+        List<String> partitions = new ArrayList<>();
+        for (String parentTable : PARTITIONED_TABLES) {
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                String partition = outboxPartitionJdbcRepository.createPartition(parentTable, day);
+                if (partition == null) {
+                    log.warn("Outbox rows of {} for {} are already in the default partition, not partitioning that day",
+                             parentTable,
+                             day);
+                    continue;
+                }
+                partitions.add(partition);
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    public List<String> dropPartitionsBefore(LocalDate before,
+                                             OutboxStatus outboxStatus,
+                                             SagaStatus... sagaStatuses) {
+        String[] sagaStatusNames = Arrays.stream(sagaStatuses).map(Enum::name).toArray(String[]::new);
+        List<String> dropped = new ArrayList<>();
+        for (String parentTable : PARTITIONED_TABLES) {
+            Pattern partitionPattern = Pattern.compile(Pattern.quote(parentTable) + "_p(\\d{8})");
+            for (String partitionTable : outboxPartitionJdbcRepository.findPartitions(parentTable)) {
+                Matcher matcher = partitionPattern.matcher(partitionTable);
+                if (!matcher.matches()
+                    || !LocalDate.parse(matcher.group(1), PARTITION_SUFFIX_FORMAT).isBefore(before)) {
+                    continue;
+                }
+                if (outboxPartitionJdbcRepository.dropPartitionIfAllRowsIn(parentTable,
+                                                                           partitionTable,
+                                                                           outboxStatus.name(),
+                                                                           sagaStatusNames)) {
+                    dropped.add(partitionTable);
+                } else {
+                    log.warn("Outbox partition {} is past retention but still has unfinished rows, keeping it",
+                             partitionTable);
+                }
+            }
+        }
+        return dropped;
+    }
+
+    @Override
+    public int deleteDefaultPartitionRowsBefore(LocalDate before,
+                                                int batchSize,
+                                                OutboxStatus outboxStatus,
+                                                SagaStatus... sagaStatuses) {
+        String[] sagaStatusNames = Arrays.stream(sagaStatuses).map(Enum::name).toArray(String[]::new);
+        OffsetDateTime createdBefore = before.atStartOfDay().atOffset(ZoneOffset.UTC);
+        int deleted = 0;
+        for (String parentTable : PARTITIONED_TABLES) {
+            int batch;
+            do {
+                batch = outboxPartitionJdbcRepository.deleteDefaultPartitionBatch(parentTable,
+                                                                                  createdBefore,
+                                                                                  outboxStatus.name(),
+                                                                                  sagaStatusNames,
+                                                                                  batchSize);
+                deleted += batch;
+            } while (batch == batchSize);
+        }
+        return deleted;
+    }
+}
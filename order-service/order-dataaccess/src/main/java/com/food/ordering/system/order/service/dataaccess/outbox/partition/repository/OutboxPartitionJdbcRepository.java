@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.partition.repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxPartitionJdbcRepository {
+
+    private static final String CREATE_PARTITION = """
+        SELECT create_outbox_partition(:parentTable, :partitionDay)
+        """;
+
+    private static final String FIND_PARTITIONS = """
+        SELECT child.relname
+        FROM pg_inherits
+                 JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                 JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                 JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+        WHERE parent.relname = :parentTable
+          AND ns.nspname = current_schema()
+        ORDER BY child.relname
+        """;
+
+    private static final String EXISTS_ROW_NOT_IN_STATUS = """
+        SELECT EXISTS(SELECT 1
+                      FROM "%s"
+                      WHERE outbox_status <> CAST(:outboxStatus AS outbox_status)
+                         OR saga_status <> ALL (CAST(:sagaStatuses AS saga_status[])))
+        """;
+
+    private static final String DELETE_DEFAULT_PARTITION_BATCH = """
+        DELETE FROM "%1$s_default"
+        WHERE ctid IN (SELECT ctid
+                       FROM "%1$s_default"
+                       WHERE created_at < :createdBefore
+                         AND outbox_status = CAST(:outboxStatus AS outbox_status)
+                         AND saga_status = ANY (CAST(:sagaStatuses AS saga_status[]))
+                       LIMIT :limit
+                       FOR UPDATE SKIP LOCKED)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public String createPartition(String parentTable, LocalDate partitionDay) {
+        return jdbcTemplate.queryForObject(CREATE_PARTITION,
+                                           new MapSqlParameterSource()
+                                               .addValue("parentTable", parentTable)
+                                               .addValue("partitionDay", partitionDay),
+                                           String.class);
+    }
+
+    public List<String> findPartitions(String parentTable) {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS,
+                                         new MapSqlParameterSource("parentTable", parentTable),
+                                         String.class);
+    }
+
+    @Transactional
+    public boolean dropPartitionIfAllRowsIn(String parentTable,
+                                            String partitionTable,
+                                            String outboxStatus,
+                                            String[] sagaStatuses) {
+        // Held until commit so a redrive cannot reset a row of the partition between the check and the drop.
+        jdbcTemplate.getJdbcTemplate()
+            .execute("LOCK TABLE \"%s\" IN ACCESS EXCLUSIVE MODE".formatted(partitionTable));
+        Boolean hasOtherRows = jdbcTemplate.queryForObject(EXISTS_ROW_NOT_IN_STATUS.formatted(partitionTable),
+                                                           new MapSqlParameterSource()
+                                                               .addValue("outboxStatus", outboxStatus)
+                                                               .addValue("sagaStatuses", sagaStatuses),
+                                                           Boolean.class);
+        if (Boolean.TRUE.equals(hasOtherRows)) {
+            return false;
+        }
+        jdbcTemplate.getJdbcTemplate()
+            .execute("ALTER TABLE \"%s\" DETACH PARTITION \"%s\"".formatted(parentTable, partitionTable));
+        jdbcTemplate.getJdbcTemplate().execute("DROP TABLE \"%s\"".formatted(partitionTable));
+        return true;
+    }
+
+    public int deleteDefaultPartitionBatch(String parentTable,
+                                           OffsetDateTime createdBefore,
+                                           String outboxStatus,
+                                           String[] sagaStatuses,
+                                           int limit) {
+        return jdbcTemplate.update(DELETE_DEFAULT_PARTITION_BATCH.formatted(parentTable),
+                                   new MapSqlParameterSource()
+                                       .addValue("createdBefore", createdBefore)
+                                       .addValue("outboxStatus", outboxStatus)
+                                       .addValue("sagaStatuses", sagaStatuses)
+                                       .addValue("limit", limit));
+    }
+}
@@ -0,0 +1,179 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJdbcRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+
+    private final PaymentOutboxJdbcRepository paymentOutboxJdbcRepository;
+    private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+
+    @Override
+    public OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        paymentOutboxJdbcRepository.save(
+            paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage));
+        return orderPaymentOutboxMessage;
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        if (!orderPaymentOutboxMessages.isEmpty()) {
+            paymentOutboxJdbcRepository.saveAll(
+                paymentOutboxDataAccessMapper.orderPaymentOutboxMessagesToOutboxEntities(orderPaymentOutboxMessages));
+        }
+        return orderPaymentOutboxMessages;
+    }
+
+    @Override
+    public int updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys) {
+        return keys.isEmpty() ? 0 : paymentOutboxJdbcRepository.updateOutboxStatusByKeys(outboxStatus, keys);
+    }
+
+    @Override
+    public List<UUID> scheduleRetryByKeys(List<OutboxCursor> keys, OutboxRetryPolicy retryPolicy) {
+        return keys.isEmpty() ? List.of() : paymentOutboxJdbcRepository.scheduleRetryByKeys(keys, retryPolicy);
+    }
+
+    @Override
+    public Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                            OutboxStatus outboxStatus,
+                                                                                            SagaStatus... sagaStatuses) {
+        return Optional.of(paymentOutboxJdbcRepository
+                               .findByTypeAndOutboxStatusAndSagaStatusIn(type, outboxStatus, Arrays.asList(sagaStatuses))
+                               .stream()
+                               .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                               .toList());
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> findPageByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                      OutboxStatus outboxStatus,
+                                                                                      OutboxCursor after,
+                                                                                      int limit,
+                                                                                      SagaStatus... sagaStatuses) {
+        return paymentOutboxJdbcRepository
+            .findPageByTypeAndOutboxStatusAndSagaStatusIn(type, outboxStatus, after, limit, Arrays.asList(sagaStatuses))
+            .stream()
+            .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> findRedrivePageByType(String type,
+                                                                 SagaRedriveFilter sagaRedriveFilter,
+                                                                 OutboxCursor after,
+                                                                 int limit) {
+        return paymentOutboxJdbcRepository.findRedrivePageByType(type, sagaRedriveFilter, after, limit).stream()
+            .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> claimByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                   OutboxStatus outboxStatus,
+                                                                                   String claimedBy,
+                                                                                   Duration leaseDuration,
+                                                                                   int limit,
+                                                                                   SagaStatus... sagaStatuses) {
+        return paymentOutboxJdbcRepository
+            .claimByTypeAndOutboxStatusAndSagaStatusIn(type,
+                                                       outboxStatus,
+                                                       claimedBy,
+                                                       leaseDuration,
+                                                       limit,
+                                                       Arrays.asList(sagaStatuses))
+            .stream()
+            .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> claimShardByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                        OutboxStatus outboxStatus,
+                                                                                        String claimedBy,
+                                                                                        Duration leaseDuration,
+                                                                                        int limit,
+                                                                                        int shardCount,
+                                                                                        Set<Integer> shards,
+                                                                                        SagaStatus... sagaStatuses) {
+        return paymentOutboxJdbcRepository
+            .claimShardByTypeAndOutboxStatusAndSagaStatusIn(type,
+                                                            outboxStatus,
+                                                            claimedBy,
+                                                            leaseDuration,
+                                                            limit,
+                                                            shardCount,
+                                                            shards,
+                                                            Arrays.asList(sagaStatuses))
+            .stream()
+            .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> claimRetryableByTypeAndSagaStatus(String type,
+                                                                             Duration leaseDuration,
+                                                                             int limit,
+                                                                             SagaStatus... sagaStatuses) {
+        return paymentOutboxJdbcRepository
+            .claimRetryableByTypeAndSagaStatusIn(type, leaseDuration, limit, Arrays.asList(sagaStatuses))
+            .stream()
+            .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                         OutboxStatus outboxStatus,
+                                                         SagaStatus... sagaStatuses) {
+        paymentOutboxJdbcRepository.deleteByTypeAndOutboxStatusAndSagaStatusIn(type,
+                                                                               outboxStatus,
+                                                                               Arrays.asList(sagaStatuses));
+    }
+
+    @Override
+    public int deleteBatchByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                             OutboxStatus outboxStatus,
+                                                             ZonedDateTime createdBefore,
+                                                             int limit,
+                                                             SagaStatus... sagaStatuses) {
+        return paymentOutboxJdbcRepository.deleteBatchByTypeAndOutboxStatusAndSagaStatusIn(
+            type, outboxStatus, createdBefore, limit, Arrays.asList(sagaStatuses));
+    }
+
+    @Override
+    public List<OutboxRecord> findArchivablePageByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                   OutboxStatus outboxStatus,
+                                                                                   ZonedDateTime createdBefore,
+                                                                                   OutboxCursor after,
+                                                                                   int limit,
+                                                                                   SagaStatus... sagaStatuses) {
+        return paymentOutboxJdbcRepository.findArchivablePageByTypeAndOutboxStatusAndSagaStatusIn(
+            type, outboxStatus, createdBefore, after, limit, Arrays.asList(sagaStatuses));
+    }
+
+    @Override
+    public int deleteByIds(ZonedDateTime createdBefore, List<UUID> ids) {
+        return ids.isEmpty() ? 0 : paymentOutboxJdbcRepository.deleteByIds(createdBefore, ids);
+    }
+}
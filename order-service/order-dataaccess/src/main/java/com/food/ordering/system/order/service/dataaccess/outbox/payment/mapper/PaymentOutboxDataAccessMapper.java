@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper;
+
+import java.util.List;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxDataAccessMapper {
+
+    public PaymentOutboxEntity orderPaymentOutboxMessageToOutboxEntity(OrderPaymentOutboxMessage
+                                                                           orderPaymentOutboxMessage) {
+        return PaymentOutboxEntity.builder()
+            .id(orderPaymentOutboxMessage.getId())
+            .sagaId(orderPaymentOutboxMessage.getSagaId())
+            .createdAt(orderPaymentOutboxMessage.getCreatedAt())
+            .processedAt(orderPaymentOutboxMessage.getProcessedAt())
+            .type(orderPaymentOutboxMessage.getType())
+            .payload(orderPaymentOutboxMessage.getPayload())
+            .payloadFormat(orderPaymentOutboxMessage.getPayloadFormat())
+            .payloadBytes(orderPaymentOutboxMessage.getPayloadBytes())
+            .schemaId(orderPaymentOutboxMessage.getSchemaId())
+            .sagaStatus(orderPaymentOutboxMessage.getSagaStatus())
+            .orderStatus(orderPaymentOutboxMessage.getOrderStatus())
+            .outboxStatus(orderPaymentOutboxMessage.getOutboxStatus())
+            .version(orderPaymentOutboxMessage.getVersion())
+            .build();
+    }
+
+    public List<PaymentOutboxEntity> orderPaymentOutboxMessagesToOutboxEntities(List<OrderPaymentOutboxMessage>
+                                                                                    orderPaymentOutboxMessages) {
+        return orderPaymentOutboxMessages.stream()
+            .map(this::orderPaymentOutboxMessageToOutboxEntity)
+            .toList();
+    }
+
+    public OrderPaymentOutboxMessage paymentOutboxEntityToOrderPaymentOutboxMessage(PaymentOutboxEntity
+                                                                                        paymentOutboxEntity) {
+        return OrderPaymentOutboxMessage.builder()
+            .id(paymentOutboxEntity.getId())
+            .sagaId(paymentOutboxEntity.getSagaId())
+            .createdAt(paymentOutboxEntity.getCreatedAt())
+            .processedAt(paymentOutboxEntity.getProcessedAt())
+            .type(paymentOutboxEntity.getType())
+            .payload(paymentOutboxEntity.getPayload())
+            .payloadFormat(paymentOutboxEntity.getPayloadFormat())
+            .payloadBytes(paymentOutboxEntity.getPayloadBytes())
+            .schemaId(paymentOutboxEntity.getSchemaId())
+            .sagaStatus(paymentOutboxEntity.getSagaStatus())
+            .orderStatus(paymentOutboxEntity.getOrderStatus())
+            .outboxStatus(paymentOutboxEntity.getOutboxStatus())
+            .version(paymentOutboxEntity.getVersion())
+            .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.repository;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.SagaRedriveConditions;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRecordMapper;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.jdbc.JdbcOutboxStore;
+import com.food.ordering.system.outbox.jdbc.OutboxStatusColumn;
+import com.food.ordering.system.outbox.jdbc.OutboxTable;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class PaymentOutboxJdbcRepository {
+
+    private static final OutboxStatusColumn SAGA_STATUS = OutboxStatusColumn.of("saga_status", "saga_status");
+    private static final OutboxStatusColumn ORDER_STATUS = OutboxStatusColumn.of("order_status", "order_status");
+
+    private static final OutboxTable PAYMENT_OUTBOX = OutboxTable.builder()
+        .name("payment_outbox")
+        .statusColumn(SAGA_STATUS)
+        .statusColumn(ORDER_STATUS)
+        .filterColumn(SAGA_STATUS)
+        .partitioned(true)
+        .encodedPayload(true)
+        .build();
+
+    private static final OutboxRecordMapper<PaymentOutboxEntity> OUTBOX_RECORD_MAPPER = new OutboxRecordMapper<>() {
+        @Override
+        public OutboxRecord toOutboxRecord(PaymentOutboxEntity outboxEntity) {
+            return OutboxRecord.builder()
+                .id(outboxEntity.getId())
+                .sagaId(outboxEntity.getSagaId())
+                .createdAt(outboxEntity.getCreatedAt())
+                .processedAt(outboxEntity.getProcessedAt())
+                .type(outboxEntity.getType())
+                .payload(outboxEntity.getPayload())
+                .payloadFormat(outboxEntity.getPayloadFormat())
+                .payloadBytes(outboxEntity.getPayloadBytes())
+                .schemaId(outboxEntity.getSchemaId())
+                .outboxStatus(outboxEntity.getOutboxStatus())
+                .status(SAGA_STATUS.getName(), outboxEntity.getSagaStatus().name())
+                .status(ORDER_STATUS.getName(), outboxEntity.getOrderStatus().name())
+                .version(outboxEntity.getVersion())
+                .build();
+        }
+
+        @Override
+        public PaymentOutboxEntity fromOutboxRecord(OutboxRecord outboxRecord) {
+            return PaymentOutboxEntity.builder()
+                .id(outboxRecord.getId())
+                .sagaId(outboxRecord.getSagaId())
+                .createdAt(outboxRecord.getCreatedAt())
+                .processedAt(outboxRecord.getProcessedAt())
+                .type(outboxRecord.getType())
+                .payload(outboxRecord.getPayload())
+                .payloadFormat(outboxRecord.getPayloadFormat())
+                .payloadBytes(outboxRecord.getPayloadBytes())
+                .schemaId(outboxRecord.getSchemaId())
+                .outboxStatus(outboxRecord.getOutboxStatus())
+                .sagaStatus(SagaStatus.valueOf(outboxRecord.getStatus(SAGA_STATUS.getName())))
+                .orderStatus(OrderStatus.valueOf(outboxRecord.getStatus(ORDER_STATUS.getName())))
+                .version(outboxRecord.getVersion())
+                .build();
+        }
+    };
+
+    private final JdbcOutboxStore<PaymentOutboxEntity> outboxStore;
+
+    public PaymentOutboxJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.outboxStore = new JdbcOutboxStore<>(jdbcTemplate, PAYMENT_OUTBOX, OUTBOX_RECORD_MAPPER);
+    }
+
+    public int save(PaymentOutboxEntity outboxEntity) {
+        return outboxStore.save(outboxEntity);
+    }
+
+    public int[] saveAll(List<PaymentOutboxEntity> outboxEntities) {
+        return outboxStore.saveAll(outboxEntities);
+    }
+
+    public int updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys) {
+        return outboxStore.updateOutboxStatusByKeys(outboxStatus, keys);
+    }
+
+    public List<UUID> scheduleRetryByKeys(List<OutboxCursor> keys, OutboxRetryPolicy retryPolicy) {
+        return outboxStore.scheduleRetryByKeys(keys, retryPolicy);
+    }
+
+    public List<PaymentOutboxEntity> findByTypeAndOutboxStatusAndSagaStatusIn(String type,
+                                                                              OutboxStatus outboxStatus,
+                                                                              List<SagaStatus> sagaStatuses) {
+        return outboxStore.findByOutboxStatus(type, outboxStatus, toArray(sagaStatuses));
+    }
+
+    public List<PaymentOutboxEntity> findPageByTypeAndOutboxStatusAndSagaStatusIn(String type,
+                                                                                  OutboxStatus outboxStatus,
+                                                                                  OutboxCursor after,
+                                                                                  int limit,
+                                                                                  List<SagaStatus> sagaStatuses) {
+        return outboxStore.findPage(type, outboxStatus, after, limit, toArray(sagaStatuses));
+    }
+
+    public List<PaymentOutboxEntity> findRedrivePageByType(String type,
+                                                           SagaRedriveFilter sagaRedriveFilter,
+                                                           OutboxCursor after,
+                                                           int limit) {
+        return outboxStore.findPageWhere(type,
+                                         SagaRedriveConditions.REDRIVABLE,
+                                         SagaRedriveConditions.toParameterSource(sagaRedriveFilter),
+                                         after,
+                                         limit);
+    }
+
+    public List<PaymentOutboxEntity> claimByTypeAndOutboxStatusAndSagaStatusIn(String type,
+                                                                               OutboxStatus outboxStatus,
+                                                                               String claimedBy,
+                                                                               Duration leaseDuration,
+                                                                               int limit,
+                                                                               List<SagaStatus> sagaStatuses) {
+        return outboxStore.claim(type, outboxStatus, claimedBy, leaseDuration, limit, toArray(sagaStatuses));
+    }
+
+    public List<PaymentOutboxEntity> claimShardByTypeAndOutboxStatusAndSagaStatusIn(String type,
+                                                                                    OutboxStatus outboxStatus,
+                                                                                    String claimedBy,
+                                                                                    Duration leaseDuration,
+                                                                                    int limit,
+                                                                                    int shardCount,
+                                                                                    Set<Integer> shards,
+                                                                                    List<SagaStatus> sagaStatuses) {
+        return outboxStore.claimShard(type,
+                                      outboxStatus,
+                                      claimedBy,
+                                      leaseDuration,
+                                      limit,
+                                      shardCount,
+                                      shards,
+                                      toArray(sagaStatuses));
+    }
+
+    public List<PaymentOutboxEntity> claimRetryableByTypeAndSagaStatusIn(String type,
+                                                                         Duration leaseDuration,
+                                                                         int limit,
+                                                                         List<SagaStatus> sagaStatuses) {
+        return outboxStore.claimRetryable(type, leaseDuration, limit, toArray(sagaStatuses));
+    }
+
+    public int deleteByTypeAndOutboxStatusAndSagaStatusIn(String type,
+                                                          OutboxStatus outboxStatus,
+                                                          List<SagaStatus> sagaStatuses) {
+        return outboxStore.deleteByOutboxStatus(type, outboxStatus, toArray(sagaStatuses));
+    }
+
+    public int deleteBatchByTypeAndOutboxStatusAndSagaStatusIn(String type,
+                                                               OutboxStatus outboxStatus,
+                                                               ZonedDateTime createdBefore,
+                                                               int limit,
+                                                               List<SagaStatus> sagaStatuses) {
+        return outboxStore.deleteBatch(type, outboxStatus, createdBefore, limit, toArray(sagaStatuses));
+    }
+
+    public List<OutboxRecord> findArchivablePageByTypeAndOutboxStatusAndSagaStatusIn(String type,
+                                                                                     OutboxStatus outboxStatus,
+                                                                                     ZonedDateTime createdBefore,
+                                                                                     OutboxCursor after,
+                                                                                     int limit,
+                                                                                     List<SagaStatus> sagaStatuses) {
+        return outboxStore.findArchivablePage(type, outboxStatus, createdBefore, after, limit, toArray(sagaStatuses));
+    }
+
+    public int deleteByIds(ZonedDateTime createdBefore, List<UUID> ids) {
+        return outboxStore.deleteByIds(createdBefore, ids);
+    }
+
+    private static SagaStatus[] toArray(List<SagaStatus> sagaStatuses) {
+        return sagaStatuses.toArray(SagaStatus[]::new);
+    }
+}
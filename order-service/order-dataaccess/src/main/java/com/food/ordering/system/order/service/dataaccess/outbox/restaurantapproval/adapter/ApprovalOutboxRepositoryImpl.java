@@ -0,0 +1,162 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.adapter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.repository.ApprovalOutboxJdbcRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ApprovalOutboxRepositoryImpl implements ApprovalOutboxRepository {
+
+    private final ApprovalOutboxJdbcRepository approvalOutboxJdbcRepository;
+    private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+
+    @Override
+    public OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        approvalOutboxJdbcRepository.save(
+            approvalOutboxDataAccessMapper.orderApprovalOutboxMessageToOutboxEntity(orderApprovalOutboxMessage));
+        return orderApprovalOutboxMessage;
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> saveAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages) {
+        if (!orderApprovalOutboxMessages.isEmpty()) {
+            approvalOutboxJdbcRepository.saveAll(
+                approvalOutboxDataAccessMapper.orderApprovalOutboxMessagesToOutboxEntities(orderApprovalOutboxMessages));
+        }
+        return orderApprovalOutboxMessages;
+    }
+
+    @Override
+    public int updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys) {
+        return keys.isEmpty() ? 0 : approvalOutboxJdbcRepository.updateOutboxStatusByKeys(outboxStatus, keys);
+    }
+
+    @Override
+    public List<UUID> scheduleRetryByKeys(List<OutboxCursor> keys, OutboxRetryPolicy retryPolicy) {
+        return keys.isEmpty() ? List.of() : approvalOutboxJdbcRepository.scheduleRetryByKeys(keys, retryPolicy);
+    }
+
+    @Override
+    public Optional<List<OrderApprovalOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                             OutboxStatus outboxStatus,
+                                                                                             SagaStatus... sagaStatuses) {
+        return Optional.of(approvalOutboxJdbcRepository
+                               .findByTypeAndOutboxStatusAndSagaStatusIn(type, outboxStatus, Arrays.asList(sagaStatuses))
+                               .stream()
+                               .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+                               .toList());
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> findPageByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                       OutboxStatus outboxStatus,
+                                                                                       OutboxCursor after,
+                                                                                       int limit,
+                                                                                       SagaStatus... sagaStatuses) {
+        return approvalOutboxJdbcRepository
+            .findPageByTypeAndOutboxStatusAndSagaStatusIn(type, outboxStatus, after, limit, Arrays.asList(sagaStatuses))
+            .stream()
+            .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> findRedrivePageByType(String type,
+                                                                  SagaRedriveFilter sagaRedriveFilter,
+                                                                  OutboxCursor after,
+                                                                  int limit) {
+        return approvalOutboxJdbcRepository.findRedrivePageByType(type, sagaRedriveFilter, after, limit).stream()
+            .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> claimByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                    OutboxStatus outboxStatus,
+                                                                                    String claimedBy,
+                                                                                    Duration leaseDuration,
+                                                                                    int limit,
+                                                                                    SagaStatus... sagaStatuses) {
+        return approvalOutboxJdbcRepository
+            .claimByTypeAndOutboxStatusAndSagaStatusIn(type,
+                                                       outboxStatus,
+                                                       claimedBy,
+                                                       leaseDuration,
+                                                       limit,
+                                                       Arrays.asList(sagaStatuses))
+            .stream()
+            .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> claimShardByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                         OutboxStatus outboxStatus,
+                                                                                         String claimedBy,
+                                                                                         Duration leaseDuration,
+                                                                                         int limit,
+                                                                                         int shardCount,
+                                                                                         Set<Integer> shards,
+                                                                                         SagaStatus... sagaStatuses) {
+        return approvalOutboxJdbcRepository
+            .claimShardByTypeAndOutboxStatusAndSagaStatusIn(type,
+                                                            outboxStatus,
+                                                            claimedBy,
+                                                            leaseDuration,
+                                                            limit,
+                                                            shardCount,
+                                                            shards,
+                                                            Arrays.asList(sagaStatuses))
+            .stream()
+            .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public List<OrderApprovalOutboxMessage> claimRetryableByTypeAndSagaStatus(String type,
+                                                                              Duration leaseDuration,
+                                                                              int limit,
+                                                                              SagaStatus... sagaStatuses) {
+        return approvalOutboxJdbcRepository
+            .claimRetryableByTypeAndSagaStatusIn(type, leaseDuration, limit, Arrays.asList(sagaStatuses))
+            .stream()
+            .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+            .toList();
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                         OutboxStatus outboxStatus,
+                                                         SagaStatus... sagaStatuses) {
+        approvalOutboxJdbcRepository.deleteByTypeAndOutboxStatusAndSagaStatusIn(type,
+                                                                                outboxStatus,
+                                                                                Arrays.asList(sagaStatuses));
+    }
+
+    @Override
+    public int deleteBatchByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                             OutboxStatus outboxStatus,
+                                                             ZonedDateTime createdBefore,
+                                                             int limit,
+                                                             SagaStatus... sagaStatuses) {
+        return approvalOutboxJdbcRepository.deleteBatchByTypeAndOutboxStatusAndSagaStatusIn(
+            type, outboxStatus, createdBefore, limit, Arrays.asList(sagaStatuses));
+    }
+}
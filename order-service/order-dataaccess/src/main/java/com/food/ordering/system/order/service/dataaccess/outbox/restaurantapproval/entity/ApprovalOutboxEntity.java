@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.entity;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalOutboxEntity {
+
+    private UUID id;
+    private UUID sagaId;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private String type;
+    private String payload;
+    private OutboxPayloadFormat payloadFormat;
+    private byte[] payloadBytes;
+    private Integer schemaId;
+    private SagaStatus sagaStatus;
+    private OrderStatus orderStatus;
+    private OutboxStatus outboxStatus;
+    private int version;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApprovalOutboxEntity that = (ApprovalOutboxEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.shard.adapter;
+
+import java.util.Set;
+import javax.sql.DataSource;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OutboxShardRepository;
+import com.food.ordering.system.outbox.jdbc.AdvisoryLockShardCoordinator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxShardRepositoryImpl implements OutboxShardRepository {
+
+    private static final String SHARD_LOCK_NAME = "order-outbox-shard";
+
+    private final AdvisoryLockShardCoordinator advisoryLockShardCoordinator;
+
+    public OutboxShardRepositoryImpl(DataSource dataSource, OrderServiceConfigData orderServiceConfigData) {
+        this.advisoryLockShardCoordinator = new AdvisoryLockShardCoordinator(
+            dataSource,
+            SHARD_LOCK_NAME,
+            orderServiceConfigData.getOutboxSchedulerShardCount());
+    }
+
+    @Override
+    public Set<Integer> rebalanceShards() {
+        return advisoryLockShardCoordinator.rebalance();
+    }
+
+    @Override
+    public void releaseShards() {
+        advisoryLockShardCoordinator.close();
+    }
+}
@@ -0,0 +1,112 @@
+package com.food.ordering.system.order.service.dataaccess.saga.adapter;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.food.ordering.system.order.service.dataaccess.saga.mapper.SagaInstanceDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.SagaInstanceJdbcRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaInstanceRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SagaInstanceRepositoryImpl implements SagaInstanceRepository {
+
+    private final SagaInstanceJdbcRepository sagaInstanceJdbcRepository;
+    private final SagaInstanceDataAccessMapper sagaInstanceDataAccessMapper;
+
+    @Override
+    public OrderSagaInstance save(OrderSagaInstance orderSagaInstance) {
+        sagaInstanceJdbcRepository.save(
+            sagaInstanceDataAccessMapper.orderSagaInstanceToSagaInstanceEntity(orderSagaInstance));
+        return orderSagaInstance;
+    }
+
+    @Override
+    public boolean updateByIdAndVersion(OrderSagaInstance orderSagaInstance) {
+        return sagaInstanceJdbcRepository.updateByIdAndVersion(
+            sagaInstanceDataAccessMapper.orderSagaInstanceToSagaInstanceEntity(orderSagaInstance));
+    }
+
+    @Override
+    public boolean updateAllByIdAndVersion(List<OrderSagaInstance> orderSagaInstances) {
+        return orderSagaInstances.isEmpty() || sagaInstanceJdbcRepository.updateAllByIdAndVersion(
+            sagaInstanceDataAccessMapper.orderSagaInstancesToSagaInstanceEntities(orderSagaInstances));
+    }
+
+    @Override
+    public Optional<OrderSagaInstance> findByTypeAndSagaIdAndSagaStatus(String type,
+                                                                        UUID sagaId,
+                                                                        SagaStatus... sagaStatuses) {
+        return sagaInstanceJdbcRepository
+            .findByTypeAndSagaIdAndSagaStatusIn(type, sagaId, Arrays.asList(sagaStatuses))
+            .map(sagaInstanceDataAccessMapper::sagaInstanceEntityToOrderSagaInstance);
+    }
+
+    @Override
+    public List<OrderSagaInstance> findByTypeAndSagaIdsAndSagaStatus(String type,
+                                                                     Collection<UUID> sagaIds,
+                                                                     SagaStatus... sagaStatuses) {
+        if (sagaIds.isEmpty()) {
+            return List.of();
+        }
+        return sagaInstanceJdbcRepository
+            .findByTypeAndSagaIdInAndSagaStatusIn(type, sagaIds, Arrays.asList(sagaStatuses))
+            .stream()
+            .map(sagaInstanceDataAccessMapper::sagaInstanceEntityToOrderSagaInstance)
+            .toList();
+    }
+
+    @Override
+    public List<ZonedDateTime> updatePaymentRequestedAtByOutboxKeys(List<OutboxCursor> outboxKeys) {
+        return outboxKeys.isEmpty()
+            ? List.of()
+            : sagaInstanceJdbcRepository.updatePaymentRequestedAtByOutboxKeys(outboxKeys);
+    }
+
+    @Override
+    public List<ZonedDateTime> updateApprovalRequestedAtByOutboxKeys(List<OutboxCursor> outboxKeys) {
+        return outboxKeys.isEmpty()
+            ? List.of()
+            : sagaInstanceJdbcRepository.updateApprovalRequestedAtByOutboxKeys(outboxKeys);
+    }
+
+    @Override
+    public int redriveExpiredByType(String type,
+                                    int maxRedrives,
+                                    int limit,
+                                    SagaStatus... compensableSagaStatuses) {
+        return sagaInstanceJdbcRepository.redriveExpiredByType(type,
+                                                               maxRedrives,
+                                                               limit,
+                                                               Arrays.asList(compensableSagaStatuses));
+    }
+
+    @Override
+    public List<OrderSagaInstance> claimExpiredByTypeAndSagaStatus(String type,
+                                                                   int maxRedrives,
+                                                                   int limit,
+                                                                   SagaStatus... sagaStatuses) {
+        return sagaInstanceJdbcRepository
+            .claimExpiredByTypeAndSagaStatusIn(type, maxRedrives, limit, Arrays.asList(sagaStatuses))
+            .stream()
+            .map(sagaInstanceDataAccessMapper::sagaInstanceEntityToOrderSagaInstance)
+            .toList();
+    }
+
+    @Override
+    public List<UUID> parkExpiredByTypeAndSagaStatus(String type,
+                                                     int maxRedrives,
+                                                     int limit,
+                                                     SagaStatus sagaStatus) {
+        return sagaInstanceJdbcRepository.parkExpiredByTypeAndSagaStatus(type, maxRedrives, limit, sagaStatus);
+    }
+}
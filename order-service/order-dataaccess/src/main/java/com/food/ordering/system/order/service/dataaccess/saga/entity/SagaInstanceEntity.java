@@ -0,0 +1,48 @@
+package com.food.ordering.system.order.service.dataaccess.saga.entity;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaInstanceEntity {
+
+    private UUID sagaId;
+    private String type;
+    private UUID orderId;
+    private String step;
+    private SagaStatus sagaStatus;
+    private OrderStatus orderStatus;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private int version;
+    private ZonedDateTime paymentRequestedAt;
+    private ZonedDateTime paymentRespondedAt;
+    private ZonedDateTime approvalRequestedAt;
+    private ZonedDateTime approvalRespondedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SagaInstanceEntity that = (SagaInstanceEntity) o;
+        return sagaId.equals(that.sagaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sagaId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.dataaccess.saga.mapper;
+
+import java.util.List;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaInstanceEntity;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SagaInstanceDataAccessMapper {
+
+    public SagaInstanceEntity orderSagaInstanceToSagaInstanceEntity(OrderSagaInstance orderSagaInstance) {
+        return SagaInstanceEntity.builder()
+            .sagaId(orderSagaInstance.getSagaId())
+            .type(orderSagaInstance.getType())
+            .orderId(orderSagaInstance.getOrderId())
+            .step(orderSagaInstance.getStep())
+            .sagaStatus(orderSagaInstance.getSagaStatus())
+            .orderStatus(orderSagaInstance.getOrderStatus())
+            .createdAt(orderSagaInstance.getCreatedAt())
+            .processedAt(orderSagaInstance.getProcessedAt())
+            .version(orderSagaInstance.getVersion())
+            .paymentRequestedAt(orderSagaInstance.getPaymentRequestedAt())
+            .paymentRespondedAt(orderSagaInstance.getPaymentRespondedAt())
+            .approvalRequestedAt(orderSagaInstance.getApprovalRequestedAt())
+            .approvalRespondedAt(orderSagaInstance.getApprovalRespondedAt())
+            .build();
+    }
+
+    public List<SagaInstanceEntity> orderSagaInstancesToSagaInstanceEntities(List<OrderSagaInstance>
+                                                                                 orderSagaInstances) {
+        return orderSagaInstances.stream()
+            .map(this::orderSagaInstanceToSagaInstanceEntity)
+            .toList();
+    }
+
+    public OrderSagaInstance sagaInstanceEntityToOrderSagaInstance(SagaInstanceEntity sagaInstanceEntity) {
+        return OrderSagaInstance.builder()
+            .sagaId(sagaInstanceEntity.getSagaId())
+            .type(sagaInstanceEntity.getType())
+            .orderId(sagaInstanceEntity.getOrderId())
+            .step(sagaInstanceEntity.getStep())
+            .sagaStatus(sagaInstanceEntity.getSagaStatus())
+            .orderStatus(sagaInstanceEntity.getOrderStatus())
+            .createdAt(sagaInstanceEntity.getCreatedAt())
+            .processedAt(sagaInstanceEntity.getProcessedAt())
+            .version(sagaInstanceEntity.getVersion())
+            .paymentRequestedAt(sagaInstanceEntity.getPaymentRequestedAt())
+            .paymentRespondedAt(sagaInstanceEntity.getPaymentRespondedAt())
+            .approvalRequestedAt(sagaInstanceEntity.getApprovalRequestedAt())
+            .approvalRespondedAt(sagaInstanceEntity.getApprovalRespondedAt())
+            .build();
+    }
+}
@@ -0,0 +1,346 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaInstanceEntity;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.jdbc.JdbcOutboxStore;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SagaInstanceJdbcRepository {
+
+    private static final String COLUMNS = """
+        saga_id, type, order_id, step, saga_status, order_status, created_at, processed_at, version""";
+
+    private static final String STEP_TIMESTAMP_COLUMNS = """
+        payment_requested_at, payment_responded_at, approval_requested_at, approval_responded_at""";
+
+    private static final String AWAITING_RESPONSE = "('STARTED', 'PROCESSING', 'COMPENSATING')";
+
+    private static final String DEADLINE_FROM_NOW =
+        "now() + CAST(:sagaTimeoutMillis AS bigint) * INTERVAL '1 millisecond'";
+
+    private static final String INSERT = """
+        INSERT INTO saga_instance (%1$s, saga_deadline)
+        VALUES (:sagaId, :type, :orderId, :step, CAST(:sagaStatus AS saga_status),
+                CAST(:orderStatus AS order_status), :createdAt, :processedAt, :version,
+                CASE WHEN CAST(:sagaStatus AS saga_status) IN %2$s THEN %3$s END)
+        """.formatted(COLUMNS, AWAITING_RESPONSE, DEADLINE_FROM_NOW);
+
+    // The deadline only restarts when the saga moves to another status, a response for the same status keeps it.
+    private static final String UPDATE_BY_ID_AND_VERSION = """
+        UPDATE saga_instance
+        SET step          = :step,
+            saga_status   = CAST(:sagaStatus AS saga_status),
+            order_status  = CAST(:orderStatus AS order_status),
+            processed_at  = :processedAt,
+            version       = version + 1,
+            saga_deadline = CASE WHEN CAST(:sagaStatus AS saga_status) IN %1$s
+                                 THEN CASE WHEN saga_status = CAST(:sagaStatus AS saga_status)
+                                           THEN coalesce(saga_deadline, %2$s)
+                                           ELSE %2$s END END,
+            redrive_count = CASE WHEN saga_status = CAST(:sagaStatus AS saga_status) THEN redrive_count ELSE 0 END,
+            payment_responded_at  = :paymentRespondedAt,
+            approval_responded_at = :approvalRespondedAt
+        WHERE saga_id = :sagaId
+          AND version = :version
+        """.formatted(AWAITING_RESPONSE, DEADLINE_FROM_NOW);
+
+    private static final String FIND_BY_SAGA_ID = """
+        SELECT %s, %s
+        FROM saga_instance
+        WHERE type = :type
+          AND saga_id = :sagaId
+          AND saga_status = ANY(CAST(:sagaStatuses AS saga_status[]))
+        """.formatted(COLUMNS, STEP_TIMESTAMP_COLUMNS);
+
+    private static final String FIND_BY_SAGA_IDS = """
+        SELECT %s, %s
+        FROM saga_instance
+        WHERE type = :type
+          AND saga_id = ANY(CAST(:sagaIds AS uuid[]))
+          AND saga_status = ANY(CAST(:sagaStatuses AS saga_status[]))
+        """.formatted(COLUMNS, STEP_TIMESTAMP_COLUMNS);
+
+    // Re-driven outbox rows are published again by the outbox schedulers, participants are expected to be idempotent.
+    private static final String REDRIVE_EXPIRED = """
+        WITH expired AS (
+            SELECT saga_id
+            FROM saga_instance
+            WHERE type = :type
+              AND saga_deadline <= now()
+              AND (redrive_count < :maxRedrives OR saga_status <> ALL(CAST(:sagaStatuses AS saga_status[])))
+            ORDER BY saga_deadline
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ), redriven AS (
+            UPDATE saga_instance s
+            SET redrive_count = s.redrive_count + 1,
+                saga_deadline = %s
+            FROM expired e
+            WHERE s.saga_id = e.saga_id
+            RETURNING s.saga_id, s.saga_status
+        ), payment_outbox_redriven AS (
+            UPDATE payment_outbox p
+            SET outbox_status   = 'STARTED',
+                attempt_count   = 0,
+                next_attempt_at = NULL,
+                claimed_by      = NULL,
+                lease_until     = NULL
+            FROM redriven r
+            WHERE p.type = :type
+              AND p.saga_id = r.saga_id
+              AND p.saga_status = r.saga_status
+            RETURNING p.id
+        ), approval_outbox_redriven AS (
+            UPDATE restaurant_approval_outbox a
+            SET outbox_status   = 'STARTED',
+                attempt_count   = 0,
+                next_attempt_at = NULL,
+                claimed_by      = NULL,
+                lease_until     = NULL
+            FROM redriven r
+            WHERE a.type = :type
+              AND a.saga_id = r.saga_id
+              AND a.saga_status = r.saga_status
+            RETURNING a.id
+        )
+        SELECT count(*) FROM redriven
+        """.formatted(DEADLINE_FROM_NOW);
+
+    private static final String CLAIM_EXPIRED = """
+        UPDATE saga_instance s
+        SET saga_deadline = %1$s
+        FROM (SELECT saga_id
+              FROM saga_instance
+              WHERE type = :type
+                AND saga_deadline <= now()
+                AND redrive_count >= :maxRedrives
+                AND saga_status = ANY(CAST(:sagaStatuses AS saga_status[]))
+              ORDER BY saga_deadline
+              LIMIT :limit
+              FOR UPDATE SKIP LOCKED) expired
+        WHERE s.saga_id = expired.saga_id
+        RETURNING s.saga_id, s.type, s.order_id, s.step, s.saga_status, s.order_status, s.created_at,
+                  s.processed_at, s.version, s.payment_requested_at, s.payment_responded_at,
+                  s.approval_requested_at, s.approval_responded_at
+        """.formatted(DEADLINE_FROM_NOW);
+
+    // A parked saga keeps its status but loses its deadline, its request waits for an operator re-drive.
+    private static final String PARK_EXPIRED = """
+        WITH parked AS (
+            UPDATE saga_instance s
+            SET saga_deadline = NULL
+            FROM (SELECT saga_id
+                  FROM saga_instance
+                  WHERE type = :type
+                    AND saga_deadline <= now()
+                    AND redrive_count >= :maxRedrives
+                    AND saga_status = CAST(:sagaStatus AS saga_status)
+                  ORDER BY saga_deadline
+                  LIMIT :limit
+                  FOR UPDATE SKIP LOCKED) expired
+            WHERE s.saga_id = expired.saga_id
+            RETURNING s.saga_id, s.saga_status
+        ), payment_outbox_parked AS (
+            UPDATE payment_outbox p
+            SET outbox_status   = 'PARKED',
+                next_attempt_at = NULL,
+                claimed_by      = NULL,
+                lease_until     = NULL
+            FROM parked k
+            WHERE p.type = :type
+              AND p.saga_id = k.saga_id
+              AND p.saga_status = k.saga_status
+            RETURNING p.id
+        )
+        SELECT saga_id FROM parked
+        """;
+
+    // Stamped when the request is first acknowledged by the broker, a re-driven request keeps its first timestamp
+    // and is not returned, so its dispatch is not measured again.
+    private static final String UPDATE_PAYMENT_REQUESTED_AT = """
+        UPDATE saga_instance s
+        SET payment_requested_at = now()
+        FROM payment_outbox p
+        WHERE p.id = ANY(CAST(:ids AS uuid[]))
+          AND p.created_at BETWEEN :createdFrom AND :createdTo
+          AND p.saga_status = 'STARTED'
+          AND s.saga_id = p.saga_id
+          AND s.payment_requested_at IS NULL
+        RETURNING p.created_at
+        """;
+
+    private static final String UPDATE_APPROVAL_REQUESTED_AT = """
+        UPDATE saga_instance s
+        SET approval_requested_at = now()
+        FROM restaurant_approval_outbox a
+        WHERE a.id = ANY(CAST(:ids AS uuid[]))
+          AND a.created_at BETWEEN :createdFrom AND :createdTo
+          AND a.saga_status = 'PROCESSING'
+          AND s.saga_id = a.saga_id
+          AND s.approval_requested_at IS NULL
+        RETURNING a.created_at
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public int save(SagaInstanceEntity sagaInstanceEntity) {
+        return jdbcTemplate.update(INSERT, toParameterSource(sagaInstanceEntity));
+    }
+
+    public boolean updateByIdAndVersion(SagaInstanceEntity sagaInstanceEntity) {
+        return jdbcTemplate.update(UPDATE_BY_ID_AND_VERSION, toParameterSource(sagaInstanceEntity)) == 1;
+    }
+
+    public boolean updateAllByIdAndVersion(List<SagaInstanceEntity> sagaInstanceEntities) {
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_BY_ID_AND_VERSION, sagaInstanceEntities.stream()
+            .map(this::toParameterSource)
+            .toArray(SqlParameterSource[]::new));
+        return Arrays.stream(updated).allMatch(count -> count == 1);
+    }
+
+    public Optional<SagaInstanceEntity> findByTypeAndSagaIdAndSagaStatusIn(String type,
+                                                                           UUID sagaId,
+                                                                           List<SagaStatus> sagaStatuses) {
+        return jdbcTemplate.query(FIND_BY_SAGA_ID,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("sagaId", sagaId)
+                                      .addValue("sagaStatuses", toArray(sagaStatuses)),
+                                  SagaInstanceJdbcRepository::mapRow)
+            .stream()
+            .findFirst();
+    }
+
+    public List<SagaInstanceEntity> findByTypeAndSagaIdInAndSagaStatusIn(String type,
+                                                                         Collection<UUID> sagaIds,
+                                                                         List<SagaStatus> sagaStatuses) {
+        return jdbcTemplate.query(FIND_BY_SAGA_IDS,
+                                  new MapSqlParameterSource()
+                                      .addValue("type", type)
+                                      .addValue("sagaIds", toIdArray(sagaIds))
+                                      .addValue("sagaStatuses", toArray(sagaStatuses)),
+                                  SagaInstanceJdbcRepository::mapRow);
+    }
+
+    public List<ZonedDateTime> updatePaymentRequestedAtByOutboxKeys(List<OutboxCursor> outboxKeys) {
+        return jdbcTemplate.query(UPDATE_PAYMENT_REQUESTED_AT,
+                                  JdbcOutboxStore.keyParameters(outboxKeys),
+                                  SagaInstanceJdbcRepository::mapOutboxCreatedAt);
+    }
+
+    public List<ZonedDateTime> updateApprovalRequestedAtByOutboxKeys(List<OutboxCursor> outboxKeys) {
+        return jdbcTemplate.query(UPDATE_APPROVAL_REQUESTED_AT,
+                                  JdbcOutboxStore.keyParameters(outboxKeys),
+                                  SagaInstanceJdbcRepository::mapOutboxCreatedAt);
+    }
+
+    public int redriveExpiredByType(String type, int maxRedrives, int limit, List<SagaStatus> compensableSagaStatuses) {
+        Integer redriven = jdbcTemplate.queryForObject(REDRIVE_EXPIRED,
+                                                       deadlineParameters(type, maxRedrives, limit)
+                                                           .addValue("sagaStatuses",
+                                                                     toArray(compensableSagaStatuses)),
+                                                       Integer.class);
+        return redriven == null ? 0 : redriven;
+    }
+
+    public List<SagaInstanceEntity> claimExpiredByTypeAndSagaStatusIn(String type,
+                                                                      int maxRedrives,
+                                                                      int limit,
+                                                                      List<SagaStatus> sagaStatuses) {
+        return jdbcTemplate.query(CLAIM_EXPIRED,
+                                  deadlineParameters(type, maxRedrives, limit)
+                                      .addValue("sagaStatuses", toArray(sagaStatuses)),
+                                  SagaInstanceJdbcRepository::mapRow);
+    }
+
+    public List<UUID> parkExpiredByTypeAndSagaStatus(String type, int maxRedrives, int limit, SagaStatus sagaStatus) {
+        return jdbcTemplate.queryForList(PARK_EXPIRED,
+                                         deadlineParameters(type, maxRedrives, limit)
+                                             .addValue("sagaStatus", sagaStatus.name()),
+                                         UUID.class);
+    }
+
+    private MapSqlParameterSource deadlineParameters(String type, int maxRedrives, int limit) {
+        return new MapSqlParameterSource()
+            .addValue("type", type)
+            .addValue("maxRedrives", maxRedrives)
+            .addValue("limit", limit)
+            .addValue("sagaTimeoutMillis", orderServiceConfigData.getSagaDeadlineTimeout().toMillis());
+    }
+
+    private SqlParameterSource toParameterSource(SagaInstanceEntity sagaInstanceEntity) {
+        return new MapSqlParameterSource()
+            .addValue("sagaId", sagaInstanceEntity.getSagaId())
+            .addValue("type", sagaInstanceEntity.getType())
+            .addValue("orderId", sagaInstanceEntity.getOrderId())
+            .addValue("step", sagaInstanceEntity.getStep())
+            .addValue("sagaStatus", sagaInstanceEntity.getSagaStatus().name())
+            .addValue("orderStatus", sagaInstanceEntity.getOrderStatus().name())
+            .addValue("createdAt", toOffsetDateTime(sagaInstanceEntity.getCreatedAt()))
+            .addValue("processedAt", toOffsetDateTime(sagaInstanceEntity.getProcessedAt()))
+            .addValue("version", sagaInstanceEntity.getVersion())
+            .addValue("paymentRespondedAt", toOffsetDateTime(sagaInstanceEntity.getPaymentRespondedAt()))
+            .addValue("approvalRespondedAt", toOffsetDateTime(sagaInstanceEntity.getApprovalRespondedAt()))
+            .addValue("sagaTimeoutMillis", orderServiceConfigData.getSagaDeadlineTimeout().toMillis());
+    }
+
+    private static SagaInstanceEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return SagaInstanceEntity.builder()
+            .sagaId(rs.getObject("saga_id", UUID.class))
+            .type(rs.getString("type"))
+            .orderId(rs.getObject("order_id", UUID.class))
+            .step(rs.getString("step"))
+            .sagaStatus(SagaStatus.valueOf(rs.getString("saga_status")))
+            .orderStatus(OrderStatus.valueOf(rs.getString("order_status")))
+            .createdAt(toZonedDateTime(rs.getObject("created_at", OffsetDateTime.class)))
+            .processedAt(toZonedDateTime(rs.getObject("processed_at", OffsetDateTime.class)))
+            .version(rs.getInt("version"))
+            .paymentRequestedAt(toZonedDateTime(rs.getObject("payment_requested_at", OffsetDateTime.class)))
+            .paymentRespondedAt(toZonedDateTime(rs.getObject("payment_responded_at", OffsetDateTime.class)))
+            .approvalRequestedAt(toZonedDateTime(rs.getObject("approval_requested_at", OffsetDateTime.class)))
+            .approvalRespondedAt(toZonedDateTime(rs.getObject("approval_responded_at", OffsetDateTime.class)))
+            .build();
+    }
+
+    private static ZonedDateTime mapOutboxCreatedAt(ResultSet rs, int rowNum) throws SQLException {
+        return toZonedDateTime(rs.getObject("created_at", OffsetDateTime.class));
+    }
+
+    private static String[] toArray(List<SagaStatus> sagaStatuses) {
+        return sagaStatuses.stream().map(Enum::name).toArray(String[]::new);
+    }
+
+    // The driver cannot bind a UUID[], ids go in as text and the statement casts them to uuid[].
+    private static String[] toIdArray(Collection<UUID> ids) {
+        return ids.stream().map(UUID::toString).toArray(String[]::new);
+    }
+
+    private static OffsetDateTime toOffsetDateTime(ZonedDateTime zonedDateTime) {
+        return zonedDateTime == null ? null : zonedDateTime.toOffsetDateTime();
+    }
+
+    private static ZonedDateTime toZonedDateTime(OffsetDateTime offsetDateTime) {
+        return offsetDateTime == null ? null : offsetDateTime.atZoneSameInstant(ZoneOffset.UTC);
+    }
+}
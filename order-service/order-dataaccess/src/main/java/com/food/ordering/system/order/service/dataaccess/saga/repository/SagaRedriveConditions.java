@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SagaRedriveConditions {
+
+    // Rows still waiting in STARTED belong to the outbox schedulers, only published or parked rows are re-driven.
+    public static final String REDRIVABLE = """
+        o.saga_status = CAST(:redriveSagaStatus AS saga_status)
+              AND o.outbox_status <> 'STARTED'
+              AND (CAST(:createdFrom AS timestamptz) IS NULL OR o.created_at >= :createdFrom)
+              AND (CAST(:createdTo AS timestamptz) IS NULL OR o.created_at < :createdTo)
+              AND EXISTS (SELECT 1
+                          FROM saga_instance s
+                          JOIN orders r ON r.id = s.order_id
+                          WHERE s.saga_id = o.saga_id
+                            AND s.saga_status = o.saga_status
+                            AND (CAST(:restaurantId AS uuid) IS NULL OR r.restaurant_id = :restaurantId))""";
+
+    public static MapSqlParameterSource toParameterSource(SagaRedriveFilter sagaRedriveFilter) {
+        return new MapSqlParameterSource()
+            .addValue("redriveSagaStatus", sagaRedriveFilter.getSagaStatus().name())
+            .addValue("createdFrom", toOffsetDateTime(sagaRedriveFilter.getCreatedFrom()))
+            .addValue("createdTo", toOffsetDateTime(sagaRedriveFilter.getCreatedTo()))
+            .addValue("restaurantId", sagaRedriveFilter.getRestaurantId());
+    }
+
+    private static OffsetDateTime toOffsetDateTime(ZonedDateTime zonedDateTime) {
+        return zonedDateTime == null ? null : zonedDateTime.toOffsetDateTime();
+    }
+}
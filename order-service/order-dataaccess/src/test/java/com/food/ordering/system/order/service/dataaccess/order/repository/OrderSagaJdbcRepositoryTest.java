@@ -0,0 +1,180 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaInstanceEntity;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.SagaInstanceJdbcRepository;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaStepResult;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.saga.SagaStepOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class OrderSagaJdbcRepositoryTest {
+
+    private static final String TYPE = "OrderProcessingSaga";
+
+    private static final Path INIT_SCHEMA = Path.of("../order-container/src/main/resources/init-schema.sql");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine")
+        .withUrlParam("currentSchema", "order")
+        .withUrlParam("stringtype", "unspecified");
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SagaInstanceJdbcRepository sagaInstanceJdbcRepository;
+    private OrderSagaJdbcRepository orderSagaJdbcRepository;
+
+    @BeforeEach
+    public void init() throws IOException {
+        DataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                                                            POSTGRES.getUsername(),
+                                                            POSTGRES.getPassword());
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        // The schema script drops and recreates the order schema, it runs as one statement like it does on startup.
+        jdbcTemplate.getJdbcTemplate().execute(Files.readString(INIT_SCHEMA));
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        sagaInstanceJdbcRepository = new SagaInstanceJdbcRepository(jdbcTemplate, orderServiceConfigData);
+        orderSagaJdbcRepository = new OrderSagaJdbcRepository(jdbcTemplate, orderServiceConfigData);
+    }
+
+    @Test
+    public void testPayOrderAppliesOnce() {
+        UUID orderId = saveOrder(OrderStatus.PENDING);
+        SagaInstanceEntity saga = saveSaga(orderId, SagaStatus.STARTED, OrderStatus.PENDING);
+
+        OrderSagaStepResult paid = payOrder(orderId, saga);
+        OrderSagaStepResult duplicate = payOrder(orderId, saga);
+
+        assertEquals(SagaStepOutcome.APPLIED, paid.getOutcome());
+        assertEquals(saga.getCreatedAt(), paid.getSagaCreatedAt());
+        assertEquals(SagaStepOutcome.ALREADY_PROCESSED, duplicate.getOutcome());
+        assertEquals("PAID", orderStatus(orderId));
+        assertEquals(Map.of("saga_status", "PROCESSING", "order_status", "PAID", "version", 1),
+                     jdbcTemplate.queryForMap("SELECT saga_status::text, order_status::text, version "
+                                              + "FROM saga_instance WHERE saga_id = :sagaId",
+                                              new MapSqlParameterSource("sagaId", saga.getSagaId())));
+        // The approval request is built from the order row in the same statement, items included.
+        List<Map<String, Object>> approvalOutbox = jdbcTemplate.queryForList(
+            "SELECT payload ->> 'restaurantId' AS restaurant_id, jsonb_array_length(payload -> 'products') AS products "
+            + "FROM restaurant_approval_outbox WHERE saga_id = :sagaId",
+            new MapSqlParameterSource("sagaId", saga.getSagaId()));
+        assertEquals(1, approvalOutbox.size());
+        assertEquals(2, approvalOutbox.get(0).get("products"));
+    }
+
+    @Test
+    public void testPayOrderLeavesAnOrderInTheWrongState() {
+        UUID orderId = saveOrder(OrderStatus.CANCELLED);
+        SagaInstanceEntity saga = saveSaga(orderId, SagaStatus.STARTED, OrderStatus.PENDING);
+
+        assertEquals(SagaStepOutcome.ORDER_STATE_MISMATCH, payOrder(orderId, saga).getOutcome());
+        assertEquals("CANCELLED", orderStatus(orderId));
+        assertEquals(0, jdbcTemplate.getJdbcTemplate()
+            .queryForObject("SELECT count(*) FROM restaurant_approval_outbox", Integer.class));
+        assertEquals("STARTED", jdbcTemplate.queryForObject(
+            "SELECT saga_status::text FROM saga_instance WHERE saga_id = :sagaId",
+            new MapSqlParameterSource("sagaId", saga.getSagaId()),
+            String.class));
+    }
+
+    @Test
+    public void testApproveOrderAppliesOnce() {
+        UUID orderId = saveOrder(OrderStatus.PAID);
+        SagaInstanceEntity saga = saveSaga(orderId, SagaStatus.PROCESSING, OrderStatus.PAID);
+
+        assertEquals(SagaStepOutcome.APPLIED, approveOrder(orderId, saga).getOutcome());
+        assertEquals(SagaStepOutcome.ALREADY_PROCESSED, approveOrder(orderId, saga).getOutcome());
+        assertEquals("APPROVED", orderStatus(orderId));
+    }
+
+    private OrderSagaStepResult payOrder(UUID orderId, SagaInstanceEntity saga) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        return orderSagaJdbcRepository.payOrder(orderId, now, now, SagaStatus.PROCESSING, "OrderPaid",
+                                                ApprovalOutboxEntity.builder()
+                                                    .id(UUID.randomUUID())
+                                                    .sagaId(saga.getSagaId())
+                                                    .createdAt(now)
+                                                    .type(TYPE)
+                                                    .payload("{\"orderId\": \"%s\"}".formatted(orderId))
+                                                    .payloadFormat(OutboxPayloadFormat.JSON)
+                                                    .sagaStatus(SagaStatus.PROCESSING)
+                                                    .orderStatus(OrderStatus.PAID)
+                                                    .outboxStatus(OutboxStatus.STARTED)
+                                                    .build());
+    }
+
+    private OrderSagaStepResult approveOrder(UUID orderId, SagaInstanceEntity saga) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        return orderSagaJdbcRepository.approveOrder(TYPE, saga.getSagaId(), orderId, now, now, SagaStatus.SUCCEEDED);
+    }
+
+    private UUID saveOrder(OrderStatus orderStatus) {
+        UUID orderId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                                INSERT INTO orders (id, customer_id, restaurant_id, tracking_id, price, order_status)
+                                VALUES (:id, :id, :id, :id, :price, CAST(:orderStatus AS order_status))
+                                """,
+                            new MapSqlParameterSource()
+                                .addValue("id", orderId)
+                                .addValue("price", new BigDecimal("50.00"))
+                                .addValue("orderStatus", orderStatus.name()));
+        for (int i = 1; i <= 2; i++) {
+            jdbcTemplate.update("""
+                                    INSERT INTO order_items (id, order_id, product_id, price, quantity, sub_total)
+                                    VALUES (:id, :orderId, :productId, 25.00, 1, 25.00)
+                                    """,
+                                new MapSqlParameterSource()
+                                    .addValue("id", i)
+                                    .addValue("orderId", orderId)
+                                    .addValue("productId", UUID.randomUUID()));
+        }
+        return orderId;
+    }
+
+    private SagaInstanceEntity saveSaga(UUID orderId, SagaStatus sagaStatus, OrderStatus orderStatus) {
+        SagaInstanceEntity sagaInstanceEntity = SagaInstanceEntity.builder()
+            .sagaId(UUID.randomUUID())
+            .type(TYPE)
+            .orderId(orderId)
+            .step("OrderCreated")
+            .sagaStatus(sagaStatus)
+            .orderStatus(orderStatus)
+            .createdAt(ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS))
+            .version(0)
+            .build();
+        sagaInstanceJdbcRepository.save(sagaInstanceEntity);
+        return sagaInstanceEntity;
+    }
+
+    private String orderStatus(UUID orderId) {
+        return jdbcTemplate.queryForObject("SELECT order_status::text FROM orders WHERE id = :id",
+                                           new MapSqlParameterSource("id", orderId),
+                                           String.class);
+    }
+}
@@ -0,0 +1,146 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaInstanceEntity;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.SagaInstanceJdbcRepository;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class PaymentOutboxJdbcRepositoryTest {
+
+    private static final String TYPE = "OrderProcessingSaga";
+
+    private static final Path INIT_SCHEMA = Path.of("../order-container/src/main/resources/init-schema.sql");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine")
+        .withUrlParam("currentSchema", "order")
+        .withUrlParam("stringtype", "unspecified");
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SagaInstanceJdbcRepository sagaInstanceJdbcRepository;
+    private PaymentOutboxJdbcRepository paymentOutboxJdbcRepository;
+
+    @BeforeEach
+    public void init() throws IOException {
+        DataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                                                            POSTGRES.getUsername(),
+                                                            POSTGRES.getPassword());
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        // The schema script drops and recreates the order schema, it runs as one statement like it does on startup.
+        jdbcTemplate.getJdbcTemplate().execute(Files.readString(INIT_SCHEMA));
+        sagaInstanceJdbcRepository = new SagaInstanceJdbcRepository(jdbcTemplate, new OrderServiceConfigData());
+        paymentOutboxJdbcRepository = new PaymentOutboxJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    public void testRedrivePagesMatchOnlyRedrivableRows() {
+        UUID completed = save(restaurantId, now, SagaStatus.STARTED, OutboxStatus.COMPLETED);
+        UUID parked = save(restaurantId, now.plusSeconds(1), SagaStatus.STARTED, OutboxStatus.PARKED);
+        // Still waiting for the outbox scheduler.
+        save(restaurantId, now, SagaStatus.STARTED, OutboxStatus.STARTED);
+        UUID otherRestaurant = save(UUID.randomUUID(), now, SagaStatus.STARTED, OutboxStatus.COMPLETED);
+        UUID beforeWindow = save(restaurantId, now.minusHours(2), SagaStatus.STARTED, OutboxStatus.COMPLETED);
+        // The saga moved on after the request was published, a re-drive would resend a stale step.
+        save(restaurantId, now, SagaStatus.PROCESSING, OutboxStatus.COMPLETED);
+
+        SagaRedriveFilter byRestaurantAndWindow = SagaRedriveFilter.builder()
+            .sagaStatus(SagaStatus.STARTED)
+            .restaurantId(restaurantId)
+            .createdFrom(now.minusHours(1))
+            .createdTo(now.plusHours(1))
+            .build();
+        SagaRedriveFilter byStatus = SagaRedriveFilter.builder()
+            .sagaStatus(SagaStatus.STARTED)
+            .build();
+
+        assertEquals(List.of(completed, parked), redrivePages(byRestaurantAndWindow));
+        assertEquals(Set.of(completed, parked, otherRestaurant, beforeWindow), Set.copyOf(redrivePages(byStatus)));
+    }
+
+    private List<UUID> redrivePages(SagaRedriveFilter sagaRedriveFilter) {
+        List<UUID> ids = new ArrayList<>();
+        OutboxCursor cursor = null;
+        List<PaymentOutboxEntity> page;
+        do {
+            page = paymentOutboxJdbcRepository.findRedrivePageByType(TYPE, sagaRedriveFilter, cursor, 1);
+            page.forEach(outboxEntity -> ids.add(outboxEntity.getId()));
+            if (!page.isEmpty()) {
+                PaymentOutboxEntity last = page.get(page.size() - 1);
+                cursor = OutboxCursor.of(last.getCreatedAt(), last.getId());
+            }
+        } while (!page.isEmpty());
+        return ids;
+    }
+
+    private UUID save(UUID restaurantId,
+                      ZonedDateTime createdAt,
+                      SagaStatus sagaInstanceStatus,
+                      OutboxStatus outboxStatus) {
+        UUID orderId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                                INSERT INTO orders (id, customer_id, restaurant_id, tracking_id, price, order_status)
+                                VALUES (:id, :id, :restaurantId, :id, 50.00, 'PENDING')
+                                """,
+                            new MapSqlParameterSource()
+                                .addValue("id", orderId)
+                                .addValue("restaurantId", restaurantId));
+        SagaInstanceEntity sagaInstanceEntity = SagaInstanceEntity.builder()
+            .sagaId(UUID.randomUUID())
+            .type(TYPE)
+            .orderId(orderId)
+            .step("OrderCreated")
+            .sagaStatus(sagaInstanceStatus)
+            .orderStatus(OrderStatus.PENDING)
+            .createdAt(createdAt)
+            .version(0)
+            .build();
+        sagaInstanceJdbcRepository.save(sagaInstanceEntity);
+        PaymentOutboxEntity paymentOutboxEntity = PaymentOutboxEntity.builder()
+            .id(UUID.randomUUID())
+            .sagaId(sagaInstanceEntity.getSagaId())
+            .createdAt(createdAt)
+            .type(TYPE)
+            .payload("{}")
+            .payloadFormat(OutboxPayloadFormat.JSON)
+            .sagaStatus(SagaStatus.STARTED)
+            .orderStatus(OrderStatus.PENDING)
+            .outboxStatus(outboxStatus)
+            .version(0)
+            .build();
+        paymentOutboxJdbcRepository.save(paymentOutboxEntity);
+        return paymentOutboxEntity.getId();
+    }
+}
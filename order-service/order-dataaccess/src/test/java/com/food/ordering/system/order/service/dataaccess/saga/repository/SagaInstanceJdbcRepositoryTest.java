@@ -0,0 +1,171 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaInstanceEntity;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+public class SagaInstanceJdbcRepositoryTest {
+
+    private static final String TYPE = "OrderProcessingSaga";
+    private static final List<SagaStatus> PARKABLE_SAGA_STATUSES = List.of(SagaStatus.STARTED, SagaStatus.PROCESSING);
+
+    private static final Path INIT_SCHEMA = Path.of("../order-container/src/main/resources/init-schema.sql");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine")
+        .withUrlParam("currentSchema", "order")
+        .withUrlParam("stringtype", "unspecified");
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SagaInstanceJdbcRepository sagaInstanceJdbcRepository;
+    private PaymentOutboxJdbcRepository paymentOutboxJdbcRepository;
+
+    @BeforeEach
+    public void init() throws IOException {
+        DataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                                                            POSTGRES.getUsername(),
+                                                            POSTGRES.getPassword());
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        // The schema script drops and recreates the order schema, it runs as one statement like it does on startup.
+        jdbcTemplate.getJdbcTemplate().execute(Files.readString(INIT_SCHEMA));
+        sagaInstanceJdbcRepository = new SagaInstanceJdbcRepository(jdbcTemplate, new OrderServiceConfigData());
+        paymentOutboxJdbcRepository = new PaymentOutboxJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    public void testStaleVersionIsRejected() {
+        SagaInstanceEntity started = saveSaga(SagaStatus.STARTED);
+
+        assertTrue(sagaInstanceJdbcRepository.updateByIdAndVersion(withSagaStatus(started, SagaStatus.PROCESSING)));
+        assertFalse(sagaInstanceJdbcRepository.updateByIdAndVersion(withSagaStatus(started, SagaStatus.COMPENSATING)));
+        assertFalse(sagaInstanceJdbcRepository.updateAllByIdAndVersion(
+            List.of(withSagaStatus(started, SagaStatus.COMPENSATING))));
+
+        SagaInstanceEntity stored = sagaInstanceJdbcRepository
+            .findByTypeAndSagaIdAndSagaStatusIn(TYPE, started.getSagaId(), List.of(SagaStatus.values()))
+            .orElseThrow();
+        assertEquals(SagaStatus.PROCESSING, stored.getSagaStatus());
+        assertEquals(started.getVersion() + 1, stored.getVersion());
+    }
+
+    @Test
+    public void testBatchLookupReturnsSagasInTheGivenStatuses() {
+        SagaInstanceEntity started = saveSaga(SagaStatus.STARTED);
+        SagaInstanceEntity processing = saveSaga(SagaStatus.PROCESSING);
+        SagaInstanceEntity succeeded = saveSaga(SagaStatus.SUCCEEDED);
+        saveSaga(SagaStatus.STARTED);
+
+        List<SagaInstanceEntity> found = sagaInstanceJdbcRepository.findByTypeAndSagaIdInAndSagaStatusIn(
+            TYPE,
+            List.of(started.getSagaId(), processing.getSagaId(), succeeded.getSagaId()),
+            List.of(SagaStatus.STARTED, SagaStatus.PROCESSING));
+
+        assertEquals(Set.of(started.getSagaId(), processing.getSagaId()),
+                     Set.copyOf(found.stream().map(SagaInstanceEntity::getSagaId).toList()));
+    }
+
+    @Test
+    public void testExpiredSagaIsRedrivenThenParked() {
+        SagaInstanceEntity started = saveSaga(SagaStatus.STARTED);
+        PaymentOutboxEntity paymentOutboxEntity = savePaymentOutbox(started, OutboxStatus.FAILED);
+        expireDeadlines();
+
+        assertEquals(1, sagaInstanceJdbcRepository.redriveExpiredByType(TYPE, 1, 10, PARKABLE_SAGA_STATUSES));
+        assertEquals(OutboxStatus.STARTED, outboxStatus(paymentOutboxEntity.getId()));
+        // A re-driven saga gets a new deadline, so the next run leaves it alone.
+        assertEquals(0, sagaInstanceJdbcRepository.redriveExpiredByType(TYPE, 1, 10, PARKABLE_SAGA_STATUSES));
+
+        expireDeadlines();
+        assertEquals(0, sagaInstanceJdbcRepository.redriveExpiredByType(TYPE, 1, 10, PARKABLE_SAGA_STATUSES));
+        assertEquals(List.of(started.getSagaId()),
+                     sagaInstanceJdbcRepository.parkExpiredByTypeAndSagaStatus(TYPE, 1, 10, SagaStatus.STARTED));
+        assertEquals(OutboxStatus.PARKED, outboxStatus(paymentOutboxEntity.getId()));
+    }
+
+    private SagaInstanceEntity saveSaga(SagaStatus sagaStatus) {
+        SagaInstanceEntity sagaInstanceEntity = SagaInstanceEntity.builder()
+            .sagaId(UUID.randomUUID())
+            .type(TYPE)
+            .orderId(UUID.randomUUID())
+            .step("OrderCreated")
+            .sagaStatus(sagaStatus)
+            .orderStatus(OrderStatus.PENDING)
+            .createdAt(ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS))
+            .version(0)
+            .build();
+        sagaInstanceJdbcRepository.save(sagaInstanceEntity);
+        return sagaInstanceEntity;
+    }
+
+    private PaymentOutboxEntity savePaymentOutbox(SagaInstanceEntity sagaInstanceEntity, OutboxStatus outboxStatus) {
+        PaymentOutboxEntity paymentOutboxEntity = PaymentOutboxEntity.builder()
+            .id(UUID.randomUUID())
+            .sagaId(sagaInstanceEntity.getSagaId())
+            .createdAt(sagaInstanceEntity.getCreatedAt())
+            .type(TYPE)
+            .payload("{}")
+            .payloadFormat(OutboxPayloadFormat.JSON)
+            .sagaStatus(sagaInstanceEntity.getSagaStatus())
+            .orderStatus(sagaInstanceEntity.getOrderStatus())
+            .outboxStatus(outboxStatus)
+            .version(0)
+            .build();
+        paymentOutboxJdbcRepository.save(paymentOutboxEntity);
+        return paymentOutboxEntity;
+    }
+
+    private void expireDeadlines() {
+        jdbcTemplate.getJdbcTemplate().update("UPDATE saga_instance SET saga_deadline = now() - INTERVAL '1 second'");
+    }
+
+    private OutboxStatus outboxStatus(UUID id) {
+        return OutboxStatus.valueOf(jdbcTemplate.queryForObject(
+            "SELECT outbox_status FROM payment_outbox WHERE id = :id",
+            new MapSqlParameterSource("id", id),
+            String.class));
+    }
+
+    private static SagaInstanceEntity withSagaStatus(SagaInstanceEntity sagaInstanceEntity, SagaStatus sagaStatus) {
+        return SagaInstanceEntity.builder()
+            .sagaId(sagaInstanceEntity.getSagaId())
+            .type(sagaInstanceEntity.getType())
+            .orderId(sagaInstanceEntity.getOrderId())
+            .step(sagaInstanceEntity.getStep())
+            .sagaStatus(sagaStatus)
+            .orderStatus(sagaInstanceEntity.getOrderStatus())
+            .createdAt(sagaInstanceEntity.getCreatedAt())
+            .processedAt(ZonedDateTime.now(ZoneOffset.UTC))
+            .version(sagaInstanceEntity.getVersion())
+            .build();
+    }
+}
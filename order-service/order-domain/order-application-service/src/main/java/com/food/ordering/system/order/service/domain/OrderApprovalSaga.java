@@ -1,26 +1,32 @@
 package com.food.ordering.system.order.service.domain;
 
-import static com.food.ordering.system.domain.DomainConstants.UTC;
-import static com.food.ordering.system.saga.SagaStatus.PROCESSING;
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.APPROVAL_STEP;
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.PAYMENT_STEP;
+import static java.util.function.Function.identity;
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
-import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaStepResult;
 import com.food.ordering.system.outbox.OutboxStatus;
-import com.food.ordering.system.saga.SagaStatus;
 import com.food.ordering.system.saga.SagaStep;
-import lombok.RequiredArgsConstructor;
+import com.food.ordering.system.saga.SagaStepExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,97 +36,238 @@ import org.springframework.validation.annotation.Validated;
 @Component
 @Validated
 @Transactional
-@RequiredArgsConstructor
 public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse> {
 
     private final OrderSagaHelper orderSagaHelper;
     private final OrderDomainService orderDomainService;
+    private final SagaInstanceHelper sagaInstanceHelper;
     private final PaymentOutboxHelper paymentOutboxHelper;
-    private final ApprovalOutboxHelper approvalOutboxHelper;
     private final OrderDataMapper orderDataMapper;
+    private final OrderSagaOutcomeCache orderSagaOutcomeCache;
+    private final OrderSagaLatencyMetrics orderSagaLatencyMetrics;
+    private final SagaStepExecutor<RestaurantApprovalResponse, OrderApprovalStatus, OrderSagaInstance>
+        approvalStepExecutor;
+
+    public OrderApprovalSaga(OrderSagaHelper orderSagaHelper,
+                             OrderDomainService orderDomainService,
+                             SagaInstanceHelper sagaInstanceHelper,
+                             PaymentOutboxHelper paymentOutboxHelper,
+                             OrderDataMapper orderDataMapper,
+                             OrderSagaOutcomeCache orderSagaOutcomeCache,
+                             OrderSagaLatencyMetrics orderSagaLatencyMetrics) {
+        this.orderSagaHelper = orderSagaHelper;
+        this.orderDomainService = orderDomainService;
+        this.sagaInstanceHelper = sagaInstanceHelper;
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderDataMapper = orderDataMapper;
+        this.orderSagaOutcomeCache = orderSagaOutcomeCache;
+        this.orderSagaLatencyMetrics = orderSagaLatencyMetrics;
+        this.approvalStepExecutor = new SagaStepExecutor<>(
+            APPROVAL_STEP,
+            RestaurantApprovalResponse::getOrderApprovalStatus,
+            restaurantApprovalResponse -> UUID.fromString(restaurantApprovalResponse.getSagaId()),
+            sagaInstanceHelper::getSagaInstanceBySagaIdAndSagaStatus,
+            sagaInstanceHelper::update);
+    }
 
     @Override
     public void process(RestaurantApprovalResponse restaurantApprovalResponse) {
-        Optional<OrderApprovalOutboxMessage> optionalOrderApprovalOutboxMessage =
-            approvalOutboxHelper.getApprovalOutboxMessageBySagaIdAndSagaStatus(
-                UUID.fromString(restaurantApprovalResponse.getSagaId()),
-                PROCESSING);
-        if (optionalOrderApprovalOutboxMessage.isEmpty()) {
-            log.info("An outbox message with saga id: {} is already processed", restaurantApprovalResponse.getSagaId());
+        if (isProcessed(restaurantApprovalResponse)) {
             return;
         }
-        OrderApprovalOutboxMessage orderApprovalOutboxMessage = optionalOrderApprovalOutboxMessage.get();
-        Order order = approveOrder(restaurantApprovalResponse);
-        SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus());
-        approvalOutboxHelper.save(getUpdatedApprovalOutboxMessage(orderApprovalOutboxMessage,
-                                                                  order.getOrderStatus(),
-                                                                  sagaStatus));
-        paymentOutboxHelper.save(
-            getUpdatedPaymentOutboxMessage(restaurantApprovalResponse.getSagaId(), order.getOrderStatus(), sagaStatus));
-        log.info("Order with id: {} is approved", order.getId().getValue());
+        if (orderSagaHelper.isFusedPersistenceEnabled()) {
+            processFused(restaurantApprovalResponse);
+            markProcessed(restaurantApprovalResponse);
+            return;
+        }
+
+        if (!approvalStepExecutor.execute(restaurantApprovalResponse, this::completeApproval)) {
+            log.info("Saga with id: {} is already processed", restaurantApprovalResponse.getSagaId());
+        }
+        markProcessed(restaurantApprovalResponse);
+    }
+
+    @Override
+    public void processAll(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        List<RestaurantApprovalResponse> unprocessedResponses =
+            restaurantApprovalResponses.stream().filter(not(this::isProcessed)).toList();
+        Map<UUID, OrderSagaInstance> sagaInstances = getSagaInstancesInProcessing(unprocessedResponses);
+        Map<UUID, Order> orders = findOrders(sagaInstances);
+
+        List<Order> approvedOrders = new ArrayList<>();
+        List<OrderSagaInstance> orderSagaInstances = new ArrayList<>();
+        for (RestaurantApprovalResponse restaurantApprovalResponse : unprocessedResponses) {
+            markProcessed(restaurantApprovalResponse);
+            UUID sagaId = UUID.fromString(restaurantApprovalResponse.getSagaId());
+            OrderSagaInstance orderSagaInstance = sagaInstances.remove(sagaId);
+            if (orderSagaInstance == null) {
+                log.info("Saga with id: {} is already processed", sagaId);
+                continue;
+            }
+            Order order = orders.get(orderSagaInstance.getOrderId());
+            orderDomainService.approveOrder(order);
+            approvedOrders.add(order);
+            approvalResponded(restaurantApprovalResponse, orderSagaInstance);
+            orderSagaInstances.add(
+                orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, APPROVAL_STEP, order.getOrderStatus()));
+            orderSagaLatencyMetrics.completed(orderSagaInstance.getCreatedAt(), order.getOrderStatus());
+        }
+        if (approvedOrders.isEmpty()) {
+            return;
+        }
+
+        orderSagaHelper.saveOrderStatuses(approvedOrders);
+        sagaInstanceHelper.updateAll(orderSagaInstances);
+        log.info("{} orders are approved", approvedOrders.size());
     }
 
     @Override
     public void rollback(RestaurantApprovalResponse restaurantApprovalResponse) {
-        Optional<OrderApprovalOutboxMessage> optionalOrderApprovalOutboxMessage =
-            approvalOutboxHelper.getApprovalOutboxMessageBySagaIdAndSagaStatus(
-                UUID.fromString(restaurantApprovalResponse.getSagaId()), PROCESSING);
-        if (optionalOrderApprovalOutboxMessage.isEmpty()) {
-            log.info("An outbox message with saga id: {} is already rolled back!",
-                     restaurantApprovalResponse.getSagaId());
+        if (isProcessed(restaurantApprovalResponse)) {
             return;
         }
-        OrderApprovalOutboxMessage orderApprovalOutboxMessage = optionalOrderApprovalOutboxMessage.get();
+        if (!approvalStepExecutor.execute(restaurantApprovalResponse, this::rejectApproval)) {
+            log.info("Saga with id: {} is already rolled back!", restaurantApprovalResponse.getSagaId());
+        }
+        markProcessed(restaurantApprovalResponse);
+    }
+
+    @Override
+    public void rollbackAll(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        List<RestaurantApprovalResponse> unprocessedResponses =
+            restaurantApprovalResponses.stream().filter(not(this::isProcessed)).toList();
+        Map<UUID, OrderSagaInstance> sagaInstances = getSagaInstancesInProcessing(unprocessedResponses);
+        Map<UUID, Order> orders = findOrders(sagaInstances);
+
+        List<Order> cancellingOrders = new ArrayList<>();
+        List<OrderSagaInstance> orderSagaInstances = new ArrayList<>();
+        List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages = new ArrayList<>();
+        for (RestaurantApprovalResponse restaurantApprovalResponse : unprocessedResponses) {
+            markProcessed(restaurantApprovalResponse);
+            UUID sagaId = UUID.fromString(restaurantApprovalResponse.getSagaId());
+            OrderSagaInstance orderSagaInstance = sagaInstances.remove(sagaId);
+            if (orderSagaInstance == null) {
+                log.info("Saga with id: {} is already rolled back!", sagaId);
+                continue;
+            }
+            Order order = orders.get(orderSagaInstance.getOrderId());
+            OrderCancelledEvent orderCancelledEvent =
+                orderDomainService.cancelOrderPayment(order, restaurantApprovalResponse.getFailureMessages());
+            cancellingOrders.add(order);
+            approvalResponded(restaurantApprovalResponse, orderSagaInstance);
+            orderSagaInstances.add(
+                orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, PAYMENT_STEP, order.getOrderStatus()));
+            orderPaymentOutboxMessages.add(paymentOutboxHelper.createPaymentOutboxMessage(
+                orderDataMapper.orderCancelledEventToOrderPaymentEventPayload(orderCancelledEvent),
+                order.getOrderStatus(),
+                orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus()),
+                OutboxStatus.STARTED,
+                sagaId));
+        }
+        if (cancellingOrders.isEmpty()) {
+            return;
+        }
+
+        orderSagaHelper.saveOrderStatuses(cancellingOrders);
+        sagaInstanceHelper.updateAll(orderSagaInstances);
+        paymentOutboxHelper.saveAll(orderPaymentOutboxMessages);
+        log.info("{} orders are cancelling", cancellingOrders.size());
+    }
+
+    private void processFused(RestaurantApprovalResponse restaurantApprovalResponse) {
+        Instant receivedAt = Instant.now();
+        OrderSagaStepResult orderSagaStepResult =
+            orderSagaHelper.approveOrder(restaurantApprovalResponse.getSagaId(),
+                                         restaurantApprovalResponse.getOrderId(),
+                                         restaurantApprovalResponse.getCreatedAt());
+        switch (orderSagaStepResult.getOutcome()) {
+            case ALREADY_PROCESSED -> log.info("Saga with id: {} is already processed",
+                                               restaurantApprovalResponse.getSagaId());
+            case ORDER_STATE_MISMATCH -> {
+                log.error("Order with id: {} is not in correct state for approve operation",
+                          restaurantApprovalResponse.getOrderId());
+                throw new OrderDomainException("Order is not in correct state for approve operation!");
+            }
+            case APPLIED -> {
+                log.info("Order with id: {} is approved", restaurantApprovalResponse.getOrderId());
+                orderSagaLatencyMetrics.responded(APPROVAL_STEP,
+                                                  orderSagaStepResult.getRequestedAt(),
+                                                  restaurantApprovalResponse.getCreatedAt(),
+                                                  receivedAt);
+                orderSagaLatencyMetrics.completed(orderSagaStepResult.getSagaCreatedAt(), OrderStatus.APPROVED);
+            }
+        }
+    }
+
+    private OrderSagaInstance completeApproval(RestaurantApprovalResponse restaurantApprovalResponse,
+                                               OrderSagaInstance orderSagaInstance) {
+        approvalResponded(restaurantApprovalResponse, orderSagaInstance);
+        Order order = approveOrder(restaurantApprovalResponse);
+        log.info("Order with id: {} is approved", order.getId().getValue());
+        orderSagaLatencyMetrics.completed(orderSagaInstance.getCreatedAt(), order.getOrderStatus());
+        return orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, APPROVAL_STEP, order.getOrderStatus());
+    }
+
+    private OrderSagaInstance rejectApproval(RestaurantApprovalResponse restaurantApprovalResponse,
+                                             OrderSagaInstance orderSagaInstance) {
+        approvalResponded(restaurantApprovalResponse, orderSagaInstance);
         OrderCancelledEvent orderCancelledEvent = rollbackOrder(restaurantApprovalResponse);
-        SagaStatus sagaStatus =
-            orderSagaHelper.orderStatusToSagaStatus(orderCancelledEvent.getOrder().getOrderStatus());
-        approvalOutboxHelper.save(getUpdatedApprovalOutboxMessage(orderApprovalOutboxMessage,
-                                                                  orderCancelledEvent.getOrder()
-                                                                      .getOrderStatus(), sagaStatus));
+        OrderStatus orderStatus = orderCancelledEvent.getOrder().getOrderStatus();
         paymentOutboxHelper.savePaymentOutboxMessage(
             orderDataMapper.orderCancelledEventToOrderPaymentEventPayload(orderCancelledEvent),
-            orderCancelledEvent.getOrder().getOrderStatus(),
-            sagaStatus,
+            orderStatus,
+            orderSagaHelper.orderStatusToSagaStatus(orderStatus),
             OutboxStatus.STARTED,
-            UUID.fromString(restaurantApprovalResponse.getSagaId()));
+            orderSagaInstance.getSagaId());
         log.info("Order with id: {} is cancelled", orderCancelledEvent.getOrder().getId().getValue());
+        return orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, PAYMENT_STEP, orderStatus);
     }
 
-    private Order approveOrder(RestaurantApprovalResponse restaurantApprovalResponse) {
-        log.info("Approving order with id: {}", restaurantApprovalResponse.getOrderId());
-        Order order = orderSagaHelper.findOrder(restaurantApprovalResponse.getOrderId());
-        orderDomainService.approveOrder(order);
-        orderSagaHelper.saveOrder(order);
-        return order;
+    private void approvalResponded(RestaurantApprovalResponse restaurantApprovalResponse,
+                                   OrderSagaInstance orderSagaInstance) {
+        orderSagaInstance.setApprovalRespondedAt(
+            orderSagaHelper.toZonedDateTime(restaurantApprovalResponse.getCreatedAt()));
+        orderSagaLatencyMetrics.responded(APPROVAL_STEP,
+                                          orderSagaInstance.getApprovalRequestedAt(),
+                                          restaurantApprovalResponse.getCreatedAt(),
+                                          Instant.now());
     }
 
-    private OrderApprovalOutboxMessage getUpdatedApprovalOutboxMessage(OrderApprovalOutboxMessage
-                                                                           orderApprovalOutboxMessage,
-                                                                       OrderStatus
-                                                                           orderStatus,
-                                                                       SagaStatus
-                                                                           sagaStatus) {
-        orderApprovalOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderApprovalOutboxMessage.setOrderStatus(orderStatus);
-        orderApprovalOutboxMessage.setSagaStatus(sagaStatus);
-        return orderApprovalOutboxMessage;
+    private boolean isProcessed(RestaurantApprovalResponse restaurantApprovalResponse) {
+        return orderSagaOutcomeCache.isProcessed(restaurantApprovalResponse.getSagaId(),
+                                                 APPROVAL_STEP.getName(),
+                                                 restaurantApprovalResponse.getOrderApprovalStatus());
     }
 
-    private OrderPaymentOutboxMessage getUpdatedPaymentOutboxMessage(String sagaId, OrderStatus orderStatus,
-                                                                     SagaStatus sagaStatus) {
-        Optional<OrderPaymentOutboxMessage> optionalOrderPaymentOutboxMessage =
-            paymentOutboxHelper.getPaymentOutboxByTypeAndSagaIdAndSagaStatus(UUID.fromString(sagaId), PROCESSING);
+    private void markProcessed(RestaurantApprovalResponse restaurantApprovalResponse) {
+        orderSagaOutcomeCache.markProcessed(restaurantApprovalResponse.getSagaId(),
+                                            APPROVAL_STEP.getName(),
+                                            restaurantApprovalResponse.getOrderApprovalStatus());
+    }
 
-        if (optionalOrderPaymentOutboxMessage.isEmpty()) {
-            throw new OrderDomainException(String.format("Payment outbox message cannot be found in %s state!",
-                                                         PROCESSING.name()));
-        }
+    private Map<UUID, OrderSagaInstance> getSagaInstancesInProcessing(
+        List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        Set<UUID> sagaIds = restaurantApprovalResponses.stream()
+            .map(restaurantApprovalResponse -> UUID.fromString(restaurantApprovalResponse.getSagaId()))
+            .collect(toSet());
+        return sagaInstanceHelper
+            .getSagaInstancesBySagaIdsAndSagaStatus(sagaIds, APPROVAL_STEP.getAllExpectedSagaStatuses())
+            .stream()
+            .collect(toMap(OrderSagaInstance::getSagaId, identity()));
+    }
+
+    private Map<UUID, Order> findOrders(Map<UUID, OrderSagaInstance> sagaInstances) {
+        return orderSagaHelper.findOrders(sagaInstances.values().stream()
+                                              .map(OrderSagaInstance::getOrderId)
+                                              .collect(toSet()));
+    }
 
-        OrderPaymentOutboxMessage orderPaymentOutboxMessage = optionalOrderPaymentOutboxMessage.get();
-        orderPaymentOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderPaymentOutboxMessage.setOrderStatus(orderStatus);
-        orderPaymentOutboxMessage.setSagaStatus(sagaStatus);
-        return orderPaymentOutboxMessage;
+    private Order approveOrder(RestaurantApprovalResponse restaurantApprovalResponse) {
+        log.info("Approving order with id: {}", restaurantApprovalResponse.getOrderId());
+        Order order = orderSagaHelper.findOrder(restaurantApprovalResponse.getOrderId());
+        orderDomainService.approveOrder(order);
+        orderSagaHelper.saveOrder(order);
+        return order;
     }
 
     private OrderCancelledEvent rollbackOrder(RestaurantApprovalResponse restaurantApprovalResponse) {
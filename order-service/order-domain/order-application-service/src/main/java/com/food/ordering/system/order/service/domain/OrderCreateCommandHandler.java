@@ -1,12 +1,18 @@
 package com.food.ordering.system.order.service.domain;
 
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.PAYMENT_STEP;
 import static java.util.UUID.randomUUID;
 
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,6 +27,7 @@ public class OrderCreateCommandHandler {
     private final OrderDataMapper orderDataMapper;
     private final PaymentOutboxHelper paymentOutboxHelper;
     private final OrderSagaHelper orderSagaHelper;
+    private final SagaInstanceHelper sagaInstanceHelper;
 
     @Transactional
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
@@ -29,11 +36,19 @@ public class OrderCreateCommandHandler {
         CreateOrderResponse createOrderResponse =
             orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(),
                                                        "Order created successfully");
+        UUID sagaId = randomUUID();
+        OrderStatus orderStatus = orderCreatedEvent.getOrder().getOrderStatus();
+        SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(orderStatus);
+        sagaInstanceHelper.saveSagaInstance(sagaId,
+                                            orderCreatedEvent.getOrder().getId().getValue(),
+                                            PAYMENT_STEP.getName(),
+                                            orderStatus,
+                                            sagaStatus);
         paymentOutboxHelper.savePaymentOutboxMessage(
             orderDataMapper.orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent),
-            orderCreatedEvent.getOrder().getOrderStatus(),
-            orderSagaHelper.orderStatusToSagaStatus(orderCreatedEvent.getOrder().getOrderStatus()),
-            OutboxStatus.STARTED, randomUUID());
+            orderStatus,
+            sagaStatus,
+            OutboxStatus.STARTED, sagaId);
 
         log.info("Returning CreateOrderResponse with order id: {}", orderCreatedEvent.getOrder().getId().getValue());
         return createOrderResponse;
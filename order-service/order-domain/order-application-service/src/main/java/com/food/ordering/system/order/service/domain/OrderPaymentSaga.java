@@ -1,12 +1,21 @@
 package com.food.ordering.system.order.service.domain;
 
-import static com.food.ordering.system.domain.DomainConstants.UTC;
-import static com.food.ordering.system.saga.SagaStatus.COMPENSATING;
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.APPROVAL_STEP;
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.PAYMENT_STEP;
 import static java.util.UUID.fromString;
+import static java.util.function.Function.identity;
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
@@ -16,12 +25,13 @@ import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
-import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaStepResult;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import com.food.ordering.system.saga.SagaStep;
-import lombok.RequiredArgsConstructor;
+import com.food.ordering.system.saga.SagaStepExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,77 +41,216 @@ import org.springframework.validation.annotation.Validated;
 @Component
 @Validated
 @Transactional
-@RequiredArgsConstructor
 public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
 
     private final OrderSagaHelper orderSagaHelper;
     private final OrderDomainService orderDomainService;
-    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final SagaInstanceHelper sagaInstanceHelper;
     private final ApprovalOutboxHelper approvalOutboxHelper;
     private final OrderDataMapper orderDataMapper;
+    private final OrderSagaOutcomeCache orderSagaOutcomeCache;
+    private final OrderSagaLatencyMetrics orderSagaLatencyMetrics;
+    private final SagaStepExecutor<PaymentResponse, PaymentStatus, OrderSagaInstance> paymentStepExecutor;
+
+    public OrderPaymentSaga(OrderSagaHelper orderSagaHelper,
+                            OrderDomainService orderDomainService,
+                            SagaInstanceHelper sagaInstanceHelper,
+                            ApprovalOutboxHelper approvalOutboxHelper,
+                            OrderDataMapper orderDataMapper,
+                            OrderSagaOutcomeCache orderSagaOutcomeCache,
+                            OrderSagaLatencyMetrics orderSagaLatencyMetrics) {
+        this.orderSagaHelper = orderSagaHelper;
+        this.orderDomainService = orderDomainService;
+        this.sagaInstanceHelper = sagaInstanceHelper;
+        this.approvalOutboxHelper = approvalOutboxHelper;
+        this.orderDataMapper = orderDataMapper;
+        this.orderSagaOutcomeCache = orderSagaOutcomeCache;
+        this.orderSagaLatencyMetrics = orderSagaLatencyMetrics;
+        this.paymentStepExecutor = new SagaStepExecutor<>(
+            PAYMENT_STEP,
+            PaymentResponse::getPaymentStatus,
+            paymentResponse -> fromString(paymentResponse.getSagaId()),
+            sagaInstanceHelper::getSagaInstanceBySagaIdAndSagaStatus,
+            sagaInstanceHelper::update);
+    }
 
     @Override
     public void process(PaymentResponse paymentResponse) {
-        Optional<OrderPaymentOutboxMessage> optionalOrderPaymentOutboxMessage =
-            paymentOutboxHelper.getPaymentOutboxByTypeAndSagaIdAndSagaStatus(
-                fromString(paymentResponse.getSagaId()),
-                SagaStatus.STARTED);
-
-        if (optionalOrderPaymentOutboxMessage.isEmpty()) {
-            log.info("An outbox message with saga id: {} is already processed!", paymentResponse.getSagaId());
+        if (isProcessed(paymentResponse)) {
+            return;
+        }
+        if (orderSagaHelper.isFusedPersistenceEnabled()) {
+            processFused(paymentResponse);
+            markProcessed(paymentResponse);
             return;
         }
 
-        OrderPaidEvent orderPaidEvent = completePaymentForOrder(paymentResponse);
-
-        SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(orderPaidEvent.getOrder().getOrderStatus());
+        if (!paymentStepExecutor.execute(paymentResponse, this::completePayment)) {
+            log.info("Saga with id: {} is already processed!", paymentResponse.getSagaId());
+        }
+        markProcessed(paymentResponse);
+    }
 
-        paymentOutboxHelper.save(getUpdatedOrderPaymentOutboxMessage(optionalOrderPaymentOutboxMessage.get(),
-                                                                     orderPaidEvent.getOrder().getOrderStatus(),
-                                                                     sagaStatus));
+    @Override
+    public void processAll(List<PaymentResponse> paymentResponses) {
+        List<PaymentResponse> unprocessedResponses = paymentResponses.stream().filter(not(this::isProcessed)).toList();
+        Map<UUID, OrderSagaInstance> sagaInstances = sagaInstanceHelper
+            .getSagaInstancesBySagaIdsAndSagaStatus(
+                getSagaIds(unprocessedResponses), PAYMENT_STEP.getExpectedSagaStatuses(PaymentStatus.COMPLETED))
+            .stream()
+            .collect(toMap(OrderSagaInstance::getSagaId, identity()));
+        Map<UUID, Order> orders = orderSagaHelper.findOrders(getOrderIds(sagaInstances.values()));
 
-        approvalOutboxHelper.saveApprovalOutboxMessage(
-            orderDataMapper.orderPaidEventToOrderApprovalEventPayload(orderPaidEvent),
-            orderPaidEvent.getOrder().getOrderStatus(),
-            sagaStatus,
-            OutboxStatus.STARTED,
-            fromString(paymentResponse.getSagaId()));
+        List<Order> paidOrders = new ArrayList<>();
+        List<OrderSagaInstance> orderSagaInstances = new ArrayList<>();
+        List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages = new ArrayList<>();
+        for (PaymentResponse paymentResponse : unprocessedResponses) {
+            markProcessed(paymentResponse);
+            OrderSagaInstance orderSagaInstance = sagaInstances.remove(fromString(paymentResponse.getSagaId()));
+            if (orderSagaInstance == null) {
+                log.info("Saga with id: {} is already processed!", paymentResponse.getSagaId());
+                continue;
+            }
+            Order order = orders.get(orderSagaInstance.getOrderId());
+            OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
+            paidOrders.add(order);
+            paymentResponded(paymentResponse, orderSagaInstance);
+            orderSagaInstances.add(
+                orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, APPROVAL_STEP, order.getOrderStatus()));
+            orderApprovalOutboxMessages.add(approvalOutboxHelper.createApprovalOutboxMessage(
+                orderDataMapper.orderPaidEventToOrderApprovalEventPayload(orderPaidEvent),
+                order.getOrderStatus(),
+                orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus()),
+                OutboxStatus.STARTED,
+                orderSagaInstance.getSagaId()));
+        }
+        if (paidOrders.isEmpty()) {
+            return;
+        }
 
-        log.info("Order with id: {} is paid", orderPaidEvent.getOrder().getId().getValue());
+        orderSagaHelper.saveOrderStatuses(paidOrders);
+        sagaInstanceHelper.updateAll(orderSagaInstances);
+        approvalOutboxHelper.saveAll(orderApprovalOutboxMessages);
+        log.info("{} orders are paid", paidOrders.size());
     }
 
     @Override
     public void rollback(PaymentResponse paymentResponse) {
-        Optional<OrderPaymentOutboxMessage> orderPaymentOutboxMessageResponse =
-            paymentOutboxHelper.getPaymentOutboxByTypeAndSagaIdAndSagaStatus(fromString(paymentResponse.getSagaId()),
-                                                                             getCurrentSagaStatus(
-                                                                                 paymentResponse.getPaymentStatus()));
-        if (orderPaymentOutboxMessageResponse.isEmpty()) {
-            log.info("An outbox message with saga id: {} is already rolled back", paymentResponse.getSagaId());
+        if (isProcessed(paymentResponse)) {
             return;
         }
-        OrderPaymentOutboxMessage orderPaymentOutboxMessage = orderPaymentOutboxMessageResponse.get();
-        Order order = rollbackPaymentForOrder(paymentResponse);
-        SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus());
+        if (!paymentStepExecutor.execute(paymentResponse, this::rollbackPayment)) {
+            log.info("Saga with id: {} is already rolled back", paymentResponse.getSagaId());
+        }
+        markProcessed(paymentResponse);
+    }
+
+    @Override
+    public void rollbackAll(List<PaymentResponse> paymentResponses) {
+        List<PaymentResponse> unprocessedResponses = paymentResponses.stream().filter(not(this::isProcessed)).toList();
+        Map<UUID, OrderSagaInstance> sagaInstances = sagaInstanceHelper
+            .getSagaInstancesBySagaIdsAndSagaStatus(getSagaIds(unprocessedResponses),
+                                                    PAYMENT_STEP.getAllExpectedSagaStatuses())
+            .stream()
+            .collect(toMap(OrderSagaInstance::getSagaId, identity()));
+
+        Map<PaymentResponse, OrderSagaInstance> rollbacks = new LinkedHashMap<>();
+        for (PaymentResponse paymentResponse : unprocessedResponses) {
+            markProcessed(paymentResponse);
+            OrderSagaInstance orderSagaInstance = sagaInstances.get(fromString(paymentResponse.getSagaId()));
+            if (orderSagaInstance == null
+                || !PAYMENT_STEP.isExpected(paymentResponse.getPaymentStatus(), orderSagaInstance.getSagaStatus())) {
+                log.info("Saga with id: {} is already rolled back", paymentResponse.getSagaId());
+                continue;
+            }
+            sagaInstances.remove(orderSagaInstance.getSagaId());
+            rollbacks.put(paymentResponse, orderSagaInstance);
+        }
+        if (rollbacks.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Order> orders = orderSagaHelper.findOrders(getOrderIds(rollbacks.values()));
+        List<Order> cancelledOrders = new ArrayList<>();
+        List<OrderSagaInstance> orderSagaInstances = new ArrayList<>();
+        rollbacks.forEach((paymentResponse, orderSagaInstance) -> {
+            Order order = orders.get(orderSagaInstance.getOrderId());
+            orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+            cancelledOrders.add(order);
+            paymentResponded(paymentResponse, orderSagaInstance);
+            orderSagaInstances.add(
+                orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, PAYMENT_STEP, order.getOrderStatus()));
+            orderSagaLatencyMetrics.completed(orderSagaInstance.getCreatedAt(), order.getOrderStatus());
+        });
 
-        paymentOutboxHelper.save(
-            getUpdatedOrderPaymentOutboxMessage(orderPaymentOutboxMessage, order.getOrderStatus(), sagaStatus));
+        orderSagaHelper.saveOrderStatuses(cancelledOrders);
+        sagaInstanceHelper.updateAll(orderSagaInstances);
+        log.info("{} orders are cancelled", cancelledOrders.size());
+    }
 
-        if (paymentResponse.getPaymentStatus() == PaymentStatus.CANCELLED) {
-            approvalOutboxHelper.save(
-                getUpdatedApprovalOutboxMessage(paymentResponse.getSagaId(), order.getOrderStatus(), sagaStatus));
+    private void processFused(PaymentResponse paymentResponse) {
+        Instant receivedAt = Instant.now();
+        OrderApprovalOutboxMessage orderApprovalOutboxMessage = approvalOutboxHelper.createApprovalOutboxMessage(
+            orderDataMapper.paymentResponseToOrderApprovalEventPayload(paymentResponse),
+            OrderStatus.PAID,
+            orderSagaHelper.orderStatusToSagaStatus(OrderStatus.PAID),
+            OutboxStatus.STARTED,
+            fromString(paymentResponse.getSagaId()));
+
+        OrderSagaStepResult orderSagaStepResult = orderSagaHelper.payOrder(paymentResponse.getOrderId(),
+                                                                           paymentResponse.getCreatedAt(),
+                                                                           APPROVAL_STEP,
+                                                                           orderApprovalOutboxMessage);
+        switch (orderSagaStepResult.getOutcome()) {
+            case ALREADY_PROCESSED -> log.info("Saga with id: {} is already processed!", paymentResponse.getSagaId());
+            case ORDER_STATE_MISMATCH -> {
+                log.error("Order with id: {} is not in correct state for pay operation", paymentResponse.getOrderId());
+                throw new OrderDomainException("Order is not in correct state for pay operation!");
+            }
+            case APPLIED -> {
+                log.info("Order with id: {} is paid", paymentResponse.getOrderId());
+                orderSagaLatencyMetrics.responded(PAYMENT_STEP,
+                                                  orderSagaStepResult.getRequestedAt(),
+                                                  paymentResponse.getCreatedAt(),
+                                                  receivedAt);
+            }
         }
+    }
+
+    private OrderSagaInstance completePayment(PaymentResponse paymentResponse, OrderSagaInstance orderSagaInstance) {
+        paymentResponded(paymentResponse, orderSagaInstance);
+        OrderPaidEvent orderPaidEvent = completePaymentForOrder(paymentResponse);
+        OrderStatus orderStatus = orderPaidEvent.getOrder().getOrderStatus();
+
+        approvalOutboxHelper.saveApprovalOutboxMessage(
+            orderDataMapper.orderPaidEventToOrderApprovalEventPayload(orderPaidEvent),
+            orderStatus,
+            orderSagaHelper.orderStatusToSagaStatus(orderStatus),
+            OutboxStatus.STARTED,
+            orderSagaInstance.getSagaId());
+
+        log.info("Order with id: {} is paid", orderPaidEvent.getOrder().getId().getValue());
+        return orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, APPROVAL_STEP, orderStatus);
+    }
+
+    private OrderSagaInstance rollbackPayment(PaymentResponse paymentResponse, OrderSagaInstance orderSagaInstance) {
+        paymentResponded(paymentResponse, orderSagaInstance);
+        Order order = rollbackPaymentForOrder(paymentResponse);
         log.info("Order with id: {} is cancelled", order.getId().getValue());
+        orderSagaLatencyMetrics.completed(orderSagaInstance.getCreatedAt(), order.getOrderStatus());
+        return orderSagaHelper.getUpdatedSagaInstance(orderSagaInstance, PAYMENT_STEP, order.getOrderStatus());
     }
 
-    private OrderPaymentOutboxMessage getUpdatedOrderPaymentOutboxMessage(
-        OrderPaymentOutboxMessage orderPaymentOutboxMessage,
-        OrderStatus orderStatus,
-        SagaStatus sagaStatus) {
-        orderPaymentOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderPaymentOutboxMessage.setOrderStatus(orderStatus);
-        orderPaymentOutboxMessage.setSagaStatus(sagaStatus);
-        return orderPaymentOutboxMessage;
+    private void paymentResponded(PaymentResponse paymentResponse, OrderSagaInstance orderSagaInstance) {
+        // The response to a payment cancellation is part of the compensation, not of the payment request hop.
+        if (orderSagaInstance.getSagaStatus() != SagaStatus.STARTED) {
+            return;
+        }
+        orderSagaInstance.setPaymentRespondedAt(orderSagaHelper.toZonedDateTime(paymentResponse.getCreatedAt()));
+        orderSagaLatencyMetrics.responded(PAYMENT_STEP,
+                                          orderSagaInstance.getPaymentRequestedAt(),
+                                          paymentResponse.getCreatedAt(),
+                                          Instant.now());
     }
 
     private OrderPaidEvent completePaymentForOrder(PaymentResponse paymentResponse) {
@@ -112,14 +261,6 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
         return orderPaidEvent;
     }
 
-    private SagaStatus[] getCurrentSagaStatus(PaymentStatus paymentStatus) {
-        return switch (paymentStatus) {
-            case COMPLETED -> new SagaStatus[]{SagaStatus.STARTED};
-            case CANCELLED -> new SagaStatus[]{SagaStatus.PROCESSING};
-            case FAILED -> new SagaStatus[]{SagaStatus.STARTED, SagaStatus.PROCESSING};
-        };
-    }
-
     private Order rollbackPaymentForOrder(PaymentResponse paymentResponse) {
         log.info("Cancelling order with id: {}", paymentResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
@@ -128,22 +269,25 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
         return order;
     }
 
-    private OrderApprovalOutboxMessage getUpdatedApprovalOutboxMessage(String sagaId,
-                                                                       OrderStatus orderStatus,
-                                                                       SagaStatus sagaStatus) {
-        Optional<OrderApprovalOutboxMessage> optionalOrderApprovalOutboxMessage =
-            approvalOutboxHelper.getApprovalOutboxMessageBySagaIdAndSagaStatus(fromString(sagaId), COMPENSATING);
+    private boolean isProcessed(PaymentResponse paymentResponse) {
+        return orderSagaOutcomeCache.isProcessed(paymentResponse.getSagaId(),
+                                                 PAYMENT_STEP.getName(),
+                                                 paymentResponse.getPaymentStatus());
+    }
 
-        if (optionalOrderApprovalOutboxMessage.isEmpty()) {
-            throw new OrderDomainException(
-                String.format("Approval outbox message could not be found in %s status!", COMPENSATING.name()));
-        }
+    private void markProcessed(PaymentResponse paymentResponse) {
+        orderSagaOutcomeCache.markProcessed(paymentResponse.getSagaId(),
+                                            PAYMENT_STEP.getName(),
+                                            paymentResponse.getPaymentStatus());
+    }
 
-        OrderApprovalOutboxMessage orderApprovalOutboxMessage = optionalOrderApprovalOutboxMessage.get();
-        orderApprovalOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderApprovalOutboxMessage.setOrderStatus(orderStatus);
-        orderApprovalOutboxMessage.setSagaStatus(sagaStatus);
+    private Set<UUID> getSagaIds(List<PaymentResponse> paymentResponses) {
+        return paymentResponses.stream()
+            .map(paymentResponse -> fromString(paymentResponse.getSagaId()))
+            .collect(toSet());
+    }
 
-        return orderApprovalOutboxMessage;
+    private Set<UUID> getOrderIds(Collection<OrderSagaInstance> orderSagaInstances) {
+        return orderSagaInstances.stream().map(OrderSagaInstance::getOrderId).collect(toSet());
     }
 }
@@ -1,23 +1,41 @@
 package com.food.ordering.system.order.service.domain;
 
-import static com.food.ordering.system.saga.SagaStatus.COMPENSATED;
-import static com.food.ordering.system.saga.SagaStatus.COMPENSATING;
-import static com.food.ordering.system.saga.SagaStatus.PROCESSING;
-import static com.food.ordering.system.saga.SagaStatus.STARTED;
-import static com.food.ordering.system.saga.SagaStatus.SUCCEEDED;
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.ORDER_SAGA;
+import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 import static java.lang.String.format;
 import static java.util.UUID.fromString;
+import static java.util.function.Function.identity;
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toMap;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaStepResult;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
 import com.food.ordering.system.saga.SagaStatus;
+import com.food.ordering.system.saga.SagaStepDefinition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -26,6 +44,8 @@ import org.springframework.stereotype.Component;
 public class OrderSagaHelper {
 
     private final OrderRepository orderRepository;
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
 
     Order findOrder(String orderId) {
         Optional<Order> optionalOrder = orderRepository.findById(new OrderId(fromString(orderId)));
@@ -36,17 +56,103 @@ public class OrderSagaHelper {
         return optionalOrder.get();
     }
 
+    Map<UUID, Order> findOrders(Collection<UUID> orderIds) {
+        Map<UUID, Order> orders = orderRepository.findAllById(orderIds.stream().map(OrderId::new).toList()).stream()
+            .collect(toMap(order -> order.getId().getValue(), identity()));
+        orderIds.stream().filter(not(orders::containsKey)).findFirst().ifPresent(orderId -> {
+            log.error("Could not find order with id: {}", orderId);
+            throw new OrderNotFoundException(format("Could not find order with id: %s", orderId));
+        });
+        return orders;
+    }
+
     void saveOrder(Order order) {
         orderRepository.save(order);
     }
 
+    void saveOrderStatuses(List<Order> orders) {
+        if (!orderSagaRepository.updateOrderStatuses(orders)) {
+            log.error("Could not update statuses of {} orders", orders.size());
+            throw new OrderDomainException(format("Could not update statuses of %d orders", orders.size()));
+        }
+    }
+
     SagaStatus orderStatusToSagaStatus(OrderStatus orderStatus) {
-        return switch (orderStatus) {
-            case PAID -> PROCESSING;
-            case APPROVED -> SUCCEEDED;
-            case CANCELLING -> COMPENSATING;
-            case CANCELLED -> COMPENSATED;
-            default -> STARTED;
-        };
+        return ORDER_SAGA.getSagaStatus(orderStatus);
+    }
+
+    OrderSagaInstance getUpdatedSagaInstance(OrderSagaInstance orderSagaInstance,
+                                             SagaStepDefinition<?> step,
+                                             OrderStatus orderStatus) {
+        orderSagaInstance.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
+        orderSagaInstance.setStep(step.getName());
+        orderSagaInstance.setOrderStatus(orderStatus);
+        orderSagaInstance.setSagaStatus(orderStatusToSagaStatus(orderStatus));
+        return orderSagaInstance;
+    }
+
+    boolean isBatchProcessingEnabled() {
+        return orderServiceConfigData.isSagaBatchEnabled();
+    }
+
+    boolean isFusedPersistenceEnabled() {
+        // The fused statements build the approval payload as jsonb, so AVRO outboxes keep the aggregate path.
+        return orderServiceConfigData.isSagaFusedPersistenceEnabled()
+            && orderServiceConfigData.getOutboxPayloadFormat() == OutboxPayloadFormat.JSON;
+    }
+
+    ZonedDateTime toZonedDateTime(Instant instant) {
+        return instant == null ? null : ZonedDateTime.ofInstant(instant, ZoneId.of(UTC));
+    }
+
+    OrderSagaStepResult payOrder(String orderId,
+                                 Instant respondedAt,
+                                 SagaStepDefinition<?> nextStep,
+                                 OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        return orderSagaRepository.payOrder(new OrderId(fromString(orderId)),
+                                            ZonedDateTime.now(ZoneId.of(UTC)),
+                                            toZonedDateTime(respondedAt),
+                                            orderStatusToSagaStatus(OrderStatus.PAID),
+                                            nextStep.getName(),
+                                            orderApprovalOutboxMessage);
+    }
+
+    OrderSagaStepResult approveOrder(String sagaId, String orderId, Instant respondedAt) {
+        return orderSagaRepository.approveOrder(ORDER_SAGA_NAME,
+                                                fromString(sagaId),
+                                                new OrderId(fromString(orderId)),
+                                                ZonedDateTime.now(ZoneId.of(UTC)),
+                                                toZonedDateTime(respondedAt),
+                                                orderStatusToSagaStatus(OrderStatus.APPROVED));
+    }
+
+    void retryOnConflict(String sagaId, Runnable sagaStep) {
+        int maxAttempts = orderServiceConfigData.getSagaRetryMaxAttempts();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                sagaStep.run();
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Saga with id: {} could not be applied after {} attempts", sagaId, attempt);
+                    throw e;
+                }
+                log.warn("Saga with id: {} conflicted with a concurrent update, retrying attempt {} of {}",
+                         sagaId,
+                         attempt + 1,
+                         maxAttempts);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException e) {
+        long backoffMillis = orderServiceConfigData.getSagaRetryBackoff().toMillis() * attempt;
+        try {
+            Thread.sleep(backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis + 1));
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.food.ordering.system.order.service.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.saga.SagaStepDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class OrderSagaLatencyMetrics {
+
+    private static final String STEP_LATENCY = "saga.step.latency";
+    private static final String SAGA_LATENCY = "saga.latency";
+
+    private final MeterRegistry meterRegistry;
+
+    public void requested(SagaStepDefinition<?> step, ZonedDateTime createdAt) {
+        Instant requestedAt = Instant.now();
+        afterCommit(() -> recordStep(step, "dispatch", createdAt.toInstant(), requestedAt));
+    }
+
+    public void responded(SagaStepDefinition<?> step,
+                          ZonedDateTime requestedAt,
+                          Instant respondedAt,
+                          Instant receivedAt) {
+        afterCommit(() -> {
+            if (respondedAt != null) {
+                if (requestedAt != null) {
+                    recordStep(step, "participant", requestedAt.toInstant(), respondedAt);
+                }
+                recordStep(step, "queue", respondedAt, receivedAt);
+            }
+            recordStep(step, "processing", receivedAt, Instant.now());
+        });
+    }
+
+    public void completed(ZonedDateTime sagaCreatedAt, OrderStatus orderStatus) {
+        afterCommit(() -> record(Timer.builder(SAGA_LATENCY).tag("order_status", orderStatus.name()),
+                                 sagaCreatedAt.toInstant(),
+                                 Instant.now()));
+    }
+
+    private void recordStep(SagaStepDefinition<?> step, String phase, Instant from, Instant to) {
+        record(Timer.builder(STEP_LATENCY).tag("step", step.getName()).tag("phase", phase), from, to);
+    }
+
+    private void record(Timer.Builder timer, Instant from, Instant to) {
+        Duration elapsed = Duration.between(from, to);
+        // Participant timestamps come from another clock, a skewed negative hop is dropped instead of recorded.
+        if (!elapsed.isNegative()) {
+            timer.publishPercentileHistogram().register(meterRegistry).record(elapsed);
+        }
+    }
+
+    private void afterCommit(Runnable recording) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recording.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recording.run();
+            }
+        });
+    }
+}
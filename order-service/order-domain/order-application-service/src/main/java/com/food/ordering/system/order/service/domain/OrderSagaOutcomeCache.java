@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.domain;
+
+import static java.util.UUID.fromString;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.saga.SagaOutcomeCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class OrderSagaOutcomeCache {
+
+    private final SagaOutcomeCache sagaOutcomeCache;
+
+    public OrderSagaOutcomeCache(OrderServiceConfigData orderServiceConfigData, MeterRegistry meterRegistry) {
+        this.sagaOutcomeCache = new SagaOutcomeCache(orderServiceConfigData.getSagaOutcomeCacheMaxSize(),
+                                                     orderServiceConfigData.getSagaOutcomeCacheTtl());
+        FunctionCounter.builder("saga.outcome.cache.hits", sagaOutcomeCache, SagaOutcomeCache::hitCount)
+            .register(meterRegistry);
+        FunctionCounter.builder("saga.outcome.cache.misses", sagaOutcomeCache, SagaOutcomeCache::missCount)
+            .register(meterRegistry);
+        Gauge.builder("saga.outcome.cache.size", sagaOutcomeCache, SagaOutcomeCache::size)
+            .register(meterRegistry);
+    }
+
+    boolean isProcessed(String sagaId, String step, Enum<?> status) {
+        if (sagaOutcomeCache.contains(fromString(sagaId), step, status)) {
+            log.info("Saga with id: {} has already processed {} {} response", sagaId, step, status);
+            return true;
+        }
+        return false;
+    }
+
+    void markProcessed(String sagaId, String step, Enum<?> status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sagaOutcomeCache.put(fromString(sagaId), step, status);
+            return;
+        }
+        // Only committed outcomes are cached, a rolled back step must be retried against the database.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sagaOutcomeCache.put(fromString(sagaId), step, status);
+            }
+        });
+    }
+}
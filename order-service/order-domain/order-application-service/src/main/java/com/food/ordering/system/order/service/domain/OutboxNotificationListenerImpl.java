@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.domain;
+
+import javax.annotation.PreDestroy;
+
+import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.RestaurantApprovalOutboxScheduler;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxScheduler;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.outbox.OutboxNotificationListener;
+import com.food.ordering.system.outbox.OutboxWakeup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class OutboxNotificationListenerImpl implements OutboxNotificationListener {
+
+    private final OutboxWakeup paymentOutboxWakeup;
+    private final OutboxWakeup approvalOutboxWakeup;
+
+    public OutboxNotificationListenerImpl(PaymentOutboxScheduler paymentOutboxScheduler,
+                                          RestaurantApprovalOutboxScheduler restaurantApprovalOutboxScheduler) {
+        this.paymentOutboxWakeup = new OutboxWakeup("payment-outbox-wakeup", paymentOutboxScheduler);
+        this.approvalOutboxWakeup = new OutboxWakeup("approval-outbox-wakeup", restaurantApprovalOutboxScheduler);
+    }
+
+    @Override
+    public void paymentOutboxNotified() {
+        log.debug("Payment outbox notification received, waking up PaymentOutboxScheduler");
+        paymentOutboxWakeup.wakeup();
+    }
+
+    @Override
+    public void approvalOutboxNotified() {
+        log.debug("Approval outbox notification received, waking up RestaurantApprovalOutboxScheduler");
+        approvalOutboxWakeup.wakeup();
+    }
+
+    @PreDestroy
+    public void close() {
+        paymentOutboxWakeup.close();
+        approvalOutboxWakeup.close();
+    }
+}
@@ -1,24 +1,37 @@
 package com.food.ordering.system.order.service.domain;
 
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.PAYMENT_STEP;
 import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 import static java.lang.String.format;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.OutboxPayloadEncoder;
 import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaInstanceRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxEncodedPayload;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -27,7 +40,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentOutboxHelper {
 
     private final PaymentOutboxRepository paymentOutboxRepository;
+    private final SagaInstanceRepository sagaInstanceRepository;
     private final ObjectMapper objectMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OutboxPayloadEncoder outboxPayloadEncoder;
+    private final OrderSagaLatencyMetrics orderSagaLatencyMetrics;
 
     @Transactional(readOnly = true)
     public Optional<List<OrderPaymentOutboxMessage>> getPaymentOutboxMessageByOutboxStatusAndSagaStatus(
@@ -38,9 +55,60 @@ public class PaymentOutboxHelper {
     }
 
     @Transactional(readOnly = true)
-    public Optional<OrderPaymentOutboxMessage> getPaymentOutboxByTypeAndSagaIdAndSagaStatus(UUID sagaId,
-                                                                                            SagaStatus... sagaStatus) {
-        return paymentOutboxRepository.findByTypeAndSagaIdAndSagaStatus(ORDER_SAGA_NAME, sagaId, sagaStatus);
+    public List<OrderPaymentOutboxMessage> getPaymentOutboxMessagePageByOutboxStatusAndSagaStatus(
+        OutboxCursor after, int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        return paymentOutboxRepository.findPageByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME,
+            outboxStatus,
+            after,
+            limit,
+            sagaStatuses);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderPaymentOutboxMessage> getPaymentOutboxMessageRedrivePage(SagaRedriveFilter sagaRedriveFilter,
+                                                                              OutboxCursor after,
+                                                                              int limit) {
+        return paymentOutboxRepository.findRedrivePageByType(ORDER_SAGA_NAME, sagaRedriveFilter, after, limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderPaymentOutboxMessage> claimPaymentOutboxMessageByOutboxStatusAndSagaStatus(
+        int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        return paymentOutboxRepository.claimByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME,
+            outboxStatus,
+            orderServiceConfigData.getInstanceId(),
+            orderServiceConfigData.getOutboxSchedulerClaimLease(),
+            limit,
+            sagaStatuses);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderPaymentOutboxMessage> claimPaymentOutboxMessageShardByOutboxStatusAndSagaStatus(
+        Set<Integer> shards, int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+        return paymentOutboxRepository.claimShardByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME,
+            outboxStatus,
+            orderServiceConfigData.getInstanceId(),
+            orderServiceConfigData.getOutboxSchedulerClaimLease(),
+            limit,
+            orderServiceConfigData.getOutboxSchedulerShardCount(),
+            shards,
+            sagaStatuses);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderPaymentOutboxMessage> claimRetryablePaymentOutboxMessageBySagaStatus(
+        int limit, SagaStatus... sagaStatuses) {
+        return paymentOutboxRepository.claimRetryableByTypeAndSagaStatus(
+            ORDER_SAGA_NAME,
+            orderServiceConfigData.getOutboxSchedulerClaimLease(),
+            limit,
+            sagaStatuses);
     }
 
     @Transactional
@@ -55,22 +123,75 @@ public class PaymentOutboxHelper {
         log.info("OrderPaymentOutboxMessage saved with outbox id: {}", orderPaymentOutboxMessage.getId());
     }
 
+    @Transactional
+    public void updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys) {
+        if (outboxStatus == OutboxStatus.FAILED) {
+            scheduleRetryByKeys(keys);
+            return;
+        }
+        int updated = paymentOutboxRepository.updateOutboxStatusByKeys(outboxStatus, keys);
+        log.info("{} OrderPaymentOutboxMessages updated with outbox status: {}", updated, outboxStatus.name());
+        if (outboxStatus == OutboxStatus.COMPLETED) {
+            sagaInstanceRepository.updatePaymentRequestedAtByOutboxKeys(keys)
+                .forEach(createdAt -> orderSagaLatencyMetrics.requested(PAYMENT_STEP, createdAt));
+        }
+    }
+
+    private void scheduleRetryByKeys(List<OutboxCursor> keys) {
+        List<UUID> parkedIds = paymentOutboxRepository.scheduleRetryByKeys(keys, getRetryPolicy());
+        log.info("{} OrderPaymentOutboxMessages scheduled for retry", keys.size() - parkedIds.size());
+        if (!parkedIds.isEmpty()) {
+            log.warn("{} OrderPaymentOutboxMessages parked after {} attempts, ids: {}",
+                     parkedIds.size(),
+                     orderServiceConfigData.getOutboxRetryMaxAttempts(),
+                     parkedIds);
+        }
+    }
+
+    @Transactional
+    public void saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        List<OrderPaymentOutboxMessage> response = paymentOutboxRepository.saveAll(orderPaymentOutboxMessages);
+        if (response == null || response.size() != orderPaymentOutboxMessages.size()) {
+            log.error("Could not save {} OrderPaymentOutboxMessages", orderPaymentOutboxMessages.size());
+            throw new OrderDomainException(
+                format("Could not save %d OrderPaymentOutboxMessages", orderPaymentOutboxMessages.size()));
+        }
+        log.info("{} OrderPaymentOutboxMessages saved", orderPaymentOutboxMessages.size());
+    }
+
     @Transactional
     public void savePaymentOutboxMessage(OrderPaymentEventPayload orderPaymentEventPayload,
                                          OrderStatus orderStatus,
                                          SagaStatus sagaStatus,
                                          OutboxStatus outboxStatus,
                                          UUID sagaId) {
-        save(OrderPaymentOutboxMessage.builder()
-                 .id(UUID.randomUUID())
-                 .sagaId(sagaId)
-                 .createdAt(orderPaymentEventPayload.getCreatedAt())
-                 .type(ORDER_SAGA_NAME)
-                 .payload(createPayload(orderPaymentEventPayload))
-                 .outboxStatus(outboxStatus)
-                 .orderStatus(orderStatus)
-                 .sagaStatus(sagaStatus)
-                 .build());
+        save(createPaymentOutboxMessage(orderPaymentEventPayload, orderStatus, sagaStatus, outboxStatus, sagaId));
+    }
+
+    public OrderPaymentOutboxMessage createPaymentOutboxMessage(OrderPaymentEventPayload orderPaymentEventPayload,
+                                                                OrderStatus orderStatus,
+                                                                SagaStatus sagaStatus,
+                                                                OutboxStatus outboxStatus,
+                                                                UUID sagaId) {
+        OrderPaymentOutboxMessage.OrderPaymentOutboxMessageBuilder outboxMessageBuilder =
+            OrderPaymentOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .createdAt(orderPaymentEventPayload.getCreatedAt())
+                .type(ORDER_SAGA_NAME)
+                .outboxStatus(outboxStatus)
+                .orderStatus(orderStatus)
+                .sagaStatus(sagaStatus);
+        if (orderServiceConfigData.getOutboxPayloadFormat() == OutboxPayloadFormat.AVRO) {
+            OutboxEncodedPayload encodedPayload =
+                outboxPayloadEncoder.encodePaymentRequest(sagaId, orderPaymentEventPayload);
+            outboxMessageBuilder.payloadFormat(OutboxPayloadFormat.AVRO)
+                .payloadBytes(encodedPayload.getBytes())
+                .schemaId(encodedPayload.getSchemaId());
+        } else {
+            outboxMessageBuilder.payload(createPayload(orderPaymentEventPayload));
+        }
+        return outboxMessageBuilder.build();
     }
 
     @Transactional
@@ -79,6 +200,36 @@ public class PaymentOutboxHelper {
         paymentOutboxRepository.deleteByTypeAndOutboxStatusAndSagaStatus(ORDER_SAGA_NAME, outboxStatus, sagaStatuses);
     }
 
+    @Transactional
+    public int deletePaymentOutboxMessageBatchByOutboxStatusAndSagaStatus(
+        ZonedDateTime createdBefore, int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        return paymentOutboxRepository.deleteBatchByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME, outboxStatus, createdBefore, limit, sagaStatuses);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxRecord> getPaymentOutboxArchivablePageByOutboxStatusAndSagaStatus(
+        ZonedDateTime createdBefore,
+        OutboxCursor after,
+        int limit,
+        OutboxStatus outboxStatus,
+        SagaStatus... sagaStatuses) {
+        return paymentOutboxRepository.findArchivablePageByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME, outboxStatus, createdBefore, after, limit, sagaStatuses);
+    }
+
+    @Transactional
+    public int deletePaymentOutboxMessagesByIds(ZonedDateTime createdBefore, List<UUID> ids) {
+        return paymentOutboxRepository.deleteByIds(createdBefore, ids);
+    }
+
+    private OutboxRetryPolicy getRetryPolicy() {
+        return OutboxRetryPolicy.of(orderServiceConfigData.getOutboxRetryMaxAttempts(),
+                                    orderServiceConfigData.getOutboxRetryInitialBackoff(),
+                                    orderServiceConfigData.getOutboxRetryMaxBackoff(),
+                                    orderServiceConfigData.getOutboxRetryJitter());
+    }
+
     private String createPayload(OrderPaymentEventPayload orderPaymentEventPayload) {
         try {
             return objectMapper.writeValueAsString(orderPaymentEventPayload);
@@ -3,10 +3,14 @@ package com.food.ordering.system.order.service.domain;
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
 import static java.lang.String.join;
 
+import java.util.List;
+
+import com.food.ordering.system.domain.exception.DomainException;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -17,18 +21,55 @@ import org.springframework.validation.annotation.Validated;
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
     private final OrderPaymentSaga orderPaymentSaga;
+    private final OrderSagaHelper orderSagaHelper;
 
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-        orderPaymentSaga.process(paymentResponse);
+        orderSagaHelper.retryOnConflict(paymentResponse.getSagaId(), () -> orderPaymentSaga.process(paymentResponse));
         log.info("Order Payment Saga process operation is completed for order id: {}", paymentResponse.getOrderId());
     }
 
     @Override
     public void paymentCancelled(PaymentResponse paymentResponse) {
-        orderPaymentSaga.rollback(paymentResponse);
+        orderSagaHelper.retryOnConflict(paymentResponse.getSagaId(), () -> orderPaymentSaga.rollback(paymentResponse));
         log.info("Order is rolled back for order id: {} with failure messages: {}",
                  paymentResponse.getOrderId(),
                  join(FAILURE_MESSAGE_DELIMITER, paymentResponse.getFailureMessages()));
     }
+
+    @Override
+    public void paymentsCompleted(List<PaymentResponse> paymentResponses) {
+        if (!orderSagaHelper.isBatchProcessingEnabled()) {
+            paymentResponses.forEach(this::paymentCompleted);
+            return;
+        }
+        try {
+            orderPaymentSaga.processAll(paymentResponses);
+            log.info("Order Payment Saga process operation is completed for {} payment responses",
+                     paymentResponses.size());
+        } catch (DomainException | DataAccessException e) {
+            log.warn("Could not process {} payment responses as a batch, processing them one by one: {}",
+                     paymentResponses.size(),
+                     e.getMessage());
+            paymentResponses.forEach(this::paymentCompleted);
+        }
+    }
+
+    @Override
+    public void paymentsCancelled(List<PaymentResponse> paymentResponses) {
+        if (!orderSagaHelper.isBatchProcessingEnabled()) {
+            paymentResponses.forEach(this::paymentCancelled);
+            return;
+        }
+        try {
+            orderPaymentSaga.rollbackAll(paymentResponses);
+            log.info("Order Payment Saga rollback operation is completed for {} payment responses",
+                     paymentResponses.size());
+        } catch (DomainException | DataAccessException e) {
+            log.warn("Could not roll back {} payment responses as a batch, rolling them back one by one: {}",
+                     paymentResponses.size(),
+                     e.getMessage());
+            paymentResponses.forEach(this::paymentCancelled);
+        }
+    }
 }
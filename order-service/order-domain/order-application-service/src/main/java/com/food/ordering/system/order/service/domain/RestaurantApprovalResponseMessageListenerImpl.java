@@ -2,10 +2,14 @@ package com.food.ordering.system.order.service.domain;
 
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
 
+import java.util.List;
+
+import com.food.ordering.system.domain.exception.DomainException;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -16,18 +20,56 @@ import org.springframework.validation.annotation.Validated;
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
 
     private final OrderApprovalSaga orderApprovalSaga;
+    private final OrderSagaHelper orderSagaHelper;
 
     @Override
     public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
-        orderApprovalSaga.process(restaurantApprovalResponse);
+        orderSagaHelper.retryOnConflict(restaurantApprovalResponse.getSagaId(),
+                                        () -> orderApprovalSaga.process(restaurantApprovalResponse));
         log.info("Order is approved for order with id: {}", restaurantApprovalResponse.getOrderId());
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
-        orderApprovalSaga.rollback(restaurantApprovalResponse);
+        orderSagaHelper.retryOnConflict(restaurantApprovalResponse.getSagaId(),
+                                        () -> orderApprovalSaga.rollback(restaurantApprovalResponse));
         log.info("Order Approval Saga rollback operation is completed for order with id: {}, with failure messages: {}",
                  restaurantApprovalResponse.getOrderId(),
                  String.join(FAILURE_MESSAGE_DELIMITER, restaurantApprovalResponse.getFailureMessages()));
     }
+
+    @Override
+    public void ordersApproved(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        if (!orderSagaHelper.isBatchProcessingEnabled()) {
+            restaurantApprovalResponses.forEach(this::orderApproved);
+            return;
+        }
+        try {
+            orderApprovalSaga.processAll(restaurantApprovalResponses);
+            log.info("{} orders are approved", restaurantApprovalResponses.size());
+        } catch (DomainException | DataAccessException e) {
+            log.warn("Could not approve {} orders as a batch, approving them one by one: {}",
+                     restaurantApprovalResponses.size(),
+                     e.getMessage());
+            restaurantApprovalResponses.forEach(this::orderApproved);
+        }
+    }
+
+    @Override
+    public void ordersRejected(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        if (!orderSagaHelper.isBatchProcessingEnabled()) {
+            restaurantApprovalResponses.forEach(this::orderRejected);
+            return;
+        }
+        try {
+            orderApprovalSaga.rollbackAll(restaurantApprovalResponses);
+            log.info("Order Approval Saga rollback operation is completed for {} orders",
+                     restaurantApprovalResponses.size());
+        } catch (DomainException | DataAccessException e) {
+            log.warn("Could not reject {} orders as a batch, rejecting them one by one: {}",
+                     restaurantApprovalResponses.size(),
+                     e.getMessage());
+            restaurantApprovalResponses.forEach(this::orderRejected);
+        }
+    }
 }
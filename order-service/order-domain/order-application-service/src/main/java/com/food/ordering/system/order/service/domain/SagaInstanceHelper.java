@@ -0,0 +1,118 @@
+package com.food.ordering.system.order.service.domain;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
+import static java.lang.String.format;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaInstanceRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaInstanceHelper {
+
+    private final SagaInstanceRepository sagaInstanceRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    @Transactional(readOnly = true)
+    public Optional<OrderSagaInstance> getSagaInstanceBySagaIdAndSagaStatus(UUID sagaId,
+                                                                            SagaStatus... sagaStatuses) {
+        return sagaInstanceRepository.findByTypeAndSagaIdAndSagaStatus(ORDER_SAGA_NAME, sagaId, sagaStatuses);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderSagaInstance> getSagaInstancesBySagaIdsAndSagaStatus(Collection<UUID> sagaIds,
+                                                                         SagaStatus... sagaStatuses) {
+        return sagaInstanceRepository.findByTypeAndSagaIdsAndSagaStatus(ORDER_SAGA_NAME, sagaIds, sagaStatuses);
+    }
+
+    @Transactional
+    public void saveSagaInstance(UUID sagaId,
+                                 UUID orderId,
+                                 String step,
+                                 OrderStatus orderStatus,
+                                 SagaStatus sagaStatus) {
+        OrderSagaInstance orderSagaInstance = OrderSagaInstance.builder()
+            .sagaId(sagaId)
+            .type(ORDER_SAGA_NAME)
+            .orderId(orderId)
+            .step(step)
+            .orderStatus(orderStatus)
+            .sagaStatus(sagaStatus)
+            .createdAt(ZonedDateTime.now(ZoneId.of(UTC)))
+            .build();
+        if (sagaInstanceRepository.save(orderSagaInstance) == null) {
+            log.error("Could not save OrderSagaInstance with saga id: {}", sagaId);
+            throw new OrderDomainException(format("Could not save OrderSagaInstance with saga id: %s", sagaId));
+        }
+        log.info("OrderSagaInstance saved with saga id: {}", sagaId);
+    }
+
+    @Transactional
+    public void update(OrderSagaInstance orderSagaInstance) {
+        if (!sagaInstanceRepository.updateByIdAndVersion(orderSagaInstance)) {
+            log.warn("OrderSagaInstance with saga id: {} was modified concurrently, expected version: {}",
+                     orderSagaInstance.getSagaId(),
+                     orderSagaInstance.getVersion());
+            throw new OptimisticLockingFailureException(
+                format("OrderSagaInstance with saga id: %s was modified concurrently", orderSagaInstance.getSagaId()));
+        }
+        log.info("OrderSagaInstance updated with saga id: {}", orderSagaInstance.getSagaId());
+    }
+
+    @Transactional
+    public void updateAll(List<OrderSagaInstance> orderSagaInstances) {
+        if (!sagaInstanceRepository.updateAllByIdAndVersion(orderSagaInstances)) {
+            log.warn("{} OrderSagaInstances could not be updated, at least one was modified concurrently",
+                     orderSagaInstances.size());
+            throw new OptimisticLockingFailureException(
+                format("%d OrderSagaInstances could not be updated, at least one was modified concurrently",
+                       orderSagaInstances.size()));
+        }
+        log.info("{} OrderSagaInstances updated", orderSagaInstances.size());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderSagaInstance> claimExpiredSagaInstancesBySagaStatus(SagaStatus... sagaStatuses) {
+        return sagaInstanceRepository.claimExpiredByTypeAndSagaStatus(
+            ORDER_SAGA_NAME,
+            orderServiceConfigData.getSagaDeadlineMaxRedrives(),
+            orderServiceConfigData.getSagaDeadlineBatchSize(),
+            sagaStatuses);
+    }
+
+    @Transactional
+    public int redriveExpiredSagaInstances(SagaStatus... compensableSagaStatuses) {
+        return sagaInstanceRepository.redriveExpiredByType(ORDER_SAGA_NAME,
+                                                           orderServiceConfigData.getSagaDeadlineMaxRedrives(),
+                                                           orderServiceConfigData.getSagaDeadlineBatchSize(),
+                                                           compensableSagaStatuses);
+    }
+
+    @Transactional
+    public List<UUID> parkExpiredSagaInstances(SagaStatus sagaStatus) {
+        return sagaInstanceRepository.parkExpiredByTypeAndSagaStatus(
+            ORDER_SAGA_NAME,
+            orderServiceConfigData.getSagaDeadlineMaxRedrives(),
+            orderServiceConfigData.getSagaDeadlineBatchSize(),
+            sagaStatus);
+    }
+}
@@ -0,0 +1,180 @@
+package com.food.ordering.system.order.service.domain;
+
+import static java.lang.String.format;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.PreDestroy;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveCommand;
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.RestaurantApprovalOutboxScheduler;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxScheduler;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveProgress;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveStatus;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class SagaRedriveCommandHandler {
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final ApprovalOutboxHelper approvalOutboxHelper;
+    private final PaymentOutboxScheduler paymentOutboxScheduler;
+    private final RestaurantApprovalOutboxScheduler restaurantApprovalOutboxScheduler;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final ExecutorService executor;
+    private final AtomicReference<SagaRedriveProgress> currentRedrive = new AtomicReference<>();
+
+    public SagaRedriveCommandHandler(PaymentOutboxHelper paymentOutboxHelper,
+                                     ApprovalOutboxHelper approvalOutboxHelper,
+                                     PaymentOutboxScheduler paymentOutboxScheduler,
+                                     RestaurantApprovalOutboxScheduler restaurantApprovalOutboxScheduler,
+                                     OrderDataMapper orderDataMapper,
+                                     OrderServiceConfigData orderServiceConfigData) {
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.approvalOutboxHelper = approvalOutboxHelper;
+        this.paymentOutboxScheduler = paymentOutboxScheduler;
+        this.restaurantApprovalOutboxScheduler = restaurantApprovalOutboxScheduler;
+        this.orderDataMapper = orderDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "saga-redrive");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SagaRedriveResponse redriveSagas(SagaRedriveCommand sagaRedriveCommand) {
+        SagaRedriveFilter sagaRedriveFilter = orderDataMapper.sagaRedriveCommandToSagaRedriveFilter(sagaRedriveCommand);
+        int maxRate = getMaxRate(sagaRedriveCommand);
+        SagaRedriveProgress progress = new SagaRedriveProgress(UUID.randomUUID(), sagaRedriveCommand.getSagaStatus());
+        Runnable redrive = switch (sagaRedriveCommand.getSagaStatus()) {
+            case STARTED, COMPENSATING -> () -> redrive(
+                progress,
+                maxRate,
+                (after, limit) -> paymentOutboxHelper.getPaymentOutboxMessageRedrivePage(sagaRedriveFilter,
+                                                                                         after,
+                                                                                         limit),
+                (OrderPaymentOutboxMessage outboxMessage) ->
+                    OutboxCursor.of(outboxMessage.getCreatedAt(), outboxMessage.getId()),
+                paymentOutboxScheduler::publish);
+            case PROCESSING -> () -> redrive(
+                progress,
+                maxRate,
+                (after, limit) -> approvalOutboxHelper.getApprovalOutboxMessageRedrivePage(sagaRedriveFilter,
+                                                                                           after,
+                                                                                           limit),
+                (OrderApprovalOutboxMessage outboxMessage) ->
+                    OutboxCursor.of(outboxMessage.getCreatedAt(), outboxMessage.getId()),
+                restaurantApprovalOutboxScheduler::publish);
+            default -> {
+                log.error("Sagas in status: {} are not waiting for a participant", sagaRedriveCommand.getSagaStatus());
+                throw new OrderDomainException(format("Sagas in status: %s cannot be re-driven",
+                                                      sagaRedriveCommand.getSagaStatus()));
+            }
+        };
+
+        SagaRedriveProgress running =
+            currentRedrive.getAndUpdate(current -> current != null && current.isRunning() ? current : progress);
+        if (running != null && running.isRunning()) {
+            log.error("Saga re-drive with id: {} is still running", running.getRedriveId());
+            throw new OrderDomainException(format("Saga re-drive with id: %s is still running",
+                                                  running.getRedriveId()));
+        }
+        executor.execute(redrive);
+        log.info("Saga re-drive with id: {} started for {} sagas at up to {} messages per second",
+                 progress.getRedriveId(),
+                 progress.getSagaStatus(),
+                 maxRate);
+        return orderDataMapper.sagaRedriveProgressToSagaRedriveResponse(progress);
+    }
+
+    public Optional<SagaRedriveResponse> getSagaRedrive() {
+        return Optional.ofNullable(currentRedrive.get()).map(orderDataMapper::sagaRedriveProgressToSagaRedriveResponse);
+    }
+
+    private <T> void redrive(SagaRedriveProgress progress,
+                             int maxRate,
+                             BiFunction<OutboxCursor, Integer, List<T>> pageReader,
+                             Function<T, OutboxCursor> cursorExtractor,
+                             BiFunction<List<T>, BiConsumer<T, OutboxStatus>, Boolean> publisher) {
+        int pageSize = Math.min(orderServiceConfigData.getOutboxSchedulerPageSize(), maxRate);
+        long startedNanos = System.nanoTime();
+        try {
+            OutboxCursor cursor = null;
+            List<T> outboxMessages;
+            do {
+                outboxMessages = pageReader.apply(cursor, pageSize);
+                if (outboxMessages.isEmpty()) {
+                    break;
+                }
+                progress.scanned(outboxMessages.size());
+                if (!publisher.apply(outboxMessages, (outboxMessage, outboxStatus) ->
+                    progress.acknowledged(outboxStatus))) {
+                    log.warn("Saga re-drive with id: {} did not drain a page of {} messages in time",
+                             progress.getRedriveId(),
+                             outboxMessages.size());
+                }
+                cursor = cursorExtractor.apply(outboxMessages.get(outboxMessages.size() - 1));
+                log.info("Saga re-drive with id: {} republished {} of {} messages, {} failed, {} messages per second",
+                         progress.getRedriveId(),
+                         progress.getRepublished().get(),
+                         progress.getScanned().get(),
+                         progress.getFailed().get(),
+                         Math.round(progress.getMessagesPerSecond()));
+                throttle(progress.getScanned().get(), maxRate, startedNanos);
+            } while (outboxMessages.size() == pageSize);
+            progress.finish(SagaRedriveStatus.COMPLETED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.finish(SagaRedriveStatus.FAILED);
+        } catch (RuntimeException e) {
+            log.error("Saga re-drive with id: {} failed", progress.getRedriveId(), e);
+            progress.finish(SagaRedriveStatus.FAILED);
+        }
+        log.info("Saga re-drive with id: {} finished with status: {} after {} messages",
+                 progress.getRedriveId(),
+                 progress.getStatus(),
+                 progress.getScanned().get());
+    }
+
+    private void throttle(long sent, int maxRate, long startedNanos) throws InterruptedException {
+        long aheadMillis = sent * 1000 / maxRate - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+        if (aheadMillis > 0) {
+            Thread.sleep(aheadMillis);
+        }
+    }
+
+    private int getMaxRate(SagaRedriveCommand sagaRedriveCommand) {
+        int maxRate = orderServiceConfigData.getSagaRedriveMaxRate();
+        return sagaRedriveCommand.getMaxRatePerSecond() == null
+            ? maxRate
+            : Math.min(sagaRedriveCommand.getMaxRatePerSecond(), maxRate);
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
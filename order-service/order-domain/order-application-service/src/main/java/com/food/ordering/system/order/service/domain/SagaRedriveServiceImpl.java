@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain;
+
+import java.util.Optional;
+
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveCommand;
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.SagaRedriveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@Service
+@RequiredArgsConstructor
+class SagaRedriveServiceImpl implements SagaRedriveService {
+
+    private final SagaRedriveCommandHandler sagaRedriveCommandHandler;
+
+    @Override
+    public SagaRedriveResponse redriveSagas(SagaRedriveCommand sagaRedriveCommand) {
+        return sagaRedriveCommandHandler.redriveSagas(sagaRedriveCommand);
+    }
+
+    @Override
+    public Optional<SagaRedriveResponse> getSagaRedrive() {
+        return sagaRedriveCommandHandler.getSagaRedrive();
+    }
+}
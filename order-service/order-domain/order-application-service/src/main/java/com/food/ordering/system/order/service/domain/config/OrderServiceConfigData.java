@@ -1,8 +1,13 @@
 package com.food.ordering.system.order.service.domain.config;
 
+import java.time.Duration;
+import java.util.UUID;
+
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 @Data
 @Configuration
@@ -12,4 +17,48 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private String instanceId = UUID.randomUUID().toString();
+    private int sagaRetryMaxAttempts = 5;
+    private Duration sagaRetryBackoff = Duration.ofMillis(20);
+    private boolean sagaFusedPersistenceEnabled;
+    private boolean sagaBatchEnabled;
+    private int sagaOutcomeCacheMaxSize = 100000;
+    private Duration sagaOutcomeCacheTtl = Duration.ofMinutes(10);
+    private Duration sagaDeadlineTimeout = Duration.ofMinutes(5);
+    private int sagaDeadlineMaxRedrives = 3;
+    private int sagaDeadlineBatchSize = 100;
+    private boolean sagaStripedExecutionEnabled;
+    private int sagaStripeCount = 4;
+    private int sagaRedriveMaxRate = 500;
+    private OutboxPayloadFormat outboxPayloadFormat = OutboxPayloadFormat.JSON;
+    private Duration outboxSchedulerFixedRate = Duration.ofSeconds(10);
+    private Duration outboxSchedulerInitialDelay = Duration.ofSeconds(10);
+    private boolean outboxSchedulerAdaptiveEnabled;
+    private Duration outboxSchedulerMinDelay = Duration.ofMillis(200);
+    private Duration outboxSchedulerMaxDelay = Duration.ofSeconds(30);
+    private int outboxSchedulerPageSize = 100;
+    private boolean outboxSchedulerClaimEnabled;
+    private boolean outboxSchedulerShardEnabled;
+    private int outboxSchedulerShardCount = 64;
+    private int outboxSchedulerAckBatchSize = 500;
+    private Duration outboxSchedulerAckFlushInterval = Duration.ofMillis(100);
+    private int outboxCleanerBatchSize = 1000;
+    private Duration outboxCleanerThrottle = Duration.ofMillis(50);
+    private Duration outboxCleanerRetention = Duration.ofHours(1);
+    private boolean outboxArchiveEnabled;
+    // Per instance, relative paths resolve against the working directory and are created on startup.
+    private String outboxArchiveDirectory = "outbox-archive";
+    private DataSize outboxArchiveSegmentSize = DataSize.ofMegabytes(64);
+    private int outboxArchiveBlockSize = 256;
+    private int outboxPartitionDaysAhead = 3;
+    private int outboxPartitionRetentionDays = 7;
+    private Duration outboxSchedulerClaimLease = Duration.ofSeconds(30);
+    private int outboxSchedulerPublishLanes = 4;
+    private int outboxSchedulerMaxInFlight = 1000;
+    private Duration outboxSchedulerDrainTimeout = Duration.ofSeconds(30);
+    private int outboxRetryBatchSize = 50;
+    private int outboxRetryMaxAttempts = 10;
+    private Duration outboxRetryInitialBackoff = Duration.ofSeconds(1);
+    private Duration outboxRetryMaxBackoff = Duration.ofMinutes(5);
+    private double outboxRetryJitter = 0.5;
 }
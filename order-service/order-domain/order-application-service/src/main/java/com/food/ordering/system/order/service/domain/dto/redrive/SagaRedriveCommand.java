@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.dto.redrive;
+
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SagaRedriveCommand {
+    @NotNull
+    private final SagaStatus sagaStatus;
+    private final ZonedDateTime createdFrom;
+    private final ZonedDateTime createdTo;
+    private final UUID restaurantId;
+    @Positive
+    private final Integer maxRatePerSecond;
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.domain.dto.redrive;
+
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SagaRedriveResponse {
+    @NotNull
+    private final UUID redriveId;
+    @NotNull
+    private final SagaStatus sagaStatus;
+    @NotNull
+    private final SagaRedriveStatus status;
+    private final long scanned;
+    private final long republished;
+    private final long failed;
+    private final double messagesPerSecond;
+    @NotNull
+    private final ZonedDateTime startedAt;
+    private final ZonedDateTime finishedAt;
+}
@@ -1,5 +1,9 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -13,6 +17,9 @@ import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveCommand;
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
@@ -24,6 +31,8 @@ import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveProgress;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.springframework.stereotype.Component;
 
@@ -86,6 +95,15 @@ public class OrderDataMapper {
             .build();
     }
 
+    public OrderApprovalEventPayload paymentResponseToOrderApprovalEventPayload(PaymentResponse paymentResponse) {
+        // Restaurant id, price and products are filled in from the order row by the fused saga statement.
+        return OrderApprovalEventPayload.builder()
+            .orderId(paymentResponse.getOrderId())
+            .restaurantOrderStatus(RestaurantOrderStatus.PAID.name())
+            .createdAt(ZonedDateTime.now(ZoneId.of(UTC)))
+            .build();
+    }
+
     public OrderPaymentEventPayload orderCancelledEventToOrderPaymentEventPayload(OrderCancelledEvent
                                                                                       orderCancelledEvent) {
         return OrderPaymentEventPayload.builder()
@@ -97,6 +115,29 @@ public class OrderDataMapper {
             .build();
     }
 
+    public SagaRedriveFilter sagaRedriveCommandToSagaRedriveFilter(SagaRedriveCommand sagaRedriveCommand) {
+        return SagaRedriveFilter.builder()
+            .sagaStatus(sagaRedriveCommand.getSagaStatus())
+            .createdFrom(sagaRedriveCommand.getCreatedFrom())
+            .createdTo(sagaRedriveCommand.getCreatedTo())
+            .restaurantId(sagaRedriveCommand.getRestaurantId())
+            .build();
+    }
+
+    public SagaRedriveResponse sagaRedriveProgressToSagaRedriveResponse(SagaRedriveProgress sagaRedriveProgress) {
+        return SagaRedriveResponse.builder()
+            .redriveId(sagaRedriveProgress.getRedriveId())
+            .sagaStatus(sagaRedriveProgress.getSagaStatus())
+            .status(sagaRedriveProgress.getStatus())
+            .scanned(sagaRedriveProgress.getScanned().get())
+            .republished(sagaRedriveProgress.getRepublished().get())
+            .failed(sagaRedriveProgress.getFailed().get())
+            .messagesPerSecond(sagaRedriveProgress.getMessagesPerSecond())
+            .startedAt(sagaRedriveProgress.getStartedAt())
+            .finishedAt(sagaRedriveProgress.getFinishedAt())
+            .build();
+    }
+
     private List<OrderItem> orderItemsToOrderItemEntities(
         List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> orderItems) {
         return orderItems.stream()
@@ -4,6 +4,7 @@ import java.time.ZonedDateTime;
 import java.util.UUID;
 
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.AllArgsConstructor;
@@ -21,6 +22,10 @@ public class OrderPaymentOutboxMessage {
     private ZonedDateTime processedAt;
     private String type;
     private String payload;
+    @Builder.Default
+    private OutboxPayloadFormat payloadFormat = OutboxPayloadFormat.JSON;
+    private byte[] payloadBytes;
+    private Integer schemaId;
     private SagaStatus sagaStatus;
     private OrderStatus orderStatus;
     private OutboxStatus outboxStatus;
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.RestaurantApprovalOutboxScheduler;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxScheduler;
+import com.food.ordering.system.outbox.AdaptivePollTrigger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@RequiredArgsConstructor
+public class OutboxPollingConfigurer implements SchedulingConfigurer {
+
+    private final PaymentOutboxScheduler paymentOutboxScheduler;
+    private final RestaurantApprovalOutboxScheduler restaurantApprovalOutboxScheduler;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addTriggerTask(paymentOutboxScheduler::processOutboxMessage,
+                                     new AdaptivePollTrigger(paymentOutboxScheduler.getPollInterval(),
+                                                             orderServiceConfigData.getOutboxSchedulerInitialDelay()));
+        taskRegistrar.addTriggerTask(restaurantApprovalOutboxScheduler::processOutboxMessage,
+                                     new AdaptivePollTrigger(restaurantApprovalOutboxScheduler.getPollInterval(),
+                                                             orderServiceConfigData.getOutboxSchedulerInitialDelay()));
+    }
+}
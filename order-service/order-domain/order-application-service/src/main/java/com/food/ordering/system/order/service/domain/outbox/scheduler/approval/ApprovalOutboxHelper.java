@@ -1,24 +1,37 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
+import static com.food.ordering.system.saga.order.OrderSagaDefinitions.APPROVAL_STEP;
 import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
 import static java.lang.String.format;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderSagaLatencyMetrics;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.OutboxPayloadEncoder;
 import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaInstanceRepository;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxEncodedPayload;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -27,7 +40,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class ApprovalOutboxHelper {
 
     private final ApprovalOutboxRepository approvalOutboxRepository;
+    private final SagaInstanceRepository sagaInstanceRepository;
     private final ObjectMapper objectMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OutboxPayloadEncoder outboxPayloadEncoder;
+    private final OrderSagaLatencyMetrics orderSagaLatencyMetrics;
 
     @Transactional(readOnly = true)
     public Optional<List<OrderApprovalOutboxMessage>> getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
@@ -38,11 +55,60 @@ public class ApprovalOutboxHelper {
     }
 
     @Transactional(readOnly = true)
-    public Optional<OrderApprovalOutboxMessage> getApprovalOutboxMessageBySagaIdAndSagaStatus(
-        UUID sagaId, SagaStatus... sagaStatuses) {
-        return approvalOutboxRepository.findByTypeAndSagaIdAndSagaStatus(ORDER_SAGA_NAME,
-                                                                         sagaId,
-                                                                         sagaStatuses);
+    public List<OrderApprovalOutboxMessage> getApprovalOutboxMessagePageByOutboxStatusAndSagaStatus(
+        OutboxCursor after, int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        return approvalOutboxRepository.findPageByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME,
+            outboxStatus,
+            after,
+            limit,
+            sagaStatuses);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderApprovalOutboxMessage> getApprovalOutboxMessageRedrivePage(SagaRedriveFilter sagaRedriveFilter,
+                                                                                OutboxCursor after,
+                                                                                int limit) {
+        return approvalOutboxRepository.findRedrivePageByType(ORDER_SAGA_NAME, sagaRedriveFilter, after, limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderApprovalOutboxMessage> claimApprovalOutboxMessageByOutboxStatusAndSagaStatus(
+        int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        return approvalOutboxRepository.claimByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME,
+            outboxStatus,
+            orderServiceConfigData.getInstanceId(),
+            orderServiceConfigData.getOutboxSchedulerClaimLease(),
+            limit,
+            sagaStatuses);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderApprovalOutboxMessage> claimApprovalOutboxMessageShardByOutboxStatusAndSagaStatus(
+        Set<Integer> shards, int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+        return approvalOutboxRepository.claimShardByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME,
+            outboxStatus,
+            orderServiceConfigData.getInstanceId(),
+            orderServiceConfigData.getOutboxSchedulerClaimLease(),
+            limit,
+            orderServiceConfigData.getOutboxSchedulerShardCount(),
+            shards,
+            sagaStatuses);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderApprovalOutboxMessage> claimRetryableApprovalOutboxMessageBySagaStatus(
+        int limit, SagaStatus... sagaStatuses) {
+        return approvalOutboxRepository.claimRetryableByTypeAndSagaStatus(
+            ORDER_SAGA_NAME,
+            orderServiceConfigData.getOutboxSchedulerClaimLease(),
+            limit,
+            sagaStatuses);
     }
 
     @Transactional
@@ -57,28 +123,95 @@ public class ApprovalOutboxHelper {
         log.info("OrderApprovalOutboxMessage saved with outbox id: {}", orderApprovalOutboxMessage.getId());
     }
 
+    @Transactional
+    public void updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys) {
+        if (outboxStatus == OutboxStatus.FAILED) {
+            scheduleRetryByKeys(keys);
+            return;
+        }
+        int updated = approvalOutboxRepository.updateOutboxStatusByKeys(outboxStatus, keys);
+        log.info("{} OrderApprovalOutboxMessages updated with outbox status: {}", updated, outboxStatus.name());
+        if (outboxStatus == OutboxStatus.COMPLETED) {
+            sagaInstanceRepository.updateApprovalRequestedAtByOutboxKeys(keys)
+                .forEach(createdAt -> orderSagaLatencyMetrics.requested(APPROVAL_STEP, createdAt));
+        }
+    }
+
+    private void scheduleRetryByKeys(List<OutboxCursor> keys) {
+        List<UUID> parkedIds = approvalOutboxRepository.scheduleRetryByKeys(keys, getRetryPolicy());
+        log.info("{} OrderApprovalOutboxMessages scheduled for retry", keys.size() - parkedIds.size());
+        if (!parkedIds.isEmpty()) {
+            log.warn("{} OrderApprovalOutboxMessages parked after {} attempts, ids: {}",
+                     parkedIds.size(),
+                     orderServiceConfigData.getOutboxRetryMaxAttempts(),
+                     parkedIds);
+        }
+    }
+
+    @Transactional
+    public void saveAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages) {
+        List<OrderApprovalOutboxMessage> response = approvalOutboxRepository.saveAll(orderApprovalOutboxMessages);
+        if (response == null || response.size() != orderApprovalOutboxMessages.size()) {
+            log.error("Could not save {} OrderApprovalOutboxMessages", orderApprovalOutboxMessages.size());
+            throw new OrderDomainException(format("Could not save %d OrderApprovalOutboxMessages",
+                                                  orderApprovalOutboxMessages.size()));
+        }
+        log.info("{} OrderApprovalOutboxMessages saved", orderApprovalOutboxMessages.size());
+    }
+
     @Transactional
     public void deleteApprovalOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus outboxStatus,
                                                                        SagaStatus... sagaStatuses) {
         approvalOutboxRepository.deleteByTypeAndOutboxStatusAndSagaStatus(ORDER_SAGA_NAME, outboxStatus, sagaStatuses);
     }
 
+    @Transactional
+    public int deleteApprovalOutboxMessageBatchByOutboxStatusAndSagaStatus(
+        ZonedDateTime createdBefore, int limit, OutboxStatus outboxStatus, SagaStatus... sagaStatuses) {
+        return approvalOutboxRepository.deleteBatchByTypeAndOutboxStatusAndSagaStatus(
+            ORDER_SAGA_NAME, outboxStatus, createdBefore, limit, sagaStatuses);
+    }
+
     @Transactional
     public void saveApprovalOutboxMessage(OrderApprovalEventPayload orderApprovalEventPayload,
                                           OrderStatus orderStatus,
                                           SagaStatus sagaStatus,
                                           OutboxStatus outboxStatus,
                                           UUID sagaId) {
-        save(OrderApprovalOutboxMessage.builder()
-                 .id(UUID.randomUUID())
-                 .sagaId(sagaId)
-                 .createdAt(orderApprovalEventPayload.getCreatedAt())
-                 .type(ORDER_SAGA_NAME)
-                 .payload(createPayload(orderApprovalEventPayload))
-                 .orderStatus(orderStatus)
-                 .sagaStatus(sagaStatus)
-                 .outboxStatus(outboxStatus)
-                 .build());
+        save(createApprovalOutboxMessage(orderApprovalEventPayload, orderStatus, sagaStatus, outboxStatus, sagaId));
+    }
+
+    public OrderApprovalOutboxMessage createApprovalOutboxMessage(OrderApprovalEventPayload orderApprovalEventPayload,
+                                                                  OrderStatus orderStatus,
+                                                                  SagaStatus sagaStatus,
+                                                                  OutboxStatus outboxStatus,
+                                                                  UUID sagaId) {
+        OrderApprovalOutboxMessage.OrderApprovalOutboxMessageBuilder outboxMessageBuilder =
+            OrderApprovalOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .createdAt(orderApprovalEventPayload.getCreatedAt())
+                .type(ORDER_SAGA_NAME)
+                .orderStatus(orderStatus)
+                .sagaStatus(sagaStatus)
+                .outboxStatus(outboxStatus);
+        if (orderServiceConfigData.getOutboxPayloadFormat() == OutboxPayloadFormat.AVRO) {
+            OutboxEncodedPayload encodedPayload =
+                outboxPayloadEncoder.encodeRestaurantApprovalRequest(sagaId, orderApprovalEventPayload);
+            outboxMessageBuilder.payloadFormat(OutboxPayloadFormat.AVRO)
+                .payloadBytes(encodedPayload.getBytes())
+                .schemaId(encodedPayload.getSchemaId());
+        } else {
+            outboxMessageBuilder.payload(createPayload(orderApprovalEventPayload));
+        }
+        return outboxMessageBuilder.build();
+    }
+
+    private OutboxRetryPolicy getRetryPolicy() {
+        return OutboxRetryPolicy.of(orderServiceConfigData.getOutboxRetryMaxAttempts(),
+                                    orderServiceConfigData.getOutboxRetryInitialBackoff(),
+                                    orderServiceConfigData.getOutboxRetryMaxBackoff(),
+                                    orderServiceConfigData.getOutboxRetryJitter());
     }
 
     private String createPayload(OrderApprovalEventPayload orderApprovalEventPayload) {
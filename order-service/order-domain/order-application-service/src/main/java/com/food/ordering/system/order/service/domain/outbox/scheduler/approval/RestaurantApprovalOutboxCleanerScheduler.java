@@ -1,48 +1,42 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
-import static java.util.stream.Collectors.joining;
-
-import java.util.List;
-import java.util.Optional;
-
-import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxCleaner;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RestaurantApprovalOutboxCleanerScheduler implements OutboxScheduler {
 
-    private final ApprovalOutboxHelper approvalOutboxHelper;
+    private final OutboxCleaner outboxCleaner;
+
+    public RestaurantApprovalOutboxCleanerScheduler(ApprovalOutboxHelper approvalOutboxHelper,
+                                                    OrderServiceConfigData orderServiceConfigData,
+                                                    MeterRegistry meterRegistry) {
+        this.outboxCleaner = new OutboxCleaner(
+            "approval-outbox-cleaner",
+            orderServiceConfigData.getOutboxCleanerBatchSize(),
+            orderServiceConfigData.getOutboxCleanerThrottle(),
+            orderServiceConfigData.getOutboxCleanerRetention(),
+            (createdBefore, limit) ->
+                approvalOutboxHelper.deleteApprovalOutboxMessageBatchByOutboxStatusAndSagaStatus(
+                    createdBefore,
+                    limit,
+                    OutboxStatus.COMPLETED,
+                    SagaStatus.PROCESSING),
+            new MicrometerOutboxMetrics(meterRegistry, "restaurant-approval"));
+    }
 
     @Override
-    @Scheduled(cron = "@midnight")
+    @Scheduled(
+        fixedDelayString = "${order-service.outbox-cleaner-fixed-delay}",
+        initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
     public void processOutboxMessage() {
-        Optional<List<OrderApprovalOutboxMessage>> outboxStatusAndSagaStatus =
-            approvalOutboxHelper.getApprovalOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus.COMPLETED,
-                                                                                     SagaStatus.SUCCEEDED,
-                                                                                     SagaStatus.FAILED,
-                                                                                     SagaStatus.COMPENSATED);
-        if (outboxStatusAndSagaStatus.isPresent()) {
-            List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages = outboxStatusAndSagaStatus.get();
-            log.info("Received {} OrderApprovalOutboxMessage for clean-up. The payloads: {}",
-                     orderApprovalOutboxMessages.size(),
-                     orderApprovalOutboxMessages.stream()
-                         .map(OrderApprovalOutboxMessage::getPayload)
-                         .collect(joining("\n")));
-
-            approvalOutboxHelper.deleteApprovalOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus.COMPLETED,
-                                                                                        SagaStatus.SUCCEEDED,
-                                                                                        SagaStatus.FAILED,
-                                                                                        SagaStatus.COMPENSATED);
-
-            log.info("{} OrderApprovalOutboxMessage deleted!", orderApprovalOutboxMessages.size());
-        }
+        outboxCleaner.clean();
     }
 }
@@ -1,59 +1,115 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
-import static java.util.stream.Collectors.joining;
-
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import javax.annotation.PreDestroy;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.shard.OutboxShardScheduler;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import com.food.ordering.system.outbox.AdaptivePollInterval;
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxPoller;
+import com.food.ordering.system.outbox.OutboxPollerSettings;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RestaurantApprovalOutboxScheduler implements OutboxScheduler {
 
     private final ApprovalOutboxHelper approvalOutboxHelper;
-    private final RestaurantApprovalRequestMessagePublisher restaurantApprovalRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OutboxShardScheduler outboxShardScheduler;
+    private final OutboxPoller<OrderApprovalOutboxMessage, OutboxCursor> outboxPoller;
+    @Getter
+    private final AdaptivePollInterval pollInterval;
+    private OutboxCursor pageCursor;
+
+    public RestaurantApprovalOutboxScheduler(ApprovalOutboxHelper approvalOutboxHelper,
+                                             RestaurantApprovalRequestMessagePublisher
+                                                     restaurantApprovalRequestMessagePublisher,
+                                             OrderServiceConfigData orderServiceConfigData,
+                                             OutboxShardScheduler outboxShardScheduler,
+                                             MeterRegistry meterRegistry) {
+        this.approvalOutboxHelper = approvalOutboxHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.outboxShardScheduler = outboxShardScheduler;
+        MicrometerOutboxMetrics outboxMetrics = new MicrometerOutboxMetrics(meterRegistry, "restaurant-approval");
+        this.outboxPoller = new OutboxPoller<>(
+            "approval-outbox",
+            OutboxPollerSettings.builder()
+                .pageSize(orderServiceConfigData.getOutboxSchedulerPageSize())
+                .retryBatchSize(orderServiceConfigData.getOutboxRetryBatchSize())
+                .publishLanes(orderServiceConfigData.getOutboxSchedulerPublishLanes())
+                .maxInFlight(orderServiceConfigData.getOutboxSchedulerMaxInFlight())
+                .drainTimeout(orderServiceConfigData.getOutboxSchedulerDrainTimeout())
+                .ackBatchSize(orderServiceConfigData.getOutboxSchedulerAckBatchSize())
+                .ackFlushInterval(orderServiceConfigData.getOutboxSchedulerAckFlushInterval())
+                .build(),
+            this::claimOutboxMessages,
+            limit -> approvalOutboxHelper.claimRetryableApprovalOutboxMessageBySagaStatus(limit,
+                                                                                          SagaStatus.PROCESSING),
+            outboxMessage -> OutboxCursor.of(outboxMessage.getCreatedAt(), outboxMessage.getId()),
+            OrderApprovalOutboxMessage::getSagaId,
+            restaurantApprovalRequestMessagePublisher::publish,
+            approvalOutboxHelper::updateOutboxStatusByKeys,
+            outboxMetrics);
+        this.pollInterval = orderServiceConfigData.isOutboxSchedulerAdaptiveEnabled()
+            ? new AdaptivePollInterval(orderServiceConfigData.getOutboxSchedulerMinDelay(),
+                                       orderServiceConfigData.getOutboxSchedulerMaxDelay(),
+                                       orderServiceConfigData.getOutboxSchedulerFixedRate())
+            : AdaptivePollInterval.fixed(orderServiceConfigData.getOutboxSchedulerFixedRate());
+        outboxMetrics.pollInterval(pollInterval);
+    }
 
     @Override
-    @Transactional
-    @Scheduled(
-        fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
-        initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
-    public void processOutboxMessage() {
-        Optional<List<OrderApprovalOutboxMessage>> approvalOutboxMessagesResponse =
-            approvalOutboxHelper.getApprovalOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus.STARTED,
-                                                                                     SagaStatus.PROCESSING);
-        if (approvalOutboxMessagesResponse.isPresent() && approvalOutboxMessagesResponse.get().size() > 0) {
-            List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages = approvalOutboxMessagesResponse.get();
-            log.info("Received {} OrderApprovalOutboxMessage with ids: {}, sending to message bus!",
-                     orderApprovalOutboxMessages.size(),
-                     orderApprovalOutboxMessages.stream()
-                         .map(OrderApprovalOutboxMessage::getId)
-                         .map(UUID::toString)
-                         .collect(joining(",")));
-
-            orderApprovalOutboxMessages.forEach(
-                orderApprovalOutboxMessage -> restaurantApprovalRequestMessagePublisher.publish(
-                    orderApprovalOutboxMessage, this::updateOutboxStatus));
-
-            log.info("{} OrderApprovalOutboxMessage sent to message bus!", orderApprovalOutboxMessages.size());
+    public synchronized void processOutboxMessage() {
+        pageCursor = null;
+        pollInterval.record(outboxPoller.poll(), orderServiceConfigData.getOutboxSchedulerPageSize());
+    }
+
+    public boolean publish(List<OrderApprovalOutboxMessage> outboxMessages,
+                           BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxListener) {
+        return outboxPoller.publish(outboxMessages, outboxListener);
+    }
+
+    private List<OrderApprovalOutboxMessage> claimOutboxMessages(int limit) {
+        // Shards are re-read for every page and rows are still claimed under a lease, so a shard handed
+        // to another instance mid-poll is never published by both.
+        if (orderServiceConfigData.isOutboxSchedulerShardEnabled()) {
+            return approvalOutboxHelper.claimApprovalOutboxMessageShardByOutboxStatusAndSagaStatus(
+                outboxShardScheduler.getOwnedShards(),
+                limit,
+                OutboxStatus.STARTED,
+                SagaStatus.PROCESSING);
+        }
+        if (orderServiceConfigData.isOutboxSchedulerClaimEnabled()) {
+            return approvalOutboxHelper.claimApprovalOutboxMessageByOutboxStatusAndSagaStatus(limit,
+                                                                                             OutboxStatus.STARTED,
+                                                                                             SagaStatus.PROCESSING);
+        }
+        // Unclaimed reads page by cursor, so rows still waiting for their ack are not read twice in one poll.
+        List<OrderApprovalOutboxMessage> outboxMessages =
+            approvalOutboxHelper.getApprovalOutboxMessagePageByOutboxStatusAndSagaStatus(pageCursor,
+                                                                                         limit,
+                                                                                         OutboxStatus.STARTED,
+                                                                                         SagaStatus.PROCESSING);
+        if (!outboxMessages.isEmpty()) {
+            OrderApprovalOutboxMessage last = outboxMessages.get(outboxMessages.size() - 1);
+            pageCursor = OutboxCursor.of(last.getCreatedAt(), last.getId());
         }
+        return outboxMessages;
     }
 
-    private void updateOutboxStatus(OrderApprovalOutboxMessage orderApprovalOutboxMessage, OutboxStatus outboxStatus) {
-        orderApprovalOutboxMessage.setOutboxStatus(outboxStatus);
-        approvalOutboxHelper.save(orderApprovalOutboxMessage);
-        log.info("OrderApprovalOutboxMessage is updated with outbox status: {}", outboxStatus.name());
+    @PreDestroy
+    public void close() throws InterruptedException {
+        outboxPoller.close();
     }
 }
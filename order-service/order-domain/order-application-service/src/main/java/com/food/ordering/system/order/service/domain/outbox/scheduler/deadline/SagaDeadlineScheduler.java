@@ -0,0 +1,75 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.deadline;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.exception.DomainException;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.order.service.domain.SagaInstanceHelper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaDeadlineScheduler {
+
+    private static final String DEADLINE_EXCEEDED = "Saga deadline exceeded after %d re-drives";
+
+    private final SagaInstanceHelper sagaInstanceHelper;
+    private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    @Scheduled(fixedDelayString = "${order-service.saga-deadline-fixed-delay}",
+               initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
+    public void processExpiredSagas() {
+        // Sagas waiting for a payment cancellation cannot be compensated any further, they are only re-driven.
+        for (OrderSagaInstance orderSagaInstance :
+            sagaInstanceHelper.claimExpiredSagaInstancesBySagaStatus(SagaStatus.PROCESSING)) {
+            try {
+                compensate(orderSagaInstance);
+            } catch (DomainException | DataAccessException e) {
+                log.error("Could not compensate saga with id: {}", orderSagaInstance.getSagaId(), e);
+            }
+        }
+
+        // The payment may have been charged without its response reaching us, cancelling the order here would
+        // never refund it. The request is parked for an operator re-drive instead.
+        List<UUID> parked = sagaInstanceHelper.parkExpiredSagaInstances(SagaStatus.STARTED);
+        if (!parked.isEmpty()) {
+            log.error("Parked {} sagas with no payment response after {} re-drives, saga ids: {}",
+                      parked.size(),
+                      orderServiceConfigData.getSagaDeadlineMaxRedrives(),
+                      parked);
+        }
+
+        int redriven = sagaInstanceHelper.redriveExpiredSagaInstances(SagaStatus.STARTED, SagaStatus.PROCESSING);
+        if (redriven > 0) {
+            log.info("Re-drove {} sagas past their deadline", redriven);
+        }
+    }
+
+    private void compensate(OrderSagaInstance orderSagaInstance) {
+        String sagaId = orderSagaInstance.getSagaId().toString();
+        String orderId = orderSagaInstance.getOrderId().toString();
+        log.warn("Saga with id: {} is past its deadline, rejecting order id: {}", sagaId, orderId);
+        restaurantApprovalResponseMessageListener.orderRejected(RestaurantApprovalResponse.builder()
+            .sagaId(sagaId)
+            .orderId(orderId)
+            .orderApprovalStatus(OrderApprovalStatus.REJECTED)
+            .failureMessages(getFailureMessages())
+            .build());
+    }
+
+    private List<String> getFailureMessages() {
+        return List.of(DEADLINE_EXCEEDED.formatted(orderServiceConfigData.getSagaDeadlineMaxRedrives()));
+    }
+}
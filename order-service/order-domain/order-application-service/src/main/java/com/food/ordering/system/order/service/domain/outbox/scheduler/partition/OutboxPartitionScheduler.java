@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.partition;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OutboxPartitionRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPartitionScheduler {
+
+    private final OutboxPartitionRepository outboxPartitionRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${order-service.outbox-partition-maintenance-fixed-delay}")
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now(ZoneId.of(UTC));
+
+        List<String> created = outboxPartitionRepository.createPartitions(
+            today, today.plusDays(orderServiceConfigData.getOutboxPartitionDaysAhead()));
+        log.info("Outbox partitions ensured up to {} days ahead: {}",
+                 orderServiceConfigData.getOutboxPartitionDaysAhead(),
+                 created);
+
+        List<String> dropped = outboxPartitionRepository.dropPartitionsBefore(
+            today.minusDays(orderServiceConfigData.getOutboxPartitionRetentionDays()),
+            OutboxStatus.COMPLETED,
+            SagaStatus.STARTED,
+            SagaStatus.PROCESSING,
+            SagaStatus.COMPENSATING);
+        if (!dropped.isEmpty()) {
+            log.info("Dropped {} expired outbox partitions: {}", dropped.size(), dropped);
+        }
+
+        // Rows that fell into the default partition are never dropped with a day partition.
+        int deleted = outboxPartitionRepository.deleteDefaultPartitionRowsBefore(
+            today.minusDays(orderServiceConfigData.getOutboxPartitionRetentionDays()),
+            orderServiceConfigData.getOutboxCleanerBatchSize(),
+            OutboxStatus.COMPLETED,
+            SagaStatus.STARTED,
+            SagaStatus.PROCESSING,
+            SagaStatus.COMPENSATING);
+        if (deleted > 0) {
+            log.info("Deleted {} expired outbox rows from the default partitions", deleted);
+        }
+    }
+}
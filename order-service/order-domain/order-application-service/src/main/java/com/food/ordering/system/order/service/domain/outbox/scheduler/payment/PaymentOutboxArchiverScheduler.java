@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.PreDestroy;
+
+import com.food.ordering.system.order.service.domain.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxArchiveSource;
+import com.food.ordering.system.outbox.OutboxArchiver;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxScheduler;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.archive.OutboxSegmentArchive;
+import com.food.ordering.system.saga.SagaStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "order-service", name = "outbox-archive-enabled", havingValue = "true")
+public class PaymentOutboxArchiverScheduler implements OutboxScheduler {
+
+    private final OutboxSegmentArchive outboxSegmentArchive;
+    private final OutboxArchiver outboxArchiver;
+
+    public PaymentOutboxArchiverScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                          OrderServiceConfigData orderServiceConfigData,
+                                          MeterRegistry meterRegistry) {
+        this.outboxSegmentArchive = openArchive(orderServiceConfigData);
+        this.outboxArchiver = new OutboxArchiver(
+            "payment-outbox-archiver",
+            orderServiceConfigData.getOutboxCleanerBatchSize(),
+            orderServiceConfigData.getOutboxCleanerThrottle(),
+            orderServiceConfigData.getOutboxCleanerRetention(),
+            new OutboxArchiveSource() {
+                @Override
+                public List<OutboxRecord> findPage(ZonedDateTime createdBefore, OutboxCursor after, int limit) {
+                    return paymentOutboxHelper.getPaymentOutboxArchivablePageByOutboxStatusAndSagaStatus(
+                        createdBefore,
+                        after,
+                        limit,
+                        OutboxStatus.COMPLETED,
+                        SagaStatus.STARTED,
+                        SagaStatus.COMPENSATING);
+                }
+
+                @Override
+                public int deleteByIds(ZonedDateTime createdBefore, List<UUID> ids) {
+                    return paymentOutboxHelper.deletePaymentOutboxMessagesByIds(createdBefore, ids);
+                }
+            },
+            outboxSegmentArchive,
+            new MicrometerOutboxMetrics(meterRegistry, "payment"));
+    }
+
+    private static OutboxSegmentArchive openArchive(OrderServiceConfigData orderServiceConfigData) {
+        Path directory = Path.of(orderServiceConfigData.getOutboxArchiveDirectory()).toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+            if (!Files.isWritable(directory)) {
+                throw new AccessDeniedException(directory.toString());
+            }
+            return new OutboxSegmentArchive(directory,
+                                            "payment-outbox",
+                                            orderServiceConfigData.getOutboxArchiveSegmentSize().toBytes(),
+                                            orderServiceConfigData.getOutboxArchiveBlockSize());
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                format("order-service.outbox-archive-directory: %s is not a writable directory, point it to local "
+                           + "storage this instance can write or set order-service.outbox-archive-enabled to false",
+                       directory),
+                e);
+        }
+    }
+
+    @Override
+    @Scheduled(
+        fixedDelayString = "${order-service.outbox-cleaner-fixed-delay}",
+        initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        outboxArchiver.archive();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        outboxSegmentArchive.close();
+    }
+}
@@ -1,49 +1,47 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
-import static java.util.stream.Collectors.joining;
-
-import java.util.List;
-import java.util.Optional;
-
 import com.food.ordering.system.order.service.domain.PaymentOutboxHelper;
-import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxCleaner;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order-service", name = "outbox-archive-enabled", havingValue = "false",
+                       matchIfMissing = true)
 public class PaymentOutboxCleanerScheduler implements OutboxScheduler {
 
-    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OutboxCleaner outboxCleaner;
+
+    public PaymentOutboxCleanerScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                         OrderServiceConfigData orderServiceConfigData,
+                                         MeterRegistry meterRegistry) {
+        this.outboxCleaner = new OutboxCleaner(
+            "payment-outbox-cleaner",
+            orderServiceConfigData.getOutboxCleanerBatchSize(),
+            orderServiceConfigData.getOutboxCleanerThrottle(),
+            orderServiceConfigData.getOutboxCleanerRetention(),
+            (createdBefore, limit) ->
+                paymentOutboxHelper.deletePaymentOutboxMessageBatchByOutboxStatusAndSagaStatus(
+                    createdBefore,
+                    limit,
+                    OutboxStatus.COMPLETED,
+                    SagaStatus.STARTED,
+                    SagaStatus.COMPENSATING),
+            new MicrometerOutboxMetrics(meterRegistry, "payment"));
+    }
 
     @Override
-    @Scheduled(cron = "@midnight")
+    @Scheduled(
+        fixedDelayString = "${order-service.outbox-cleaner-fixed-delay}",
+        initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
     public void processOutboxMessage() {
-        Optional<List<OrderPaymentOutboxMessage>> outboxMessageResponse =
-            paymentOutboxHelper.getPaymentOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus.COMPLETED,
-                                                                                   SagaStatus.SUCCEEDED,
-                                                                                   SagaStatus.FAILED,
-                                                                                   SagaStatus.COMPENSATED);
-
-        if (outboxMessageResponse.isPresent()) {
-            List<OrderPaymentOutboxMessage> outboxMessages = outboxMessageResponse.get();
-            log.info("Received {} OrderPaymentOutboxMessage for clean-up. The payloads: {}",
-                     outboxMessages.size(),
-                     outboxMessages.stream()
-                         .map(OrderPaymentOutboxMessage::getPayload)
-                         .collect(joining("\n")));
-
-            paymentOutboxHelper.deletePaymentOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus.COMPLETED,
-                                                                                      SagaStatus.SUCCEEDED,
-                                                                                      SagaStatus.FAILED,
-                                                                                      SagaStatus.COMPENSATED);
-            log.info("{} OrderPaymentOutboxMessage deleted!", outboxMessages.size());
-        }
+        outboxCleaner.clean();
     }
 }
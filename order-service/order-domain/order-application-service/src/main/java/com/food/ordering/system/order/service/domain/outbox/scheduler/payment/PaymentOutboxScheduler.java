@@ -1,62 +1,119 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
-import static java.util.stream.Collectors.joining;
-
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import javax.annotation.PreDestroy;
 
 import com.food.ordering.system.order.service.domain.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.shard.OutboxShardScheduler;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.outbox.AdaptivePollInterval;
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxPoller;
+import com.food.ordering.system.outbox.OutboxPollerSettings;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
 @Component
-@RequiredArgsConstructor
 public class PaymentOutboxScheduler implements OutboxScheduler {
 
     private final PaymentOutboxHelper paymentOutboxHelper;
-    private final PaymentRequestMessagePublisher paymentRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OutboxShardScheduler outboxShardScheduler;
+    private final OutboxPoller<OrderPaymentOutboxMessage, OutboxCursor> outboxPoller;
+    @Getter
+    private final AdaptivePollInterval pollInterval;
+    private OutboxCursor pageCursor;
+
+    public PaymentOutboxScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                  PaymentRequestMessagePublisher paymentRequestMessagePublisher,
+                                  OrderServiceConfigData orderServiceConfigData,
+                                  OutboxShardScheduler outboxShardScheduler,
+                                  MeterRegistry meterRegistry) {
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.outboxShardScheduler = outboxShardScheduler;
+        MicrometerOutboxMetrics outboxMetrics = new MicrometerOutboxMetrics(meterRegistry, "payment");
+        this.outboxPoller = new OutboxPoller<>(
+            "payment-outbox",
+            OutboxPollerSettings.builder()
+                .pageSize(orderServiceConfigData.getOutboxSchedulerPageSize())
+                .retryBatchSize(orderServiceConfigData.getOutboxRetryBatchSize())
+                .publishLanes(orderServiceConfigData.getOutboxSchedulerPublishLanes())
+                .maxInFlight(orderServiceConfigData.getOutboxSchedulerMaxInFlight())
+                .drainTimeout(orderServiceConfigData.getOutboxSchedulerDrainTimeout())
+                .ackBatchSize(orderServiceConfigData.getOutboxSchedulerAckBatchSize())
+                .ackFlushInterval(orderServiceConfigData.getOutboxSchedulerAckFlushInterval())
+                .build(),
+            this::claimOutboxMessages,
+            limit -> paymentOutboxHelper.claimRetryablePaymentOutboxMessageBySagaStatus(limit,
+                                                                                        SagaStatus.STARTED,
+                                                                                        SagaStatus.COMPENSATING),
+            outboxMessage -> OutboxCursor.of(outboxMessage.getCreatedAt(), outboxMessage.getId()),
+            OrderPaymentOutboxMessage::getSagaId,
+            paymentRequestMessagePublisher::publish,
+            paymentOutboxHelper::updateOutboxStatusByKeys,
+            outboxMetrics);
+        this.pollInterval = orderServiceConfigData.isOutboxSchedulerAdaptiveEnabled()
+            ? new AdaptivePollInterval(orderServiceConfigData.getOutboxSchedulerMinDelay(),
+                                       orderServiceConfigData.getOutboxSchedulerMaxDelay(),
+                                       orderServiceConfigData.getOutboxSchedulerFixedRate())
+            : AdaptivePollInterval.fixed(orderServiceConfigData.getOutboxSchedulerFixedRate());
+        outboxMetrics.pollInterval(pollInterval);
+    }
 
     @Override
-    @Scheduled(
-        fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
-        initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
-    @Transactional
-    public void processOutboxMessage() {
-        Optional<List<OrderPaymentOutboxMessage>> optionalOutboxMessages =
-            paymentOutboxHelper.getPaymentOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus.STARTED,
-                                                                                   SagaStatus.STARTED,
-                                                                                   SagaStatus.COMPENSATING);
-
-        if (optionalOutboxMessages.isPresent() && optionalOutboxMessages.get().size() > 0) {
-            List<OrderPaymentOutboxMessage> outboxMessages = optionalOutboxMessages.get();
-            log.info("Received {} OrderPaymentOutboxMessage with ids: {}, sending to message bus!",
-                     outboxMessages.size(),
-                     outboxMessages.stream()
-                         .map(OrderPaymentOutboxMessage::getId)
-                         .map(UUID::toString)
-                         .collect(joining(",")));
-
-            outboxMessages.forEach(
-                outboxMessage -> paymentRequestMessagePublisher.publish(outboxMessage, this::updateOutboxStatus));
-
-            log.info("{} OrderPaymentOutboxMessage sent to message bus!", outboxMessages.size());
+    public synchronized void processOutboxMessage() {
+        pageCursor = null;
+        pollInterval.record(outboxPoller.poll(), orderServiceConfigData.getOutboxSchedulerPageSize());
+    }
 
+    public boolean publish(List<OrderPaymentOutboxMessage> outboxMessages,
+                           BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxListener) {
+        return outboxPoller.publish(outboxMessages, outboxListener);
+    }
+
+    private List<OrderPaymentOutboxMessage> claimOutboxMessages(int limit) {
+        // Shards are re-read for every page and rows are still claimed under a lease, so a shard handed
+        // to another instance mid-poll is never published by both.
+        if (orderServiceConfigData.isOutboxSchedulerShardEnabled()) {
+            return paymentOutboxHelper.claimPaymentOutboxMessageShardByOutboxStatusAndSagaStatus(
+                outboxShardScheduler.getOwnedShards(),
+                limit,
+                OutboxStatus.STARTED,
+                SagaStatus.STARTED,
+                SagaStatus.COMPENSATING);
+        }
+        if (orderServiceConfigData.isOutboxSchedulerClaimEnabled()) {
+            return paymentOutboxHelper.claimPaymentOutboxMessageByOutboxStatusAndSagaStatus(limit,
+                                                                                           OutboxStatus.STARTED,
+                                                                                           SagaStatus.STARTED,
+                                                                                           SagaStatus.COMPENSATING);
+        }
+        // Unclaimed reads page by cursor, so rows still waiting for their ack are not read twice in one poll.
+        List<OrderPaymentOutboxMessage> outboxMessages =
+            paymentOutboxHelper.getPaymentOutboxMessagePageByOutboxStatusAndSagaStatus(pageCursor,
+                                                                                       limit,
+                                                                                       OutboxStatus.STARTED,
+                                                                                       SagaStatus.STARTED,
+                                                                                       SagaStatus.COMPENSATING);
+        if (!outboxMessages.isEmpty()) {
+            OrderPaymentOutboxMessage last = outboxMessages.get(outboxMessages.size() - 1);
+            pageCursor = OutboxCursor.of(last.getCreatedAt(), last.getId());
         }
+        return outboxMessages;
     }
 
-    private void updateOutboxStatus(OrderPaymentOutboxMessage outboxMessage, OutboxStatus outboxStatus) {
-        outboxMessage.setOutboxStatus(outboxStatus);
-        paymentOutboxHelper.save(outboxMessage);
-        log.info("OrderPaymentOutboxMessage is updated with outbox status: {}", outboxStatus.name());
+    @PreDestroy
+    public void close() throws InterruptedException {
+        outboxPoller.close();
     }
 }
@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.shard;
+
+import java.util.Set;
+
+import javax.annotation.PreDestroy;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OutboxShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxShardScheduler {
+
+    private final OutboxShardRepository outboxShardRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${order-service.outbox-shard-rebalance-fixed-delay}")
+    public void rebalanceShards() {
+        if (orderServiceConfigData.isOutboxSchedulerShardEnabled()) {
+            ownedShards = outboxShardRepository.rebalanceShards();
+        }
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return ownedShards;
+    }
+
+    @PreDestroy
+    public void releaseShards() {
+        ownedShards = Set.of();
+        outboxShardRepository.releaseShards();
+    }
+}
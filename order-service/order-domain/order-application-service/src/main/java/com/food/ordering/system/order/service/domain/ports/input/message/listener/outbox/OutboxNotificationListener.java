@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.outbox;
+
+public interface OutboxNotificationListener {
+
+    void paymentOutboxNotified();
+
+    void approvalOutboxNotified();
+}
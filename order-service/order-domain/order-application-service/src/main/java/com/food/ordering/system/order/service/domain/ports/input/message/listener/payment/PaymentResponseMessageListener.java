@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.domain.ports.input.message.listener.payment;
 
+import java.util.List;
+
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 
 public interface PaymentResponseMessageListener {
@@ -7,4 +9,8 @@ public interface PaymentResponseMessageListener {
     void paymentCompleted(PaymentResponse paymentResponse);
 
     void paymentCancelled(PaymentResponse paymentResponse);
+
+    void paymentsCompleted(List<PaymentResponse> paymentResponses);
+
+    void paymentsCancelled(List<PaymentResponse> paymentResponses);
 }
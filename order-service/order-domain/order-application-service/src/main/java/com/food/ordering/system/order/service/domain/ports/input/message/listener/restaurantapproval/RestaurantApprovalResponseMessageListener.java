@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval;
 
+import java.util.List;
+
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 
 public interface RestaurantApprovalResponseMessageListener {
@@ -7,4 +9,8 @@ public interface RestaurantApprovalResponseMessageListener {
     void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse);
 
     void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse);
+
+    void ordersApproved(List<RestaurantApprovalResponse> restaurantApprovalResponses);
+
+    void ordersRejected(List<RestaurantApprovalResponse> restaurantApprovalResponses);
 }
@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain.ports.input.service;
+
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveCommand;
+import com.food.ordering.system.order.service.domain.dto.redrive.SagaRedriveResponse;
+
+import javax.validation.Valid;
+import java.util.Optional;
+
+public interface SagaRedriveService {
+
+    SagaRedriveResponse redriveSagas(@Valid SagaRedriveCommand sagaRedriveCommand);
+
+    Optional<SagaRedriveResponse> getSagaRedrive();
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher;
+
+import java.util.UUID;
+
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.outbox.OutboxEncodedPayload;
+
+public interface OutboxPayloadEncoder {
+
+    OutboxEncodedPayload encodePaymentRequest(UUID sagaId, OrderPaymentEventPayload orderPaymentEventPayload);
+
+    OutboxEncodedPayload encodeRestaurantApprovalRequest(UUID sagaId,
+                                                         OrderApprovalEventPayload orderApprovalEventPayload);
+}
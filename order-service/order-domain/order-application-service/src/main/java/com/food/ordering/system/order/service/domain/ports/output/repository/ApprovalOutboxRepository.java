@@ -1,10 +1,16 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 
@@ -12,15 +18,56 @@ public interface ApprovalOutboxRepository {
 
     OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage);
 
+    List<OrderApprovalOutboxMessage> saveAll(List<OrderApprovalOutboxMessage> orderApprovalOutboxMessages);
+
+    int updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys);
+
+    List<UUID> scheduleRetryByKeys(List<OutboxCursor> keys, OutboxRetryPolicy retryPolicy);
+
     Optional<List<OrderApprovalOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String type,
                                                                                       OutboxStatus outboxStatus,
                                                                                       SagaStatus... sagaStatuses);
 
-    Optional<OrderApprovalOutboxMessage> findByTypeAndSagaIdAndSagaStatus(String type,
-                                                                          UUID sagaId,
-                                                                          SagaStatus... sagaStatuses);
+    List<OrderApprovalOutboxMessage> findPageByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                OutboxStatus outboxStatus,
+                                                                                OutboxCursor after,
+                                                                                int limit,
+                                                                                SagaStatus... sagaStatuses);
+
+
+    List<OrderApprovalOutboxMessage> findRedrivePageByType(String type,
+                                                           SagaRedriveFilter sagaRedriveFilter,
+                                                           OutboxCursor after,
+                                                           int limit);
+
+    List<OrderApprovalOutboxMessage> claimByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                             OutboxStatus outboxStatus,
+                                                                             String claimedBy,
+                                                                             Duration leaseDuration,
+                                                                             int limit,
+                                                                             SagaStatus... sagaStatuses);
+
+    List<OrderApprovalOutboxMessage> claimShardByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                  OutboxStatus outboxStatus,
+                                                                                  String claimedBy,
+                                                                                  Duration leaseDuration,
+                                                                                  int limit,
+                                                                                  int shardCount,
+                                                                                  Set<Integer> shards,
+                                                                                  SagaStatus... sagaStatuses);
+
+    List<OrderApprovalOutboxMessage> claimRetryableByTypeAndSagaStatus(String type,
+                                                                       Duration leaseDuration,
+                                                                       int limit,
+                                                                       SagaStatus... sagaStatuses);
 
     void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
                                                   OutboxStatus outboxStatus,
                                                   SagaStatus... sagaStatuses);
+
+    int deleteBatchByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                      OutboxStatus outboxStatus,
+                                                      ZonedDateTime createdBefore,
+                                                      int limit,
+                                                      SagaStatus... sagaStatuses);
 }
@@ -4,6 +4,8 @@ import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
@@ -13,4 +15,6 @@ public interface OrderRepository {
     Optional<Order> findByTrackingId(TrackingId trackingId);
 
     Optional<Order> findById(OrderId orderId);
+
+    List<Order> findAllById(Collection<OrderId> orderIds);
 }
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaStepResult;
+import com.food.ordering.system.saga.SagaStatus;
+
+public interface OrderSagaRepository {
+
+    OrderSagaStepResult payOrder(OrderId orderId,
+                                 ZonedDateTime processedAt,
+                                 ZonedDateTime respondedAt,
+                                 SagaStatus sagaStatus,
+                                 String step,
+                                 OrderApprovalOutboxMessage orderApprovalOutboxMessage);
+
+    OrderSagaStepResult approveOrder(String type,
+                                     UUID sagaId,
+                                     OrderId orderId,
+                                     ZonedDateTime processedAt,
+                                     ZonedDateTime respondedAt,
+                                     SagaStatus sagaStatus);
+
+    boolean updateOrderStatuses(List<Order> orders);
+}
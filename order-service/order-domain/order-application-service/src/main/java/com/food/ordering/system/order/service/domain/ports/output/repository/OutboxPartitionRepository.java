@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+
+public interface OutboxPartitionRepository {
+
+    List<String> createPartitions(LocalDate from, LocalDate to);
+
+    List<String> dropPartitionsBefore(LocalDate before, OutboxStatus outboxStatus, SagaStatus... sagaStatuses);
+
+    int deleteDefaultPartitionRowsBefore(LocalDate before,
+                                         int batchSize,
+                                         OutboxStatus outboxStatus,
+                                         SagaStatus... sagaStatuses);
+}
@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.util.Set;
+
+public interface OutboxShardRepository {
+
+    Set<Integer> rebalanceShards();
+
+    void releaseShards();
+}
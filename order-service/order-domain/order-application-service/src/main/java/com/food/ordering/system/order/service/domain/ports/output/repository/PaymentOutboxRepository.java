@@ -1,10 +1,17 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.saga.model.SagaRedriveFilter;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 
@@ -12,15 +19,65 @@ public interface PaymentOutboxRepository {
 
     OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
 
+    List<OrderPaymentOutboxMessage> saveAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages);
+
+    int updateOutboxStatusByKeys(OutboxStatus outboxStatus, List<OutboxCursor> keys);
+
+    List<UUID> scheduleRetryByKeys(List<OutboxCursor> keys, OutboxRetryPolicy retryPolicy);
+
     Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String type,
                                                                                      OutboxStatus outboxStatus,
                                                                                      SagaStatus... sagaStatuses);
 
-    Optional<OrderPaymentOutboxMessage> findByTypeAndSagaIdAndSagaStatus(String type,
-                                                                         UUID sagaId,
-                                                                         SagaStatus... sagaStatuses);
+    List<OrderPaymentOutboxMessage> findPageByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                               OutboxStatus outboxStatus,
+                                                                               OutboxCursor after,
+                                                                               int limit,
+                                                                               SagaStatus... sagaStatuses);
+
+
+    List<OrderPaymentOutboxMessage> findRedrivePageByType(String type,
+                                                          SagaRedriveFilter sagaRedriveFilter,
+                                                          OutboxCursor after,
+                                                          int limit);
+
+    List<OrderPaymentOutboxMessage> claimByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                            OutboxStatus outboxStatus,
+                                                                            String claimedBy,
+                                                                            Duration leaseDuration,
+                                                                            int limit,
+                                                                            SagaStatus... sagaStatuses);
+
+    List<OrderPaymentOutboxMessage> claimShardByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                                 OutboxStatus outboxStatus,
+                                                                                 String claimedBy,
+                                                                                 Duration leaseDuration,
+                                                                                 int limit,
+                                                                                 int shardCount,
+                                                                                 Set<Integer> shards,
+                                                                                 SagaStatus... sagaStatuses);
+
+    List<OrderPaymentOutboxMessage> claimRetryableByTypeAndSagaStatus(String type,
+                                                                      Duration leaseDuration,
+                                                                      int limit,
+                                                                      SagaStatus... sagaStatuses);
 
     void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
                                                   OutboxStatus outboxStatus,
                                                   SagaStatus... sagaStatuses);
+
+    int deleteBatchByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                      OutboxStatus outboxStatus,
+                                                      ZonedDateTime createdBefore,
+                                                      int limit,
+                                                      SagaStatus... sagaStatuses);
+
+    List<OutboxRecord> findArchivablePageByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                                            OutboxStatus outboxStatus,
+                                                                            ZonedDateTime createdBefore,
+                                                                            OutboxCursor after,
+                                                                            int limit,
+                                                                            SagaStatus... sagaStatuses);
+
+    int deleteByIds(ZonedDateTime createdBefore, List<UUID> ids);
 }
@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.food.ordering.system.order.service.domain.saga.model.OrderSagaInstance;
+import com.food.ordering.system.outbox.OutboxCursor;
+import com.food.ordering.system.saga.SagaStatus;
+
+public interface SagaInstanceRepository {
+
+    OrderSagaInstance save(OrderSagaInstance orderSagaInstance);
+
+    boolean updateByIdAndVersion(OrderSagaInstance orderSagaInstance);
+
+    boolean updateAllByIdAndVersion(List<OrderSagaInstance> orderSagaInstances);
+
+    Optional<OrderSagaInstance> findByTypeAndSagaIdAndSagaStatus(String type,
+                                                                 UUID sagaId,
+                                                                 SagaStatus... sagaStatuses);
+
+    List<OrderSagaInstance> findByTypeAndSagaIdsAndSagaStatus(String type,
+                                                              Collection<UUID> sagaIds,
+                                                              SagaStatus... sagaStatuses);
+
+    List<ZonedDateTime> updatePaymentRequestedAtByOutboxKeys(List<OutboxCursor> outboxKeys);
+
+    List<ZonedDateTime> updateApprovalRequestedAtByOutboxKeys(List<OutboxCursor> outboxKeys);
+
+    int redriveExpiredByType(String type, int maxRedrives, int limit, SagaStatus... compensableSagaStatuses);
+
+    List<OrderSagaInstance> claimExpiredByTypeAndSagaStatus(String type,
+                                                            int maxRedrives,
+                                                            int limit,
+                                                            SagaStatus... sagaStatuses);
+
+    List<UUID> parkExpiredByTypeAndSagaStatus(String type, int maxRedrives, int limit, SagaStatus sagaStatus);
+}
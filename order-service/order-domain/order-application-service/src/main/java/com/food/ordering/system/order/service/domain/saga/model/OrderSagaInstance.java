@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSagaInstance {
+
+    private UUID sagaId;
+    private String type;
+    private UUID orderId;
+    private String step;
+    private SagaStatus sagaStatus;
+    private OrderStatus orderStatus;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private int version;
+    private ZonedDateTime paymentRequestedAt;
+    private ZonedDateTime paymentRespondedAt;
+    private ZonedDateTime approvalRequestedAt;
+    private ZonedDateTime approvalRespondedAt;
+
+    public void setStep(String step) {
+        this.step = step;
+    }
+
+    public void setSagaStatus(SagaStatus sagaStatus) {
+        this.sagaStatus = sagaStatus;
+    }
+
+    public void setOrderStatus(OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public void setProcessedAt(ZonedDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    public void setPaymentRespondedAt(ZonedDateTime paymentRespondedAt) {
+        this.paymentRespondedAt = paymentRespondedAt;
+    }
+
+    public void setApprovalRespondedAt(ZonedDateTime approvalRespondedAt) {
+        this.approvalRespondedAt = approvalRespondedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import java.time.ZonedDateTime;
+
+import com.food.ordering.system.saga.SagaStepOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSagaStepResult {
+
+    private SagaStepOutcome outcome;
+    private ZonedDateTime sagaCreatedAt;
+    private ZonedDateTime requestedAt;
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SagaRedriveFilter {
+
+    private SagaStatus sagaStatus;
+    private ZonedDateTime createdFrom;
+    private ZonedDateTime createdTo;
+    private UUID restaurantId;
+}
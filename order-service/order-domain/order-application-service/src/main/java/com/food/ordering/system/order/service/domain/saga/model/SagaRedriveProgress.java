@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.Getter;
+
+@Getter
+public class SagaRedriveProgress {
+
+    private final UUID redriveId;
+    private final SagaStatus sagaStatus;
+    private final ZonedDateTime startedAt;
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong republished = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile SagaRedriveStatus status = SagaRedriveStatus.RUNNING;
+    private volatile ZonedDateTime finishedAt;
+
+    public SagaRedriveProgress(UUID redriveId, SagaStatus sagaStatus) {
+        this.redriveId = redriveId;
+        this.sagaStatus = sagaStatus;
+        this.startedAt = ZonedDateTime.now(ZoneId.of(UTC));
+    }
+
+    public void scanned(int count) {
+        scanned.addAndGet(count);
+    }
+
+    public void acknowledged(OutboxStatus outboxStatus) {
+        if (outboxStatus == OutboxStatus.COMPLETED) {
+            republished.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+    }
+
+    public void finish(SagaRedriveStatus status) {
+        this.finishedAt = ZonedDateTime.now(ZoneId.of(UTC));
+        this.status = status;
+    }
+
+    public boolean isRunning() {
+        return status == SagaRedriveStatus.RUNNING;
+    }
+
+    public double getMessagesPerSecond() {
+        ZonedDateTime until = finishedAt == null ? ZonedDateTime.now(ZoneId.of(UTC)) : finishedAt;
+        long elapsedMillis = Math.max(1, Duration.between(startedAt, until).toMillis());
+        return (republished.get() + failed.get()) * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+public enum SagaRedriveStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderSagaOutcomeCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderSagaOutcomeCache orderSagaOutcomeCache =
+            new OrderSagaOutcomeCache(new OrderServiceConfigData(), meterRegistry);
+    private final String sagaId = UUID.randomUUID().toString();
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testOutcomeOutsideTransactionIsCachedImmediately() {
+        orderSagaOutcomeCache.markProcessed(sagaId, "payment", PaymentStatus.COMPLETED);
+
+        assertTrue(orderSagaOutcomeCache.isProcessed(sagaId, "payment", PaymentStatus.COMPLETED));
+        assertFalse(orderSagaOutcomeCache.isProcessed(sagaId, "payment", PaymentStatus.FAILED));
+        assertEquals(1, meterRegistry.get("saga.outcome.cache.hits").functionCounter().count());
+        assertEquals(1, meterRegistry.get("saga.outcome.cache.misses").functionCounter().count());
+    }
+
+    @Test
+    public void testOutcomeIsCachedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        orderSagaOutcomeCache.markProcessed(sagaId, "payment", PaymentStatus.COMPLETED);
+
+        assertFalse(orderSagaOutcomeCache.isProcessed(sagaId, "payment", PaymentStatus.COMPLETED));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(orderSagaOutcomeCache.isProcessed(sagaId, "payment", PaymentStatus.COMPLETED));
+    }
+
+    @Test
+    public void testRolledBackOutcomeIsNotCached() {
+        TransactionSynchronizationManager.initSynchronization();
+        orderSagaOutcomeCache.markProcessed(sagaId, "payment", PaymentStatus.COMPLETED);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(
+                        TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(orderSagaOutcomeCache.isProcessed(sagaId, "payment", PaymentStatus.COMPLETED));
+        assertEquals(0, meterRegistry.get("saga.outcome.cache.size").gauge().value());
+    }
+}
@@ -1,8 +1,19 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.OutboxPayloadEncoder;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OutboxPartitionRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OutboxShardRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaInstanceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -15,6 +26,11 @@ public class OrderTestConfiguration {
         return Mockito.mock(OrderRepository.class);
     }
 
+    @Bean
+    public OrderSagaRepository orderSagaRepository() {
+        return Mockito.mock(OrderSagaRepository.class);
+    }
+
     @Bean
     public CustomerRepository customerRepository() {
         return Mockito.mock(CustomerRepository.class);
@@ -25,6 +41,51 @@ public class OrderTestConfiguration {
         return Mockito.mock(RestaurantRepository.class);
     }
 
+    @Bean
+    public PaymentOutboxRepository paymentOutboxRepository() {
+        return Mockito.mock(PaymentOutboxRepository.class);
+    }
+
+    @Bean
+    public ApprovalOutboxRepository approvalOutboxRepository() {
+        return Mockito.mock(ApprovalOutboxRepository.class);
+    }
+
+    @Bean
+    public SagaInstanceRepository sagaInstanceRepository() {
+        return Mockito.mock(SagaInstanceRepository.class);
+    }
+
+    @Bean
+    public OutboxPartitionRepository outboxPartitionRepository() {
+        return Mockito.mock(OutboxPartitionRepository.class);
+    }
+
+    @Bean
+    public OutboxShardRepository outboxShardRepository() {
+        return Mockito.mock(OutboxShardRepository.class);
+    }
+
+    @Bean
+    public PaymentRequestMessagePublisher paymentRequestMessagePublisher() {
+        return Mockito.mock(PaymentRequestMessagePublisher.class);
+    }
+
+    @Bean
+    public RestaurantApprovalRequestMessagePublisher restaurantApprovalRequestMessagePublisher() {
+        return Mockito.mock(RestaurantApprovalRequestMessagePublisher.class);
+    }
+
+    @Bean
+    public OutboxPayloadEncoder outboxPayloadEncoder() {
+        return Mockito.mock(OutboxPayloadEncoder.class);
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
     @Bean
     public OrderDomainService orderDomainService() {
         return new OrderDomainServiceImpl();
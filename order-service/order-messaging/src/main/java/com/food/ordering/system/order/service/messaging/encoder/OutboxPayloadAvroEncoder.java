@@ -0,0 +1,95 @@
+package com.food.ordering.system.order.service.messaging.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.OutboxPayloadEncoder;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.OutboxEncodedPayload;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OutboxPayloadAvroEncoder implements OutboxPayloadEncoder {
+
+    // Confluent wire format: magic byte followed by a 4 byte big-endian schema id.
+    private static final byte MAGIC_BYTE = 0;
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final int paymentRequestSchemaId;
+    private final int restaurantApprovalRequestSchemaId;
+
+    public OutboxPayloadAvroEncoder(OrderMessagingDataMapper orderMessagingDataMapper,
+                                    OrderServiceConfigData orderServiceConfigData,
+                                    SchemaRegistryClient schemaRegistryClient) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        // Schema ids are resolved once here, so encoding inside a database transaction never calls the registry.
+        this.paymentRequestSchemaId = register(schemaRegistryClient,
+                orderServiceConfigData.getPaymentRequestTopicName(),
+                PaymentRequestAvroModel.getClassSchema());
+        this.restaurantApprovalRequestSchemaId = register(schemaRegistryClient,
+                orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+                RestaurantApprovalRequestAvroModel.getClassSchema());
+    }
+
+    @Override
+    public OutboxEncodedPayload encodePaymentRequest(UUID sagaId, OrderPaymentEventPayload orderPaymentEventPayload) {
+        return encode(paymentRequestSchemaId,
+                orderMessagingDataMapper.orderPaymentEventToPaymentRequestAvroModel(sagaId, orderPaymentEventPayload));
+    }
+
+    @Override
+    public OutboxEncodedPayload encodeRestaurantApprovalRequest(UUID sagaId,
+                                                                OrderApprovalEventPayload orderApprovalEventPayload) {
+        return encode(restaurantApprovalRequestSchemaId,
+                orderMessagingDataMapper.orderApprovalEventToRestaurantApprovalRequestAvroModel(sagaId,
+                        orderApprovalEventPayload));
+    }
+
+    private int register(SchemaRegistryClient schemaRegistryClient, String topicName, Schema schema) {
+        // Same subject and registration the KafkaAvroSerializer would use for the topic's record values.
+        String subject = topicName + "-value";
+        try {
+            int schemaId = schemaRegistryClient.register(subject, new AvroSchema(schema));
+            log.info("Outbox payloads for subject: {} are encoded with schema id: {}", subject, schemaId);
+            return schemaId;
+        } catch (IOException | RestClientException e) {
+            throw new KafkaProducerException("Could not register schema for subject: " + subject +
+                    " Exception: " + e.getMessage());
+        }
+    }
+
+    private <T extends SpecificRecordBase> OutboxEncodedPayload encode(int schemaId, T avroModel) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(MAGIC_BYTE);
+        outputStream.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(schemaId).array());
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(outputStream, null);
+        try {
+            new SpecificDatumWriter<T>(avroModel.getSchema(), avroModel.getSpecificData()).write(avroModel, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new KafkaProducerException("Could not encode outbox payload with schema id: " + schemaId +
+                    " Exception: " + e.getMessage());
+        }
+        return new OutboxEncodedPayload(schemaId, outputStream.toByteArray());
+    }
+}
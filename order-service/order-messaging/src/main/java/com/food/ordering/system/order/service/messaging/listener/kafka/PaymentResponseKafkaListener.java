@@ -3,8 +3,11 @@ package com.food.ordering.system.order.service.messaging.listener.kafka;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.saga.SagaStripedExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -12,7 +15,11 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -20,11 +27,16 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
 
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final SagaStripedExecutor sagaStripedExecutor;
 
     public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
-                                        OrderMessagingDataMapper orderMessagingDataMapper) {
+                                        OrderMessagingDataMapper orderMessagingDataMapper,
+                                        OrderServiceConfigData orderServiceConfigData) {
         this.paymentResponseMessageListener = paymentResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.sagaStripedExecutor = orderServiceConfigData.isSagaStripedExecutionEnabled()
+                ? new SagaStripedExecutor("payment-response", orderServiceConfigData.getSagaStripeCount())
+                : null;
     }
 
     @Override
@@ -39,17 +51,49 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
                 partitions.toString(),
                 offsets.toString());
 
+        // The listener returns once every stripe is done, so offsets are only committed for a finished batch.
+        if (sagaStripedExecutor != null) {
+            sagaStripedExecutor.execute(messages,
+                    paymentResponseAvroModel -> UUID.fromString(paymentResponseAvroModel.getOrderId()),
+                    this::process);
+        } else {
+            process(messages);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (sagaStripedExecutor != null) {
+            sagaStripedExecutor.close();
+        }
+    }
+
+    private void process(List<PaymentResponseAvroModel> messages) {
+        // Consecutive responses of the same kind are handed over together so their order is preserved.
+        List<PaymentResponse> completed = new ArrayList<>();
+        List<PaymentResponse> cancelled = new ArrayList<>();
         messages.forEach(paymentResponseAvroModel -> {
             if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
                 log.info("Processing successful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCompleted(orderMessagingDataMapper
+                flush(cancelled, paymentResponseMessageListener::paymentsCancelled);
+                completed.add(orderMessagingDataMapper
                         .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
             } else if (PaymentStatus.CANCELLED == paymentResponseAvroModel.getPaymentStatus() ||
                     PaymentStatus.FAILED == paymentResponseAvroModel.getPaymentStatus()) {
                 log.info("Processing unsuccessful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCancelled(orderMessagingDataMapper
+                flush(completed, paymentResponseMessageListener::paymentsCompleted);
+                cancelled.add(orderMessagingDataMapper
                         .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
             }
         });
+        flush(completed, paymentResponseMessageListener::paymentsCompleted);
+        flush(cancelled, paymentResponseMessageListener::paymentsCancelled);
+    }
+
+    private void flush(List<PaymentResponse> paymentResponses, Consumer<List<PaymentResponse>> listener) {
+        if (!paymentResponses.isEmpty()) {
+            listener.accept(List.copyOf(paymentResponses));
+            paymentResponses.clear();
+        }
     }
 }
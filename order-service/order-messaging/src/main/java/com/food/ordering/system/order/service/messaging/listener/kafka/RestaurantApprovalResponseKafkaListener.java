@@ -3,9 +3,12 @@ package com.food.ordering.system.order.service.messaging.listener.kafka;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.saga.SagaStripedExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -13,7 +16,11 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
 
@@ -23,12 +30,17 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
 
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final SagaStripedExecutor sagaStripedExecutor;
 
     public RestaurantApprovalResponseKafkaListener(RestaurantApprovalResponseMessageListener
                                                            restaurantApprovalResponseMessageListener,
-                                                   OrderMessagingDataMapper orderMessagingDataMapper) {
+                                                   OrderMessagingDataMapper orderMessagingDataMapper,
+                                                   OrderServiceConfigData orderServiceConfigData) {
         this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.sagaStripedExecutor = orderServiceConfigData.isSagaStripedExecutionEnabled()
+                ? new SagaStripedExecutor("restaurant-approval-response", orderServiceConfigData.getSagaStripeCount())
+                : null;
     }
 
     @Override
@@ -44,21 +56,54 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
                 partitions.toString(),
                 offsets.toString());
 
+        // The listener returns once every stripe is done, so offsets are only committed for a finished batch.
+        if (sagaStripedExecutor != null) {
+            sagaStripedExecutor.execute(messages,
+                    restaurantApprovalResponseAvroModel ->
+                            UUID.fromString(restaurantApprovalResponseAvroModel.getOrderId()),
+                    this::process);
+        } else {
+            process(messages);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (sagaStripedExecutor != null) {
+            sagaStripedExecutor.close();
+        }
+    }
+
+    private void process(List<RestaurantApprovalResponseAvroModel> messages) {
+        // Consecutive responses of the same kind are handed over together so their order is preserved.
+        List<RestaurantApprovalResponse> approved = new ArrayList<>();
+        List<RestaurantApprovalResponse> rejected = new ArrayList<>();
         messages.forEach(restaurantApprovalResponseAvroModel -> {
             if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
                 log.info("Processing approved order for order id: {}",
                         restaurantApprovalResponseAvroModel.getOrderId());
-                restaurantApprovalResponseMessageListener.orderApproved(orderMessagingDataMapper
+                flush(rejected, restaurantApprovalResponseMessageListener::ordersRejected);
+                approved.add(orderMessagingDataMapper
                         .approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
             } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
                 log.info("Processing rejected order for order id: {}, with failure messages: {}",
                         restaurantApprovalResponseAvroModel.getOrderId(),
                         String.join(FAILURE_MESSAGE_DELIMITER,
                                 restaurantApprovalResponseAvroModel.getFailureMessages()));
-                restaurantApprovalResponseMessageListener.orderRejected(orderMessagingDataMapper
+                flush(approved, restaurantApprovalResponseMessageListener::ordersApproved);
+                rejected.add(orderMessagingDataMapper
                         .approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
             }
         });
+        flush(approved, restaurantApprovalResponseMessageListener::ordersApproved);
+        flush(rejected, restaurantApprovalResponseMessageListener::ordersRejected);
+    }
 
+    private void flush(List<RestaurantApprovalResponse> restaurantApprovalResponses,
+                       Consumer<List<RestaurantApprovalResponse>> listener) {
+        if (!restaurantApprovalResponses.isEmpty()) {
+            listener.accept(List.copyOf(restaurantApprovalResponses));
+            restaurantApprovalResponses.clear();
+        }
     }
 }
@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaBytesProducer;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OrderApprovalEventKafkaPublisher implements RestaurantApprovalRequestMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
+    private final KafkaBytesProducer kafkaBytesProducer;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final ObjectMapper objectMapper;
+
+    public OrderApprovalEventKafkaPublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+                                           OrderServiceConfigData orderServiceConfigData,
+                                           KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer,
+                                           KafkaBytesProducer kafkaBytesProducer,
+                                           KafkaMessageHelper kafkaMessageHelper,
+                                           ObjectMapper objectMapper) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaProducer = kafkaProducer;
+        this.kafkaBytesProducer = kafkaBytesProducer;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(OrderApprovalOutboxMessage orderApprovalOutboxMessage,
+                        BiConsumer<OrderApprovalOutboxMessage, OutboxStatus> outboxCallback) {
+        String sagaId = orderApprovalOutboxMessage.getSagaId().toString();
+        String topicName = orderServiceConfigData.getRestaurantApprovalRequestTopicName();
+
+        log.info("Received OrderApprovalOutboxMessage with id: {} and saga id: {}",
+                 orderApprovalOutboxMessage.getId(), sagaId);
+
+        try {
+            if (orderApprovalOutboxMessage.getPayloadFormat() == OutboxPayloadFormat.AVRO) {
+                kafkaBytesProducer.send(topicName,
+                        sagaId,
+                        orderApprovalOutboxMessage.getPayloadBytes(),
+                        kafkaMessageHelper.getKafkaCallback(topicName,
+                                orderApprovalOutboxMessage,
+                                outboxCallback,
+                                sagaId,
+                                "RestaurantApprovalRequestAvroModel"));
+            } else {
+                RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper
+                        .orderApprovalEventToRestaurantApprovalRequestAvroModel(orderApprovalOutboxMessage.getSagaId(),
+                                getOrderApprovalEventPayload(orderApprovalOutboxMessage));
+
+                kafkaProducer.send(topicName,
+                        sagaId,
+                        restaurantApprovalRequestAvroModel,
+                        kafkaMessageHelper.getKafkaCallback(topicName,
+                                orderApprovalOutboxMessage,
+                                outboxCallback,
+                                sagaId,
+                                "RestaurantApprovalRequestAvroModel"));
+            }
+
+            log.info("OrderApprovalEventPayload sent to Kafka for saga id: {}", sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending OrderApprovalEventPayload" +
+                    " to kafka with saga id: {}, error: {}", sagaId, e.getMessage());
+            outboxCallback.accept(orderApprovalOutboxMessage, OutboxStatus.FAILED);
+        }
+    }
+
+    private OrderApprovalEventPayload
+    getOrderApprovalEventPayload(OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        try {
+            return objectMapper.readValue(orderApprovalOutboxMessage.getPayload(), OrderApprovalEventPayload.class);
+        } catch (JsonProcessingException e) {
+            log.error("Could not read OrderApprovalEventPayload for saga id: {}",
+                      orderApprovalOutboxMessage.getSagaId(), e);
+            throw new OrderDomainException("Could not read OrderApprovalEventPayload for saga id: " +
+                    orderApprovalOutboxMessage.getSagaId(), e);
+        }
+    }
+}
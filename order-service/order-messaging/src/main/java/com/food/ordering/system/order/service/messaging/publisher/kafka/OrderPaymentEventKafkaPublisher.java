@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaBytesProducer;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.OutboxPayloadFormat;
+import com.food.ordering.system.outbox.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OrderPaymentEventKafkaPublisher implements PaymentRequestMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final KafkaBytesProducer kafkaBytesProducer;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final ObjectMapper objectMapper;
+
+    public OrderPaymentEventKafkaPublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+                                           OrderServiceConfigData orderServiceConfigData,
+                                           KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer,
+                                           KafkaBytesProducer kafkaBytesProducer,
+                                           KafkaMessageHelper kafkaMessageHelper,
+                                           ObjectMapper objectMapper) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.kafkaProducer = kafkaProducer;
+        this.kafkaBytesProducer = kafkaBytesProducer;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(OrderPaymentOutboxMessage orderPaymentOutboxMessage,
+                        BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback) {
+        String sagaId = orderPaymentOutboxMessage.getSagaId().toString();
+        String topicName = orderServiceConfigData.getPaymentRequestTopicName();
+
+        log.info("Received OrderPaymentOutboxMessage with id: {} and saga id: {}",
+                 orderPaymentOutboxMessage.getId(), sagaId);
+
+        try {
+            if (orderPaymentOutboxMessage.getPayloadFormat() == OutboxPayloadFormat.AVRO) {
+                kafkaBytesProducer.send(topicName,
+                        sagaId,
+                        orderPaymentOutboxMessage.getPayloadBytes(),
+                        kafkaMessageHelper.getKafkaCallback(topicName,
+                                orderPaymentOutboxMessage,
+                                outboxCallback,
+                                sagaId,
+                                "PaymentRequestAvroModel"));
+            } else {
+                PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper
+                        .orderPaymentEventToPaymentRequestAvroModel(orderPaymentOutboxMessage.getSagaId(),
+                                getOrderPaymentEventPayload(orderPaymentOutboxMessage));
+
+                kafkaProducer.send(topicName,
+                        sagaId,
+                        paymentRequestAvroModel,
+                        kafkaMessageHelper.getKafkaCallback(topicName,
+                                orderPaymentOutboxMessage,
+                                outboxCallback,
+                                sagaId,
+                                "PaymentRequestAvroModel"));
+            }
+
+            log.info("OrderPaymentEventPayload sent to Kafka for saga id: {}", sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending OrderPaymentEventPayload" +
+                    " to kafka with saga id: {}, error: {}", sagaId, e.getMessage());
+            outboxCallback.accept(orderPaymentOutboxMessage, OutboxStatus.FAILED);
+        }
+    }
+
+    private OrderPaymentEventPayload getOrderPaymentEventPayload(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        try {
+            return objectMapper.readValue(orderPaymentOutboxMessage.getPayload(), OrderPaymentEventPayload.class);
+        } catch (JsonProcessingException e) {
+            log.error("Could not read OrderPaymentEventPayload for saga id: {}",
+                      orderPaymentOutboxMessage.getSagaId(), e);
+            throw new OrderDomainException("Could not read OrderPaymentEventPayload for saga id: " +
+                    orderPaymentOutboxMessage.getSagaId(), e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.food.ordering.system.order.service.messaging.encoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.OutboxEncodedPayload;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OutboxPayloadAvroEncoderTest {
+
+    private static final ZonedDateTime CREATED_AT = ZonedDateTime.of(2026, 10, 17, 8, 30, 15, 123_000_000,
+            ZoneOffset.UTC);
+
+    private final MockSchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+    private final OrderServiceConfigData orderServiceConfigData = orderServiceConfigData();
+    private final OutboxPayloadAvroEncoder outboxPayloadAvroEncoder =
+            new OutboxPayloadAvroEncoder(new OrderMessagingDataMapper(), orderServiceConfigData, schemaRegistryClient);
+
+    @Test
+    public void testPaymentRequestRoundTrips() throws IOException, RestClientException {
+        UUID sagaId = UUID.randomUUID();
+        OrderPaymentEventPayload orderPaymentEventPayload = OrderPaymentEventPayload.builder()
+                .orderId(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .price(new BigDecimal("50.25"))
+                .createdAt(CREATED_AT)
+                .paymentOrderStatus(PaymentOrderStatus.PENDING.name())
+                .build();
+
+        OutboxEncodedPayload encodedPayload =
+                outboxPayloadAvroEncoder.encodePaymentRequest(sagaId, orderPaymentEventPayload);
+        PaymentRequestAvroModel decoded = decode(encodedPayload, PaymentRequestAvroModel.class);
+
+        assertEquals(schemaRegistryClient.getId(orderServiceConfigData.getPaymentRequestTopicName() + "-value",
+                        new AvroSchema(PaymentRequestAvroModel.getClassSchema())),
+                encodedPayload.getSchemaId());
+        assertEquals(sagaId.toString(), decoded.getSagaId());
+        assertEquals(orderPaymentEventPayload.getOrderId(), decoded.getOrderId());
+        assertEquals(orderPaymentEventPayload.getCustomerId(), decoded.getCustomerId());
+        assertEquals(orderPaymentEventPayload.getPrice(), decoded.getPrice());
+        assertEquals(CREATED_AT.toInstant(), decoded.getCreatedAt());
+        assertEquals(PaymentOrderStatus.PENDING, decoded.getPaymentOrderStatus());
+    }
+
+    @Test
+    public void testRestaurantApprovalRequestRoundTrips() throws IOException, RestClientException {
+        UUID sagaId = UUID.randomUUID();
+        OrderApprovalEventPayload orderApprovalEventPayload = OrderApprovalEventPayload.builder()
+                .orderId(UUID.randomUUID().toString())
+                .restaurantId(UUID.randomUUID().toString())
+                .price(new BigDecimal("100.50"))
+                .createdAt(CREATED_AT)
+                .restaurantOrderStatus(RestaurantOrderStatus.PAID.name())
+                .products(List.of(new OrderApprovalEventProduct(UUID.randomUUID().toString(), 1),
+                        new OrderApprovalEventProduct(UUID.randomUUID().toString(), 3)))
+                .build();
+
+        OutboxEncodedPayload encodedPayload =
+                outboxPayloadAvroEncoder.encodeRestaurantApprovalRequest(sagaId, orderApprovalEventPayload);
+        RestaurantApprovalRequestAvroModel decoded =
+                decode(encodedPayload, RestaurantApprovalRequestAvroModel.class);
+
+        assertEquals(schemaRegistryClient.getId(
+                        orderServiceConfigData.getRestaurantApprovalRequestTopicName() + "-value",
+                        new AvroSchema(RestaurantApprovalRequestAvroModel.getClassSchema())),
+                encodedPayload.getSchemaId());
+        assertEquals(sagaId.toString(), decoded.getSagaId());
+        assertEquals(orderApprovalEventPayload.getOrderId(), decoded.getOrderId());
+        assertEquals(orderApprovalEventPayload.getRestaurantId(), decoded.getRestaurantId());
+        assertEquals(orderApprovalEventPayload.getPrice(), decoded.getPrice());
+        assertEquals(CREATED_AT.toInstant(), decoded.getCreatedAt());
+        assertEquals(RestaurantOrderStatus.PAID, decoded.getRestaurantOrderStatus());
+        assertEquals(orderApprovalEventPayload.getProducts().stream()
+                        .map(product -> new Product(product.getId(), product.getQuantity()))
+                        .toList(),
+                decoded.getProducts());
+    }
+
+    private static <T extends SpecificRecordBase> T decode(OutboxEncodedPayload encodedPayload, Class<T> type)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(encodedPayload.getBytes());
+        assertEquals(0, buffer.get());
+        assertEquals(encodedPayload.getSchemaId(), buffer.getInt());
+        return new SpecificDatumReader<>(type).read(null, DecoderFactory.get()
+                .binaryDecoder(buffer.array(), buffer.position(), buffer.remaining(), null));
+    }
+
+    private static OrderServiceConfigData orderServiceConfigData() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setPaymentRequestTopicName("payment-request");
+        orderServiceConfigData.setRestaurantApprovalRequestTopicName("restaurant-approval-request");
+        return orderServiceConfigData;
+    }
+}
@@ -21,6 +21,9 @@ CREATE TABLE "payment".payments
     CONSTRAINT payments_pkey PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX "payments_order_id"
+    ON "payment".payments (order_id);
+
 DROP TABLE IF EXISTS "payment".credit_entry CASCADE;
 
 CREATE TABLE "payment".credit_entry
@@ -44,4 +47,36 @@ CREATE TABLE "payment".credit_history
     amount numeric(10,2) NOT NULL,
     type transaction_type NOT NULL,
     CONSTRAINT credit_history_pkey PRIMARY KEY (id)
-);
\ No newline at end of file
+);
+DROP TYPE IF EXISTS outbox_status;
+CREATE TYPE outbox_status AS ENUM ('STARTED', 'FAILED', 'COMPLETED', 'PARKED');
+
+DROP TABLE IF EXISTS "payment".payment_outbox CASCADE;
+
+CREATE TABLE "payment".payment_outbox
+(
+    id              uuid                                           NOT NULL,
+    saga_id         uuid                                           NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at    TIMESTAMP WITH TIME ZONE,
+    type            character varying COLLATE pg_catalog."default" NOT NULL,
+    payload         jsonb,
+    outbox_status   outbox_status                                  NOT NULL,
+    payment_status  payment_status                                 NOT NULL,
+    version         INTEGER                                        NOT NULL,
+    claimed_by      character varying COLLATE pg_catalog."default",
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    attempt_count   INTEGER DEFAULT 0                              NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT payment_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "payment_outbox_outbox_status"
+    ON "payment".payment_outbox (type, outbox_status, created_at);
+
+CREATE UNIQUE INDEX "payment_outbox_saga_id"
+    ON "payment".payment_outbox (type, saga_id, payment_status);
+
+CREATE INDEX "payment_outbox_retry"
+    ON "payment".payment_outbox (type, next_attempt_at)
+    WHERE outbox_status = 'FAILED';
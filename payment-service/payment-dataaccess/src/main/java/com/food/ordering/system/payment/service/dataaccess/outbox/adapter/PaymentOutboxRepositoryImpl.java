@@ -0,0 +1,81 @@
+package com.food.ordering.system.payment.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.dataaccess.outbox.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.outbox.repository.PaymentOutboxJdbcRepository;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentOutboxMessage;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+
+    private final PaymentOutboxJdbcRepository paymentOutboxJdbcRepository;
+    private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+
+    public PaymentOutboxRepositoryImpl(PaymentOutboxJdbcRepository paymentOutboxJdbcRepository,
+                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper) {
+        this.paymentOutboxJdbcRepository = paymentOutboxJdbcRepository;
+        this.paymentOutboxDataAccessMapper = paymentOutboxDataAccessMapper;
+    }
+
+    @Override
+    public PaymentOutboxMessage save(PaymentOutboxMessage paymentOutboxMessage) {
+        paymentOutboxJdbcRepository.save(
+                paymentOutboxDataAccessMapper.paymentOutboxMessageToOutboxEntity(paymentOutboxMessage));
+        return paymentOutboxMessage;
+    }
+
+    @Override
+    public int updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids) {
+        return ids.isEmpty() ? 0 : paymentOutboxJdbcRepository.updateOutboxStatusByIds(outboxStatus, ids);
+    }
+
+    @Override
+    public List<PaymentOutboxMessage> findByTypeAndSagaId(String type, UUID sagaId) {
+        return paymentOutboxJdbcRepository.findByTypeAndSagaId(type, sagaId)
+                .stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToPaymentOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public List<UUID> scheduleRetryByIds(List<UUID> ids, OutboxRetryPolicy retryPolicy) {
+        return ids.isEmpty() ? List.of() : paymentOutboxJdbcRepository.scheduleRetryByIds(ids, retryPolicy);
+    }
+
+    @Override
+    public List<PaymentOutboxMessage> claimByTypeAndOutboxStatus(String type,
+                                                                 OutboxStatus outboxStatus,
+                                                                 String claimedBy,
+                                                                 Duration leaseDuration,
+                                                                 int limit) {
+        return paymentOutboxJdbcRepository
+                .claimByTypeAndOutboxStatus(type, outboxStatus, claimedBy, leaseDuration, limit)
+                .stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToPaymentOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public List<PaymentOutboxMessage> claimRetryableByType(String type, Duration leaseDuration, int limit) {
+        return paymentOutboxJdbcRepository.claimRetryableByType(type, leaseDuration, limit)
+                .stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToPaymentOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public int deleteBatchByTypeAndOutboxStatus(String type,
+                                                OutboxStatus outboxStatus,
+                                                ZonedDateTime createdBefore,
+                                                int limit) {
+        return paymentOutboxJdbcRepository.deleteBatchByTypeAndOutboxStatus(type, outboxStatus, createdBefore, limit);
+    }
+}
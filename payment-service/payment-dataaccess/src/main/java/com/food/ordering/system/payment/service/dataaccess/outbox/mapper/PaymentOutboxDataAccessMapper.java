@@ -0,0 +1,37 @@
+package com.food.ordering.system.payment.service.dataaccess.outbox.mapper;
+
+import com.food.ordering.system.payment.service.dataaccess.outbox.entity.PaymentOutboxEntity;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxDataAccessMapper {
+
+    public PaymentOutboxEntity paymentOutboxMessageToOutboxEntity(PaymentOutboxMessage paymentOutboxMessage) {
+        return PaymentOutboxEntity.builder()
+                .id(paymentOutboxMessage.getId())
+                .sagaId(paymentOutboxMessage.getSagaId())
+                .createdAt(paymentOutboxMessage.getCreatedAt())
+                .processedAt(paymentOutboxMessage.getProcessedAt())
+                .type(paymentOutboxMessage.getType())
+                .payload(paymentOutboxMessage.getPayload())
+                .paymentStatus(paymentOutboxMessage.getPaymentStatus())
+                .outboxStatus(paymentOutboxMessage.getOutboxStatus())
+                .version(paymentOutboxMessage.getVersion())
+                .build();
+    }
+
+    public PaymentOutboxMessage paymentOutboxEntityToPaymentOutboxMessage(PaymentOutboxEntity paymentOutboxEntity) {
+        return PaymentOutboxMessage.builder()
+                .id(paymentOutboxEntity.getId())
+                .sagaId(paymentOutboxEntity.getSagaId())
+                .createdAt(paymentOutboxEntity.getCreatedAt())
+                .processedAt(paymentOutboxEntity.getProcessedAt())
+                .type(paymentOutboxEntity.getType())
+                .payload(paymentOutboxEntity.getPayload())
+                .paymentStatus(paymentOutboxEntity.getPaymentStatus())
+                .outboxStatus(paymentOutboxEntity.getOutboxStatus())
+                .version(paymentOutboxEntity.getVersion())
+                .build();
+    }
+}
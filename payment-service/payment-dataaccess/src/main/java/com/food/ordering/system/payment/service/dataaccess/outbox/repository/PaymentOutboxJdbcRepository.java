@@ -0,0 +1,102 @@
+package com.food.ordering.system.payment.service.dataaccess.outbox.repository;
+
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRecordMapper;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.jdbc.JdbcOutboxStore;
+import com.food.ordering.system.outbox.jdbc.OutboxStatusColumn;
+import com.food.ordering.system.outbox.jdbc.OutboxTable;
+import com.food.ordering.system.payment.service.dataaccess.outbox.entity.PaymentOutboxEntity;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class PaymentOutboxJdbcRepository {
+
+    private static final OutboxStatusColumn PAYMENT_STATUS = OutboxStatusColumn.of("payment_status", "payment_status");
+
+    private static final OutboxTable PAYMENT_OUTBOX = OutboxTable.builder()
+            .name("payment_outbox")
+            .statusColumn(PAYMENT_STATUS)
+            .build();
+
+    private static final OutboxRecordMapper<PaymentOutboxEntity> OUTBOX_RECORD_MAPPER = new OutboxRecordMapper<>() {
+        @Override
+        public OutboxRecord toOutboxRecord(PaymentOutboxEntity outboxEntity) {
+            return OutboxRecord.builder()
+                    .id(outboxEntity.getId())
+                    .sagaId(outboxEntity.getSagaId())
+                    .createdAt(outboxEntity.getCreatedAt())
+                    .processedAt(outboxEntity.getProcessedAt())
+                    .type(outboxEntity.getType())
+                    .payload(outboxEntity.getPayload())
+                    .outboxStatus(outboxEntity.getOutboxStatus())
+                    .status(PAYMENT_STATUS.getName(), outboxEntity.getPaymentStatus().name())
+                    .version(outboxEntity.getVersion())
+                    .build();
+        }
+
+        @Override
+        public PaymentOutboxEntity fromOutboxRecord(OutboxRecord outboxRecord) {
+            return PaymentOutboxEntity.builder()
+                    .id(outboxRecord.getId())
+                    .sagaId(outboxRecord.getSagaId())
+                    .createdAt(outboxRecord.getCreatedAt())
+                    .processedAt(outboxRecord.getProcessedAt())
+                    .type(outboxRecord.getType())
+                    .payload(outboxRecord.getPayload())
+                    .outboxStatus(outboxRecord.getOutboxStatus())
+                    .paymentStatus(PaymentStatus.valueOf(outboxRecord.getStatus(PAYMENT_STATUS.getName())))
+                    .version(outboxRecord.getVersion())
+                    .build();
+        }
+    };
+
+    private final JdbcOutboxStore<PaymentOutboxEntity> outboxStore;
+
+    public PaymentOutboxJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.outboxStore = new JdbcOutboxStore<>(jdbcTemplate, PAYMENT_OUTBOX, OUTBOX_RECORD_MAPPER);
+    }
+
+    public int save(PaymentOutboxEntity outboxEntity) {
+        return outboxStore.save(outboxEntity);
+    }
+
+    public int updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids) {
+        return outboxStore.updateOutboxStatusByIds(outboxStatus, ids);
+    }
+
+    public List<PaymentOutboxEntity> findByTypeAndSagaId(String type, UUID sagaId) {
+        return outboxStore.findBySagaIds(type, List.of(sagaId));
+    }
+
+    public List<UUID> scheduleRetryByIds(List<UUID> ids, OutboxRetryPolicy retryPolicy) {
+        return outboxStore.scheduleRetryByIds(ids, retryPolicy);
+    }
+
+    public List<PaymentOutboxEntity> claimByTypeAndOutboxStatus(String type,
+                                                                OutboxStatus outboxStatus,
+                                                                String claimedBy,
+                                                                Duration leaseDuration,
+                                                                int limit) {
+        return outboxStore.claim(type, outboxStatus, claimedBy, leaseDuration, limit);
+    }
+
+    public List<PaymentOutboxEntity> claimRetryableByType(String type, Duration leaseDuration, int limit) {
+        return outboxStore.claimRetryable(type, leaseDuration, limit);
+    }
+
+    public int deleteBatchByTypeAndOutboxStatus(String type,
+                                                OutboxStatus outboxStatus,
+                                                ZonedDateTime createdBefore,
+                                                int limit) {
+        return outboxStore.deleteBatch(type, outboxStatus, createdBefore, limit);
+    }
+}
@@ -1,6 +1,8 @@
 package com.food.ordering.system.payment.service.domain;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
@@ -8,9 +10,7 @@ import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
 import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
-import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
-import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCompletedMessagePublisher;
-import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.outbox.scheduler.PaymentOutboxHelper;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
@@ -32,45 +32,50 @@ public class PaymentRequestHelper {
     private final PaymentRepository paymentRepository;
     private final CreditEntryRepository creditEntryRepository;
     private final CreditHistoryRepository creditHistoryRepository;
-    private final PaymentCompletedMessagePublisher paymentCompletedEventDomainEventPublisher;
-    private final PaymentCancelledMessagePublisher paymentCancelledEventDomainEventPublisher;
-    private final PaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher;
+    private final PaymentOutboxHelper paymentOutboxHelper;
 
     public PaymentRequestHelper(PaymentDomainService paymentDomainService,
                                 PaymentDataMapper paymentDataMapper,
                                 PaymentRepository paymentRepository,
                                 CreditEntryRepository creditEntryRepository,
                                 CreditHistoryRepository creditHistoryRepository,
-                                PaymentCompletedMessagePublisher paymentCompletedEventDomainEventPublisher,
-                                PaymentCancelledMessagePublisher paymentCancelledEventDomainEventPublisher,
-                                PaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher) {
+                                PaymentOutboxHelper paymentOutboxHelper) {
         this.paymentDomainService = paymentDomainService;
         this.paymentDataMapper = paymentDataMapper;
         this.paymentRepository = paymentRepository;
         this.creditEntryRepository = creditEntryRepository;
         this.creditHistoryRepository = creditHistoryRepository;
-        this.paymentCompletedEventDomainEventPublisher = paymentCompletedEventDomainEventPublisher;
-        this.paymentCancelledEventDomainEventPublisher = paymentCancelledEventDomainEventPublisher;
-        this.paymentFailedEventDomainEventPublisher = paymentFailedEventDomainEventPublisher;
+        this.paymentOutboxHelper = paymentOutboxHelper;
     }
 
     @Transactional
-    public PaymentEvent persistPayment(PaymentRequest paymentRequest) {
+    public Optional<PaymentEvent> persistPayment(PaymentRequest paymentRequest) {
         log.info("Received payment complete event for order id: {}", paymentRequest.getOrderId());
+        if (isAlreadyProcessed(paymentRequest, PaymentStatus.COMPLETED, PaymentStatus.FAILED)) {
+            return Optional.empty();
+        }
+        if (paymentRepository.findByOrderId(UUID.fromString(paymentRequest.getOrderId())).isPresent()) {
+            log.warn("Payment for order id: {} already exists, ignoring the duplicate payment request",
+                    paymentRequest.getOrderId());
+            return Optional.empty();
+        }
         Payment payment = paymentDataMapper.paymentRequestModelToPayment(paymentRequest);
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
         List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
         List<String> failureMessages = new ArrayList<>();
         PaymentEvent paymentEvent =
-                paymentDomainService.validateAndInitiatePayment(payment, creditEntry, creditHistories, failureMessages,
-                        paymentCompletedEventDomainEventPublisher, paymentFailedEventDomainEventPublisher);
+                paymentDomainService.validateAndInitiatePayment(payment, creditEntry, creditHistories, failureMessages);
         persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
-        return paymentEvent;
+        savePaymentOutboxMessage(paymentEvent, paymentRequest.getSagaId());
+        return Optional.of(paymentEvent);
     }
 
     @Transactional
-    public PaymentEvent persistCancelPayment(PaymentRequest paymentRequest) {
+    public Optional<PaymentEvent> persistCancelPayment(PaymentRequest paymentRequest) {
         log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
+        if (isAlreadyProcessed(paymentRequest, PaymentStatus.CANCELLED)) {
+            return Optional.empty();
+        }
         Optional<Payment> paymentResponse = paymentRepository
                 .findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
         if (paymentResponse.isEmpty()) {
@@ -79,14 +84,29 @@ public class PaymentRequestHelper {
                     paymentRequest.getOrderId() + " could not be found!");
         }
         Payment payment = paymentResponse.get();
+        if (payment.getPaymentStatus() == PaymentStatus.CANCELLED) {
+            log.warn("Payment for order id: {} is already cancelled, ignoring the duplicate cancel request",
+                    paymentRequest.getOrderId());
+            return Optional.empty();
+        }
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
         List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
         List<String> failureMessages = new ArrayList<>();
         PaymentEvent paymentEvent = paymentDomainService
-                .validateAndCancelPayment(payment, creditEntry, creditHistories, failureMessages,
-                        paymentCancelledEventDomainEventPublisher, paymentFailedEventDomainEventPublisher);
+                .validateAndCancelPayment(payment, creditEntry, creditHistories, failureMessages);
         persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
-        return paymentEvent;
+        savePaymentOutboxMessage(paymentEvent, paymentRequest.getSagaId());
+        return Optional.of(paymentEvent);
+    }
+
+    private boolean isAlreadyProcessed(PaymentRequest paymentRequest, PaymentStatus... paymentStatuses) {
+        if (paymentOutboxHelper.republishPaymentOutboxMessage(UUID.fromString(paymentRequest.getSagaId()),
+                paymentStatuses)) {
+            log.info("Payment request for saga id: {} is already processed, its response is published again",
+                    paymentRequest.getSagaId());
+            return true;
+        }
+        return false;
     }
 
     private CreditEntry getCreditEntry(CustomerId customerId) {
@@ -109,6 +129,13 @@ public class PaymentRequestHelper {
         return creditHistories.get();
     }
 
+    private void savePaymentOutboxMessage(PaymentEvent paymentEvent, String sagaId) {
+        paymentOutboxHelper.savePaymentOutboxMessage(paymentDataMapper.paymentEventToPaymentEventPayload(paymentEvent),
+                paymentEvent.getPayment().getPaymentStatus(),
+                OutboxStatus.STARTED,
+                UUID.fromString(sagaId));
+    }
+
     private void persistDbObjects(Payment payment,
                                   CreditEntry creditEntry,
                                   List<CreditHistory> creditHistories,
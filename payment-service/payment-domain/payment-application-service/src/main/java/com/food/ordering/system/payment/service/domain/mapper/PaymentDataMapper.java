@@ -5,6 +5,8 @@ import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentEventPayload;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -20,4 +22,16 @@ public class PaymentDataMapper {
                 .price(new Money(paymentRequest.getPrice()))
                 .build();
     }
+
+    public PaymentEventPayload paymentEventToPaymentEventPayload(PaymentEvent paymentEvent) {
+        return PaymentEventPayload.builder()
+                .paymentId(paymentEvent.getPayment().getId().getValue().toString())
+                .customerId(paymentEvent.getPayment().getCustomerId().getValue().toString())
+                .orderId(paymentEvent.getPayment().getOrderId().getValue().toString())
+                .price(paymentEvent.getPayment().getPrice().getAmount())
+                .createdAt(paymentEvent.getCreatedAt())
+                .paymentStatus(paymentEvent.getPayment().getPaymentStatus().name())
+                .failureMessages(paymentEvent.getFailureMessages())
+                .build();
+    }
 }
@@ -0,0 +1,32 @@
+package com.food.ordering.system.payment.service.domain.outbox.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentEventPayload {
+    @JsonProperty
+    private String paymentId;
+    @JsonProperty
+    private String customerId;
+    @JsonProperty
+    private String orderId;
+    @JsonProperty
+    private BigDecimal price;
+    @JsonProperty
+    private ZonedDateTime createdAt;
+    @JsonProperty
+    private String paymentStatus;
+    @JsonProperty
+    private List<String> failureMessages;
+}
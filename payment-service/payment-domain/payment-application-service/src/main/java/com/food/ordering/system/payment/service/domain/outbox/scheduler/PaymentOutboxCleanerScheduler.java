@@ -0,0 +1,38 @@
+package com.food.ordering.system.payment.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxCleaner;
+import com.food.ordering.system.outbox.OutboxScheduler;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxCleanerScheduler implements OutboxScheduler {
+
+    private final OutboxCleaner outboxCleaner;
+
+    public PaymentOutboxCleanerScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                         PaymentServiceConfigData paymentServiceConfigData,
+                                         MeterRegistry meterRegistry) {
+        this.outboxCleaner = new OutboxCleaner(
+                "payment-response-outbox-cleaner",
+                paymentServiceConfigData.getOutboxCleanerBatchSize(),
+                paymentServiceConfigData.getOutboxCleanerThrottle(),
+                paymentServiceConfigData.getOutboxCleanerRetention(),
+                (createdBefore, limit) -> paymentOutboxHelper.deletePaymentOutboxMessageBatchByOutboxStatus(
+                        createdBefore,
+                        limit,
+                        OutboxStatus.COMPLETED),
+                new MicrometerOutboxMetrics(meterRegistry, "payment-response"));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${payment-service.outbox-cleaner-fixed-delay}",
+            initialDelayString = "${payment-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        outboxCleaner.clean();
+    }
+}
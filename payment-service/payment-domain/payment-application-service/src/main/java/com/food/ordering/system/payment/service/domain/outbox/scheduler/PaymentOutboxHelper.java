@@ -0,0 +1,148 @@
+package com.food.ordering.system.payment.service.domain.outbox.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentEventPayload;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentOutboxMessage;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
+
+@Slf4j
+@Component
+public class PaymentOutboxHelper {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    public PaymentOutboxHelper(PaymentOutboxRepository paymentOutboxRepository,
+                               ObjectMapper objectMapper,
+                               PaymentServiceConfigData paymentServiceConfigData) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PaymentOutboxMessage> claimPaymentOutboxMessages(int limit) {
+        return paymentOutboxRepository.claimByTypeAndOutboxStatus(ORDER_SAGA_NAME,
+                OutboxStatus.STARTED,
+                paymentServiceConfigData.getInstanceId(),
+                paymentServiceConfigData.getOutboxSchedulerClaimLease(),
+                limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PaymentOutboxMessage> claimRetryablePaymentOutboxMessages(int limit) {
+        return paymentOutboxRepository.claimRetryableByType(ORDER_SAGA_NAME,
+                paymentServiceConfigData.getOutboxSchedulerClaimLease(),
+                limit);
+    }
+
+    @Transactional
+    public void savePaymentOutboxMessage(PaymentEventPayload paymentEventPayload,
+                                         PaymentStatus paymentStatus,
+                                         OutboxStatus outboxStatus,
+                                         UUID sagaId) {
+        PaymentOutboxMessage paymentOutboxMessage = PaymentOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .createdAt(paymentEventPayload.getCreatedAt())
+                .type(ORDER_SAGA_NAME)
+                .payload(createPayload(paymentEventPayload))
+                .paymentStatus(paymentStatus)
+                .outboxStatus(outboxStatus)
+                .build();
+        PaymentOutboxMessage response = paymentOutboxRepository.save(paymentOutboxMessage);
+        if (response == null) {
+            log.error("Could not save PaymentOutboxMessage with outbox id: {}", paymentOutboxMessage.getId());
+            throw new PaymentApplicationServiceException("Could not save PaymentOutboxMessage with outbox id: " +
+                    paymentOutboxMessage.getId());
+        }
+        log.info("PaymentOutboxMessage saved with outbox id: {}", paymentOutboxMessage.getId());
+    }
+
+    @Transactional
+    public void updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids) {
+        if (outboxStatus == OutboxStatus.FAILED) {
+            scheduleRetryByIds(ids);
+            return;
+        }
+        int updated = paymentOutboxRepository.updateOutboxStatusByIds(outboxStatus, ids);
+        log.info("{} PaymentOutboxMessages updated with outbox status: {}", updated, outboxStatus.name());
+    }
+
+    @Transactional
+    public boolean republishPaymentOutboxMessage(UUID sagaId, PaymentStatus... paymentStatuses) {
+        Optional<PaymentOutboxMessage> paymentOutboxMessage = paymentOutboxRepository
+                .findByTypeAndSagaId(ORDER_SAGA_NAME, sagaId)
+                .stream()
+                .filter(outboxMessage -> Arrays.asList(paymentStatuses).contains(outboxMessage.getPaymentStatus()))
+                .findFirst();
+        if (paymentOutboxMessage.isEmpty()) {
+            return false;
+        }
+        if (paymentOutboxMessage.get().getOutboxStatus() != OutboxStatus.STARTED) {
+            paymentOutboxRepository.updateOutboxStatusByIds(OutboxStatus.STARTED,
+                    List.of(paymentOutboxMessage.get().getId()));
+        }
+        log.info("PaymentOutboxMessage with outbox id: {} is queued for publishing again for saga id: {}",
+                paymentOutboxMessage.get().getId(), sagaId);
+        return true;
+    }
+
+    @Transactional
+    public int deletePaymentOutboxMessageBatchByOutboxStatus(ZonedDateTime createdBefore,
+                                                             int limit,
+                                                             OutboxStatus outboxStatus) {
+        return paymentOutboxRepository.deleteBatchByTypeAndOutboxStatus(ORDER_SAGA_NAME,
+                outboxStatus,
+                createdBefore,
+                limit);
+    }
+
+    private void scheduleRetryByIds(List<UUID> ids) {
+        List<UUID> parkedIds = paymentOutboxRepository.scheduleRetryByIds(ids, getRetryPolicy());
+        log.info("{} PaymentOutboxMessages scheduled for retry", ids.size() - parkedIds.size());
+        if (!parkedIds.isEmpty()) {
+            log.warn("{} PaymentOutboxMessages parked after {} attempts, ids: {}",
+                    parkedIds.size(),
+                    paymentServiceConfigData.getOutboxRetryMaxAttempts(),
+                    parkedIds);
+        }
+    }
+
+    private OutboxRetryPolicy getRetryPolicy() {
+        return OutboxRetryPolicy.of(paymentServiceConfigData.getOutboxRetryMaxAttempts(),
+                paymentServiceConfigData.getOutboxRetryInitialBackoff(),
+                paymentServiceConfigData.getOutboxRetryMaxBackoff(),
+                paymentServiceConfigData.getOutboxRetryJitter());
+    }
+
+    private String createPayload(PaymentEventPayload paymentEventPayload) {
+        try {
+            return objectMapper.writeValueAsString(paymentEventPayload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not create PaymentEventPayload as String for order id: {}",
+                    paymentEventPayload.getOrderId());
+            throw new PaymentApplicationServiceException("Could not create PaymentEventPayload as String for " +
+                    "order id: " + paymentEventPayload.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.food.ordering.system.payment.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxPoller;
+import com.food.ordering.system.outbox.OutboxPollerSettings;
+import com.food.ordering.system.outbox.OutboxScheduler;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentOutboxMessage;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.UUID;
+
+@Component
+public class PaymentOutboxScheduler implements OutboxScheduler {
+
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OutboxPoller<PaymentOutboxMessage, UUID> outboxPoller;
+
+    public PaymentOutboxScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                  PaymentResponseMessagePublisher paymentResponseMessagePublisher,
+                                  PaymentServiceConfigData paymentServiceConfigData,
+                                  MeterRegistry meterRegistry) {
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.outboxPoller = new OutboxPoller<>(
+                "payment-response-outbox",
+                OutboxPollerSettings.builder()
+                        .pageSize(paymentServiceConfigData.getOutboxSchedulerPageSize())
+                        .publishLanes(paymentServiceConfigData.getOutboxSchedulerPublishLanes())
+                        .maxInFlight(paymentServiceConfigData.getOutboxSchedulerMaxInFlight())
+                        .drainTimeout(paymentServiceConfigData.getOutboxSchedulerDrainTimeout())
+                        .ackBatchSize(paymentServiceConfigData.getOutboxSchedulerAckBatchSize())
+                        .ackFlushInterval(paymentServiceConfigData.getOutboxSchedulerAckFlushInterval())
+                        .build(),
+                paymentOutboxHelper::claimPaymentOutboxMessages,
+                paymentOutboxHelper::claimRetryablePaymentOutboxMessages,
+                PaymentOutboxMessage::getId,
+                PaymentOutboxMessage::getSagaId,
+                paymentResponseMessagePublisher::publish,
+                paymentOutboxHelper::updateOutboxStatusByIds,
+                new MicrometerOutboxMetrics(meterRegistry, "payment-response"));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${payment-service.outbox-scheduler-fixed-rate}",
+            initialDelayString = "${payment-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        outboxPoller.poll();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        outboxPoller.close();
+    }
+}
@@ -1,7 +0,0 @@
-package com.food.ordering.system.payment.service.domain.ports.output.message.publisher;
-
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
-import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
-
-public interface PaymentCancelledMessagePublisher extends DomainEventPublisher<PaymentCancelledEvent> {
-}
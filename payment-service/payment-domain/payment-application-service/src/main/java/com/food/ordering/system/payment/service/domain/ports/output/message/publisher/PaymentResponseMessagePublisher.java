@@ -0,0 +1,12 @@
+package com.food.ordering.system.payment.service.domain.ports.output.message.publisher;
+
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentOutboxMessage;
+
+import java.util.function.BiConsumer;
+
+public interface PaymentResponseMessagePublisher {
+
+    void publish(PaymentOutboxMessage paymentOutboxMessage,
+                 BiConsumer<PaymentOutboxMessage, OutboxStatus> outboxCallback);
+}
@@ -0,0 +1,34 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentOutboxMessage;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PaymentOutboxRepository {
+
+    PaymentOutboxMessage save(PaymentOutboxMessage paymentOutboxMessage);
+
+    int updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids);
+
+    List<PaymentOutboxMessage> findByTypeAndSagaId(String type, UUID sagaId);
+
+    List<UUID> scheduleRetryByIds(List<UUID> ids, OutboxRetryPolicy retryPolicy);
+
+    List<PaymentOutboxMessage> claimByTypeAndOutboxStatus(String type,
+                                                          OutboxStatus outboxStatus,
+                                                          String claimedBy,
+                                                          Duration leaseDuration,
+                                                          int limit);
+
+    List<PaymentOutboxMessage> claimRetryableByType(String type, Duration leaseDuration, int limit);
+
+    int deleteBatchByTypeAndOutboxStatus(String type,
+                                         OutboxStatus outboxStatus,
+                                         ZonedDateTime createdBefore,
+                                         int limit);
+}
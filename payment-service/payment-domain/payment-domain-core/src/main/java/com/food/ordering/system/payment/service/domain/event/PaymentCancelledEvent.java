@@ -1,6 +1,5 @@
 package com.food.ordering.system.payment.service.domain.event;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 
 import java.time.ZonedDateTime;
@@ -8,18 +7,7 @@ import java.util.Collections;
 
 public class PaymentCancelledEvent extends PaymentEvent {
 
-    private final DomainEventPublisher<PaymentCancelledEvent> paymentCancelledEventDomainEventPublisher;
-
-    public PaymentCancelledEvent(Payment payment,
-                                 ZonedDateTime createdAt,
-                                 DomainEventPublisher<PaymentCancelledEvent>
-                                         paymentCancelledEventDomainEventPublisher) {
+    public PaymentCancelledEvent(Payment payment, ZonedDateTime createdAt) {
         super(payment, createdAt, Collections.emptyList());
-        this.paymentCancelledEventDomainEventPublisher = paymentCancelledEventDomainEventPublisher;
-    }
-
-    @Override
-    public void fire() {
-        paymentCancelledEventDomainEventPublisher.publish(this);
     }
 }
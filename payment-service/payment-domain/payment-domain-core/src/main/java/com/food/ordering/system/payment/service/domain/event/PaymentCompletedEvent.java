@@ -1,6 +1,5 @@
 package com.food.ordering.system.payment.service.domain.event;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 
 import java.time.ZonedDateTime;
@@ -8,17 +7,7 @@ import java.util.Collections;
 
 public class PaymentCompletedEvent extends PaymentEvent {
 
-    private final DomainEventPublisher<PaymentCompletedEvent> paymentCompletedEventDomainEventPublisher;
-
-    public PaymentCompletedEvent(Payment payment,
-                                 ZonedDateTime createdAt,
-                                 DomainEventPublisher<PaymentCompletedEvent> paymentCompletedEventDomainEventPublisher) {
+    public PaymentCompletedEvent(Payment payment, ZonedDateTime createdAt) {
         super(payment, createdAt, Collections.emptyList());
-        this.paymentCompletedEventDomainEventPublisher = paymentCompletedEventDomainEventPublisher;
-    }
-
-    @Override
-    public void fire() {
-        paymentCompletedEventDomainEventPublisher.publish(this);
     }
 }
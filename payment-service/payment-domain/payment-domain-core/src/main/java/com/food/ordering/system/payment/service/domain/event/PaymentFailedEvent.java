@@ -1,6 +1,5 @@
 package com.food.ordering.system.payment.service.domain.event;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 
 import java.time.ZonedDateTime;
@@ -8,18 +7,7 @@ import java.util.List;
 
 public class PaymentFailedEvent extends PaymentEvent {
 
-    private final DomainEventPublisher<PaymentFailedEvent> paymentFailedEventDomainEventPublisher;
-
-    public PaymentFailedEvent(Payment payment,
-                              ZonedDateTime createdAt,
-                              List<String> failureMessages,
-                              DomainEventPublisher<PaymentFailedEvent> paymentFailedEventDomainEventPublisher) {
+    public PaymentFailedEvent(Payment payment, ZonedDateTime createdAt, List<String> failureMessages) {
         super(payment, createdAt, failureMessages);
-        this.paymentFailedEventDomainEventPublisher = paymentFailedEventDomainEventPublisher;
-    }
-
-    @Override
-    public void fire() {
-        paymentFailedEventDomainEventPublisher.publish(this);
     }
 }
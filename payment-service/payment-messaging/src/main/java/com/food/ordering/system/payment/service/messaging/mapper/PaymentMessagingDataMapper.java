@@ -5,9 +5,7 @@ import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
-import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
-import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
-import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentEventPayload;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -16,47 +14,17 @@ import java.util.UUID;
 public class PaymentMessagingDataMapper {
 
     public PaymentResponseAvroModel
-    paymentCompletedEventToPaymentResponseAvroModel(PaymentCompletedEvent paymentCompletedEvent) {
+    paymentEventPayloadToPaymentResponseAvroModel(UUID sagaId, PaymentEventPayload paymentEventPayload) {
         return PaymentResponseAvroModel.newBuilder()
                 .setId(UUID.randomUUID().toString())
-                .setSagaId("")
-                .setPaymentId(paymentCompletedEvent.getPayment().getId().getValue().toString())
-                .setCustomerId(paymentCompletedEvent.getPayment().getCustomerId().getValue().toString())
-                .setOrderId(paymentCompletedEvent.getPayment().getOrderId().getValue().toString())
-                .setPrice(paymentCompletedEvent.getPayment().getPrice().getAmount())
-                .setCreatedAt(paymentCompletedEvent.getCreatedAt().toInstant())
-                .setPaymentStatus(PaymentStatus.valueOf(paymentCompletedEvent.getPayment().getPaymentStatus().name()))
-                .setFailureMessages(paymentCompletedEvent.getFailureMessages())
-                .build();
-    }
-
-    public PaymentResponseAvroModel
-    paymentCancelledEventToPaymentResponseAvroModel(PaymentCancelledEvent paymentCancelledEvent) {
-        return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
-                .setSagaId("")
-                .setPaymentId(paymentCancelledEvent.getPayment().getId().getValue().toString())
-                .setCustomerId(paymentCancelledEvent.getPayment().getCustomerId().getValue().toString())
-                .setOrderId(paymentCancelledEvent.getPayment().getOrderId().getValue().toString())
-                .setPrice(paymentCancelledEvent.getPayment().getPrice().getAmount())
-                .setCreatedAt(paymentCancelledEvent.getCreatedAt().toInstant())
-                .setPaymentStatus(PaymentStatus.valueOf(paymentCancelledEvent.getPayment().getPaymentStatus().name()))
-                .setFailureMessages(paymentCancelledEvent.getFailureMessages())
-                .build();
-    }
-
-    public PaymentResponseAvroModel
-    paymentFailedEventToPaymentResponseAvroModel(PaymentFailedEvent paymentFailedEvent) {
-        return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
-                .setSagaId("")
-                .setPaymentId(paymentFailedEvent.getPayment().getId().getValue().toString())
-                .setCustomerId(paymentFailedEvent.getPayment().getCustomerId().getValue().toString())
-                .setOrderId(paymentFailedEvent.getPayment().getOrderId().getValue().toString())
-                .setPrice(paymentFailedEvent.getPayment().getPrice().getAmount())
-                .setCreatedAt(paymentFailedEvent.getCreatedAt().toInstant())
-                .setPaymentStatus(PaymentStatus.valueOf(paymentFailedEvent.getPayment().getPaymentStatus().name()))
-                .setFailureMessages(paymentFailedEvent.getFailureMessages())
+                .setSagaId(sagaId.toString())
+                .setPaymentId(paymentEventPayload.getPaymentId())
+                .setCustomerId(paymentEventPayload.getCustomerId())
+                .setOrderId(paymentEventPayload.getOrderId())
+                .setPrice(paymentEventPayload.getPrice())
+                .setCreatedAt(paymentEventPayload.getCreatedAt().toInstant())
+                .setPaymentStatus(PaymentStatus.valueOf(paymentEventPayload.getPaymentStatus()))
+                .setFailureMessages(paymentEventPayload.getFailureMessages())
                 .build();
     }
 
@@ -0,0 +1,81 @@
+package com.food.ordering.system.payment.service.messaging.publisher.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentEventPayload;
+import com.food.ordering.system.payment.service.domain.outbox.model.PaymentOutboxMessage;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
+import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class PaymentResponseKafkaPublisher implements PaymentResponseMessagePublisher {
+
+    private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+    private final KafkaProducer<String, PaymentResponseAvroModel> kafkaProducer;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final ObjectMapper objectMapper;
+
+    public PaymentResponseKafkaPublisher(PaymentMessagingDataMapper paymentMessagingDataMapper,
+                                         KafkaProducer<String, PaymentResponseAvroModel> kafkaProducer,
+                                         PaymentServiceConfigData paymentServiceConfigData,
+                                         KafkaMessageHelper kafkaMessageHelper,
+                                         ObjectMapper objectMapper) {
+        this.paymentMessagingDataMapper = paymentMessagingDataMapper;
+        this.kafkaProducer = kafkaProducer;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(PaymentOutboxMessage paymentOutboxMessage,
+                        BiConsumer<PaymentOutboxMessage, OutboxStatus> outboxCallback) {
+        String sagaId = paymentOutboxMessage.getSagaId().toString();
+        String topicName = paymentServiceConfigData.getPaymentResponseTopicName();
+
+        log.info("Received PaymentOutboxMessage with id: {} and saga id: {}", paymentOutboxMessage.getId(), sagaId);
+
+        try {
+            PaymentResponseAvroModel paymentResponseAvroModel = paymentMessagingDataMapper
+                    .paymentEventPayloadToPaymentResponseAvroModel(paymentOutboxMessage.getSagaId(),
+                            getPaymentEventPayload(paymentOutboxMessage));
+
+            kafkaProducer.send(topicName,
+                    sagaId,
+                    paymentResponseAvroModel,
+                    kafkaMessageHelper.getKafkaCallback(topicName,
+                            paymentOutboxMessage,
+                            outboxCallback,
+                            sagaId,
+                            "PaymentResponseAvroModel"));
+
+            log.info("PaymentEventPayload sent to kafka for saga id: {}", sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending PaymentEventPayload" +
+                    " to kafka with saga id: {}, error: {}", sagaId, e.getMessage());
+            outboxCallback.accept(paymentOutboxMessage, OutboxStatus.FAILED);
+        }
+    }
+
+    private PaymentEventPayload getPaymentEventPayload(PaymentOutboxMessage paymentOutboxMessage) {
+        try {
+            return objectMapper.readValue(paymentOutboxMessage.getPayload(), PaymentEventPayload.class);
+        } catch (JsonProcessingException e) {
+            log.error("Could not read PaymentEventPayload for saga id: {}", paymentOutboxMessage.getSagaId(), e);
+            throw new PaymentApplicationServiceException("Could not read PaymentEventPayload for saga id: " +
+                    paymentOutboxMessage.getSagaId(), e);
+        }
+    }
+}
@@ -29,6 +29,42 @@ CREATE TABLE restaurant.order_approval
     CONSTRAINT order_approval_pkey PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX "order_approval_order_id"
+    ON restaurant.order_approval (order_id);
+
+DROP TYPE IF EXISTS outbox_status;
+CREATE TYPE outbox_status AS ENUM ('STARTED', 'FAILED', 'COMPLETED', 'PARKED');
+
+DROP TABLE IF EXISTS restaurant.order_outbox CASCADE;
+
+CREATE TABLE restaurant.order_outbox
+(
+    id              uuid                                           NOT NULL,
+    saga_id         uuid                                           NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE                       NOT NULL,
+    processed_at    TIMESTAMP WITH TIME ZONE,
+    type            character varying COLLATE pg_catalog."default" NOT NULL,
+    payload         jsonb,
+    outbox_status   outbox_status                                  NOT NULL,
+    approval_status approval_status                                NOT NULL,
+    version         INTEGER                                        NOT NULL,
+    claimed_by      character varying COLLATE pg_catalog."default",
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    attempt_count   INTEGER DEFAULT 0                              NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT order_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "order_outbox_outbox_status"
+    ON restaurant.order_outbox (type, outbox_status, created_at);
+
+CREATE UNIQUE INDEX "order_outbox_saga_id"
+    ON restaurant.order_outbox (type, saga_id, approval_status);
+
+CREATE INDEX "order_outbox_retry"
+    ON restaurant.order_outbox (type, next_attempt_at)
+    WHERE outbox_status = 'FAILED';
+
 DROP TABLE IF EXISTS restaurant.products CASCADE;
 
 CREATE TABLE restaurant.products
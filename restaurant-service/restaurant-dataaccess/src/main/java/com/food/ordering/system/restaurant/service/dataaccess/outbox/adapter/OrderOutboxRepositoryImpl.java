@@ -0,0 +1,80 @@
+package com.food.ordering.system.restaurant.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.dataaccess.outbox.mapper.OrderOutboxDataAccessMapper;
+import com.food.ordering.system.restaurant.service.dataaccess.outbox.repository.OrderOutboxJdbcRepository;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+
+    private final OrderOutboxJdbcRepository orderOutboxJdbcRepository;
+    private final OrderOutboxDataAccessMapper orderOutboxDataAccessMapper;
+
+    public OrderOutboxRepositoryImpl(OrderOutboxJdbcRepository orderOutboxJdbcRepository,
+                                     OrderOutboxDataAccessMapper orderOutboxDataAccessMapper) {
+        this.orderOutboxJdbcRepository = orderOutboxJdbcRepository;
+        this.orderOutboxDataAccessMapper = orderOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+        orderOutboxJdbcRepository.save(
+                orderOutboxDataAccessMapper.orderOutboxMessageToOutboxEntity(orderOutboxMessage));
+        return orderOutboxMessage;
+    }
+
+    @Override
+    public int updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids) {
+        return ids.isEmpty() ? 0 : orderOutboxJdbcRepository.updateOutboxStatusByIds(outboxStatus, ids);
+    }
+
+    @Override
+    public Optional<OrderOutboxMessage> findByTypeAndSagaId(String type, UUID sagaId) {
+        return orderOutboxJdbcRepository.findByTypeAndSagaId(type, sagaId)
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage);
+    }
+
+    @Override
+    public List<UUID> scheduleRetryByIds(List<UUID> ids, OutboxRetryPolicy retryPolicy) {
+        return ids.isEmpty() ? List.of() : orderOutboxJdbcRepository.scheduleRetryByIds(ids, retryPolicy);
+    }
+
+    @Override
+    public List<OrderOutboxMessage> claimByTypeAndOutboxStatus(String type,
+                                                               OutboxStatus outboxStatus,
+                                                               String claimedBy,
+                                                               Duration leaseDuration,
+                                                               int limit) {
+        return orderOutboxJdbcRepository
+                .claimByTypeAndOutboxStatus(type, outboxStatus, claimedBy, leaseDuration, limit)
+                .stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public List<OrderOutboxMessage> claimRetryableByType(String type, Duration leaseDuration, int limit) {
+        return orderOutboxJdbcRepository.claimRetryableByType(type, leaseDuration, limit)
+                .stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public int deleteBatchByTypeAndOutboxStatus(String type,
+                                                OutboxStatus outboxStatus,
+                                                ZonedDateTime createdBefore,
+                                                int limit) {
+        return orderOutboxJdbcRepository.deleteBatchByTypeAndOutboxStatus(type, outboxStatus, createdBefore, limit);
+    }
+}
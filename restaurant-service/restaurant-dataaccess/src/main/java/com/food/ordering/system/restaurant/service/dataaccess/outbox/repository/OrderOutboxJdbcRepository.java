@@ -0,0 +1,103 @@
+package com.food.ordering.system.restaurant.service.dataaccess.outbox.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.outbox.OutboxRecord;
+import com.food.ordering.system.outbox.OutboxRecordMapper;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.jdbc.JdbcOutboxStore;
+import com.food.ordering.system.outbox.jdbc.OutboxStatusColumn;
+import com.food.ordering.system.outbox.jdbc.OutboxTable;
+import com.food.ordering.system.restaurant.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class OrderOutboxJdbcRepository {
+
+    private static final OutboxStatusColumn APPROVAL_STATUS = OutboxStatusColumn.of("approval_status", "approval_status");
+
+    private static final OutboxTable ORDER_OUTBOX = OutboxTable.builder()
+            .name("order_outbox")
+            .statusColumn(APPROVAL_STATUS)
+            .build();
+
+    private static final OutboxRecordMapper<OrderOutboxEntity> OUTBOX_RECORD_MAPPER = new OutboxRecordMapper<>() {
+        @Override
+        public OutboxRecord toOutboxRecord(OrderOutboxEntity outboxEntity) {
+            return OutboxRecord.builder()
+                    .id(outboxEntity.getId())
+                    .sagaId(outboxEntity.getSagaId())
+                    .createdAt(outboxEntity.getCreatedAt())
+                    .processedAt(outboxEntity.getProcessedAt())
+                    .type(outboxEntity.getType())
+                    .payload(outboxEntity.getPayload())
+                    .outboxStatus(outboxEntity.getOutboxStatus())
+                    .status(APPROVAL_STATUS.getName(), outboxEntity.getApprovalStatus().name())
+                    .version(outboxEntity.getVersion())
+                    .build();
+        }
+
+        @Override
+        public OrderOutboxEntity fromOutboxRecord(OutboxRecord outboxRecord) {
+            return OrderOutboxEntity.builder()
+                    .id(outboxRecord.getId())
+                    .sagaId(outboxRecord.getSagaId())
+                    .createdAt(outboxRecord.getCreatedAt())
+                    .processedAt(outboxRecord.getProcessedAt())
+                    .type(outboxRecord.getType())
+                    .payload(outboxRecord.getPayload())
+                    .outboxStatus(outboxRecord.getOutboxStatus())
+                    .approvalStatus(OrderApprovalStatus.valueOf(outboxRecord.getStatus(APPROVAL_STATUS.getName())))
+                    .version(outboxRecord.getVersion())
+                    .build();
+        }
+    };
+
+    private final JdbcOutboxStore<OrderOutboxEntity> outboxStore;
+
+    public OrderOutboxJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.outboxStore = new JdbcOutboxStore<>(jdbcTemplate, ORDER_OUTBOX, OUTBOX_RECORD_MAPPER);
+    }
+
+    public int save(OrderOutboxEntity outboxEntity) {
+        return outboxStore.save(outboxEntity);
+    }
+
+    public int updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids) {
+        return outboxStore.updateOutboxStatusByIds(outboxStatus, ids);
+    }
+
+    public Optional<OrderOutboxEntity> findByTypeAndSagaId(String type, UUID sagaId) {
+        return outboxStore.findBySagaId(type, sagaId);
+    }
+
+    public List<UUID> scheduleRetryByIds(List<UUID> ids, OutboxRetryPolicy retryPolicy) {
+        return outboxStore.scheduleRetryByIds(ids, retryPolicy);
+    }
+
+    public List<OrderOutboxEntity> claimByTypeAndOutboxStatus(String type,
+                                                              OutboxStatus outboxStatus,
+                                                              String claimedBy,
+                                                              Duration leaseDuration,
+                                                              int limit) {
+        return outboxStore.claim(type, outboxStatus, claimedBy, leaseDuration, limit);
+    }
+
+    public List<OrderOutboxEntity> claimRetryableByType(String type, Duration leaseDuration, int limit) {
+        return outboxStore.claimRetryable(type, leaseDuration, limit);
+    }
+
+    public int deleteBatchByTypeAndOutboxStatus(String type,
+                                                OutboxStatus outboxStatus,
+                                                ZonedDateTime createdBefore,
+                                                int limit) {
+        return outboxStore.deleteBatch(type, outboxStatus, createdBefore, limit);
+    }
+}
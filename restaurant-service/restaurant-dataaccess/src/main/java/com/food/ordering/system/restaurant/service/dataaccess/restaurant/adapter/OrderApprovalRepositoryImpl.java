@@ -6,6 +6,9 @@ import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderApprovalRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+import java.util.UUID;
+
 @Component
 public class OrderApprovalRepositoryImpl implements OrderApprovalRepository {
 
@@ -25,4 +28,10 @@ public class OrderApprovalRepositoryImpl implements OrderApprovalRepository {
                         .save(restaurantDataAccessMapper.orderApprovalToOrderApprovalEntity(orderApproval)));
     }
 
+    @Override
+    public Optional<OrderApproval> findByOrderId(UUID orderId) {
+        return orderApprovalJpaRepository.findByOrderId(orderId)
+                .map(restaurantDataAccessMapper::orderApprovalEntityToOrderApproval);
+    }
+
 }
@@ -4,10 +4,12 @@ import com.food.ordering.system.restaurant.service.dataaccess.restaurant.entity.
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderApprovalJpaRepository extends JpaRepository<OrderApprovalEntity, UUID> {
 
+    Optional<OrderApprovalEntity> findByOrderId(UUID orderId);
 
 }
@@ -4,10 +4,28 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.UUID;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "restaurant-service")
 public class RestaurantServiceConfigData {
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private String instanceId = UUID.randomUUID().toString();
+    private int outboxSchedulerPageSize = 100;
+    private Duration outboxSchedulerClaimLease = Duration.ofSeconds(30);
+    private int outboxSchedulerAckBatchSize = 500;
+    private Duration outboxSchedulerAckFlushInterval = Duration.ofMillis(100);
+    private int outboxSchedulerPublishLanes = 4;
+    private int outboxSchedulerMaxInFlight = 1000;
+    private Duration outboxSchedulerDrainTimeout = Duration.ofSeconds(30);
+    private int outboxRetryMaxAttempts = 10;
+    private Duration outboxRetryInitialBackoff = Duration.ofSeconds(1);
+    private Duration outboxRetryMaxBackoff = Duration.ofMinutes(5);
+    private double outboxRetryJitter = 0.5;
+    private int outboxCleanerBatchSize = 1000;
+    private Duration outboxCleanerThrottle = Duration.ofMillis(50);
+    private Duration outboxCleanerRetention = Duration.ofHours(1);
 }
@@ -0,0 +1,27 @@
+package com.food.ordering.system.restaurant.service.domain.outbox.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventPayload {
+    @JsonProperty
+    private String orderId;
+    @JsonProperty
+    private String restaurantId;
+    @JsonProperty
+    private ZonedDateTime createdAt;
+    @JsonProperty
+    private String orderApprovalStatus;
+    @JsonProperty
+    private List<String> failureMessages;
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.restaurant.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxCleaner;
+import com.food.ordering.system.outbox.OutboxScheduler;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderOutboxCleanerScheduler implements OutboxScheduler {
+
+    private final OutboxCleaner outboxCleaner;
+
+    public OrderOutboxCleanerScheduler(OrderOutboxHelper orderOutboxHelper,
+                                       RestaurantServiceConfigData restaurantServiceConfigData,
+                                       MeterRegistry meterRegistry) {
+        this.outboxCleaner = new OutboxCleaner(
+                "restaurant-approval-response-outbox-cleaner",
+                restaurantServiceConfigData.getOutboxCleanerBatchSize(),
+                restaurantServiceConfigData.getOutboxCleanerThrottle(),
+                restaurantServiceConfigData.getOutboxCleanerRetention(),
+                (createdBefore, limit) -> orderOutboxHelper.deleteOrderOutboxMessageBatchByOutboxStatus(
+                        createdBefore,
+                        limit,
+                        OutboxStatus.COMPLETED),
+                new MicrometerOutboxMetrics(meterRegistry, "restaurant-approval-response"));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${restaurant-service.outbox-cleaner-fixed-delay}",
+            initialDelayString = "${restaurant-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        outboxCleaner.clean();
+    }
+}
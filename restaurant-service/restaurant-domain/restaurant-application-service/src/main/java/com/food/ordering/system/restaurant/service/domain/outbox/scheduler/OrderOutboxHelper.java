@@ -0,0 +1,144 @@
+package com.food.ordering.system.restaurant.service.domain.outbox.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantApplicationServiceException;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.food.ordering.system.saga.order.SagaConstants.ORDER_SAGA_NAME;
+
+@Slf4j
+@Component
+public class OrderOutboxHelper {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final RestaurantServiceConfigData restaurantServiceConfigData;
+
+    public OrderOutboxHelper(OrderOutboxRepository orderOutboxRepository,
+                             ObjectMapper objectMapper,
+                             RestaurantServiceConfigData restaurantServiceConfigData) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.restaurantServiceConfigData = restaurantServiceConfigData;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderOutboxMessage> claimOrderOutboxMessages(int limit) {
+        return orderOutboxRepository.claimByTypeAndOutboxStatus(ORDER_SAGA_NAME,
+                OutboxStatus.STARTED,
+                restaurantServiceConfigData.getInstanceId(),
+                restaurantServiceConfigData.getOutboxSchedulerClaimLease(),
+                limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OrderOutboxMessage> claimRetryableOrderOutboxMessages(int limit) {
+        return orderOutboxRepository.claimRetryableByType(ORDER_SAGA_NAME,
+                restaurantServiceConfigData.getOutboxSchedulerClaimLease(),
+                limit);
+    }
+
+    @Transactional
+    public void saveOrderOutboxMessage(OrderEventPayload orderEventPayload,
+                                       OrderApprovalStatus approvalStatus,
+                                       OutboxStatus outboxStatus,
+                                       UUID sagaId) {
+        OrderOutboxMessage orderOutboxMessage = OrderOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .createdAt(orderEventPayload.getCreatedAt())
+                .type(ORDER_SAGA_NAME)
+                .payload(createPayload(orderEventPayload))
+                .approvalStatus(approvalStatus)
+                .outboxStatus(outboxStatus)
+                .build();
+        OrderOutboxMessage response = orderOutboxRepository.save(orderOutboxMessage);
+        if (response == null) {
+            log.error("Could not save OrderOutboxMessage with outbox id: {}", orderOutboxMessage.getId());
+            throw new RestaurantApplicationServiceException("Could not save OrderOutboxMessage with outbox id: " +
+                    orderOutboxMessage.getId());
+        }
+        log.info("OrderOutboxMessage saved with outbox id: {}", orderOutboxMessage.getId());
+    }
+
+    @Transactional
+    public void updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids) {
+        if (outboxStatus == OutboxStatus.FAILED) {
+            scheduleRetryByIds(ids);
+            return;
+        }
+        int updated = orderOutboxRepository.updateOutboxStatusByIds(outboxStatus, ids);
+        log.info("{} OrderOutboxMessages updated with outbox status: {}", updated, outboxStatus.name());
+    }
+
+    @Transactional
+    public boolean republishOrderOutboxMessage(UUID sagaId) {
+        Optional<OrderOutboxMessage> orderOutboxMessage =
+                orderOutboxRepository.findByTypeAndSagaId(ORDER_SAGA_NAME, sagaId);
+        if (orderOutboxMessage.isEmpty()) {
+            return false;
+        }
+        if (orderOutboxMessage.get().getOutboxStatus() != OutboxStatus.STARTED) {
+            orderOutboxRepository.updateOutboxStatusByIds(OutboxStatus.STARTED,
+                    List.of(orderOutboxMessage.get().getId()));
+        }
+        log.info("OrderOutboxMessage with outbox id: {} is queued for publishing again for saga id: {}",
+                orderOutboxMessage.get().getId(), sagaId);
+        return true;
+    }
+
+    @Transactional
+    public int deleteOrderOutboxMessageBatchByOutboxStatus(ZonedDateTime createdBefore,
+                                                           int limit,
+                                                           OutboxStatus outboxStatus) {
+        return orderOutboxRepository.deleteBatchByTypeAndOutboxStatus(ORDER_SAGA_NAME,
+                outboxStatus,
+                createdBefore,
+                limit);
+    }
+
+    private void scheduleRetryByIds(List<UUID> ids) {
+        List<UUID> parkedIds = orderOutboxRepository.scheduleRetryByIds(ids, getRetryPolicy());
+        log.info("{} OrderOutboxMessages scheduled for retry", ids.size() - parkedIds.size());
+        if (!parkedIds.isEmpty()) {
+            log.warn("{} OrderOutboxMessages parked after {} attempts, ids: {}",
+                    parkedIds.size(),
+                    restaurantServiceConfigData.getOutboxRetryMaxAttempts(),
+                    parkedIds);
+        }
+    }
+
+    private OutboxRetryPolicy getRetryPolicy() {
+        return OutboxRetryPolicy.of(restaurantServiceConfigData.getOutboxRetryMaxAttempts(),
+                restaurantServiceConfigData.getOutboxRetryInitialBackoff(),
+                restaurantServiceConfigData.getOutboxRetryMaxBackoff(),
+                restaurantServiceConfigData.getOutboxRetryJitter());
+    }
+
+    private String createPayload(OrderEventPayload orderEventPayload) {
+        try {
+            return objectMapper.writeValueAsString(orderEventPayload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not create OrderEventPayload as String for order id: {}",
+                    orderEventPayload.getOrderId());
+            throw new RestaurantApplicationServiceException("Could not create OrderEventPayload as String for " +
+                    "order id: " + orderEventPayload.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.food.ordering.system.restaurant.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.outbox.MicrometerOutboxMetrics;
+import com.food.ordering.system.outbox.OutboxPoller;
+import com.food.ordering.system.outbox.OutboxPollerSettings;
+import com.food.ordering.system.outbox.OutboxScheduler;
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.RestaurantApprovalResponseMessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.UUID;
+
+@Component
+public class OrderOutboxScheduler implements OutboxScheduler {
+
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OutboxPoller<OrderOutboxMessage, UUID> outboxPoller;
+
+    public OrderOutboxScheduler(OrderOutboxHelper orderOutboxHelper,
+                                RestaurantApprovalResponseMessagePublisher restaurantApprovalResponseMessagePublisher,
+                                RestaurantServiceConfigData restaurantServiceConfigData,
+                                MeterRegistry meterRegistry) {
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.outboxPoller = new OutboxPoller<>(
+                "restaurant-approval-response-outbox",
+                OutboxPollerSettings.builder()
+                        .pageSize(restaurantServiceConfigData.getOutboxSchedulerPageSize())
+                        .publishLanes(restaurantServiceConfigData.getOutboxSchedulerPublishLanes())
+                        .maxInFlight(restaurantServiceConfigData.getOutboxSchedulerMaxInFlight())
+                        .drainTimeout(restaurantServiceConfigData.getOutboxSchedulerDrainTimeout())
+                        .ackBatchSize(restaurantServiceConfigData.getOutboxSchedulerAckBatchSize())
+                        .ackFlushInterval(restaurantServiceConfigData.getOutboxSchedulerAckFlushInterval())
+                        .build(),
+                orderOutboxHelper::claimOrderOutboxMessages,
+                orderOutboxHelper::claimRetryableOrderOutboxMessages,
+                OrderOutboxMessage::getId,
+                OrderOutboxMessage::getSagaId,
+                restaurantApprovalResponseMessagePublisher::publish,
+                orderOutboxHelper::updateOutboxStatusByIds,
+                new MicrometerOutboxMetrics(meterRegistry, "restaurant-approval-response"));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${restaurant-service.outbox-scheduler-fixed-rate}",
+            initialDelayString = "${restaurant-service.outbox-scheduler-initial-delay}")
+    public void processOutboxMessage() {
+        outboxPoller.poll();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        outboxPoller.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.restaurant.service.domain.ports.output.repository;
+
+import com.food.ordering.system.outbox.OutboxRetryPolicy;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderOutboxRepository {
+
+    OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage);
+
+    int updateOutboxStatusByIds(OutboxStatus outboxStatus, List<UUID> ids);
+
+    Optional<OrderOutboxMessage> findByTypeAndSagaId(String type, UUID sagaId);
+
+    List<UUID> scheduleRetryByIds(List<UUID> ids, OutboxRetryPolicy retryPolicy);
+
+    List<OrderOutboxMessage> claimByTypeAndOutboxStatus(String type,
+                                                        OutboxStatus outboxStatus,
+                                                        String claimedBy,
+                                                        Duration leaseDuration,
+                                                        int limit);
+
+    List<OrderOutboxMessage> claimRetryableByType(String type, Duration leaseDuration, int limit);
+
+    int deleteBatchByTypeAndOutboxStatus(String type,
+                                         OutboxStatus outboxStatus,
+                                         ZonedDateTime createdBefore,
+                                         int limit);
+}
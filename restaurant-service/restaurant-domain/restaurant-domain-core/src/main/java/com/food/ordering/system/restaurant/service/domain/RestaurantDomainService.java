@@ -1,17 +1,11 @@
 package com.food.ordering.system.restaurant.service.domain;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
-import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
-import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
 
 import java.util.List;
 
 public interface RestaurantDomainService {
 
-    OrderApprovalEvent validateOrder(Restaurant restaurant,
-                                     List<String> failureMessages,
-                                     DomainEventPublisher<OrderApprovedEvent> orderApprovedEventDomainEventPublisher,
-                                     DomainEventPublisher<OrderRejectedEvent> orderRejectedEventDomainEventPublisher);
+    OrderApprovalEvent validateOrder(Restaurant restaurant, List<String> failureMessages);
 }
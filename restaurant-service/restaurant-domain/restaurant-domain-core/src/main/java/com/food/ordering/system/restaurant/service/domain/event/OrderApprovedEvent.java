@@ -1,6 +1,5 @@
 package com.food.ordering.system.restaurant.service.domain.event;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 
@@ -9,19 +8,10 @@ import java.util.List;
 
 public class OrderApprovedEvent extends OrderApprovalEvent {
 
-    private final DomainEventPublisher<OrderApprovedEvent> orderApprovedEventDomainEventPublisher;
-
     public OrderApprovedEvent(OrderApproval orderApproval,
                               RestaurantId restaurantId,
                               List<String> failureMessages,
-                              ZonedDateTime createdAt,
-                              DomainEventPublisher<OrderApprovedEvent> orderApprovedEventDomainEventPublisher) {
+                              ZonedDateTime createdAt) {
         super(orderApproval, restaurantId, failureMessages, createdAt);
-        this.orderApprovedEventDomainEventPublisher = orderApprovedEventDomainEventPublisher;
-    }
-
-    @Override
-    public void fire() {
-        orderApprovedEventDomainEventPublisher.publish(this);
     }
 }
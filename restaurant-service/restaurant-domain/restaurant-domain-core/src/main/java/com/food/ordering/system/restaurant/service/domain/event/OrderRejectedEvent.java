@@ -1,6 +1,5 @@
 package com.food.ordering.system.restaurant.service.domain.event;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 
@@ -9,19 +8,10 @@ import java.util.List;
 
 public class OrderRejectedEvent extends OrderApprovalEvent {
 
-    private final DomainEventPublisher<OrderRejectedEvent> orderRejectedEventDomainEventPublisher;
-
     public OrderRejectedEvent(OrderApproval orderApproval,
                               RestaurantId restaurantId,
                               List<String> failureMessages,
-                              ZonedDateTime createdAt,
-                              DomainEventPublisher<OrderRejectedEvent> orderRejectedEventDomainEventPublisher) {
+                              ZonedDateTime createdAt) {
         super(orderApproval, restaurantId, failureMessages, createdAt);
-        this.orderRejectedEventDomainEventPublisher = orderRejectedEventDomainEventPublisher;
-    }
-
-    @Override
-    public void fire() {
-        orderRejectedEventDomainEventPublisher.publish(this);
     }
 }
@@ -0,0 +1,81 @@
+package com.food.ordering.system.restaurant.service.messaging.publisher.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantApplicationServiceException;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.RestaurantApprovalResponseMessagePublisher;
+import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+public class RestaurantApprovalResponseKafkaPublisher implements RestaurantApprovalResponseMessagePublisher {
+
+    private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
+    private final KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer;
+    private final RestaurantServiceConfigData restaurantServiceConfigData;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final ObjectMapper objectMapper;
+
+    public RestaurantApprovalResponseKafkaPublisher(RestaurantMessagingDataMapper restaurantMessagingDataMapper,
+                                                    KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer,
+                                                    RestaurantServiceConfigData restaurantServiceConfigData,
+                                                    KafkaMessageHelper kafkaMessageHelper,
+                                                    ObjectMapper objectMapper) {
+        this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
+        this.kafkaProducer = kafkaProducer;
+        this.restaurantServiceConfigData = restaurantServiceConfigData;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(OrderOutboxMessage orderOutboxMessage,
+                        BiConsumer<OrderOutboxMessage, OutboxStatus> outboxCallback) {
+        String sagaId = orderOutboxMessage.getSagaId().toString();
+        String topicName = restaurantServiceConfigData.getRestaurantApprovalResponseTopicName();
+
+        log.info("Received OrderOutboxMessage with id: {} and saga id: {}", orderOutboxMessage.getId(), sagaId);
+
+        try {
+            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel = restaurantMessagingDataMapper
+                    .orderEventPayloadToRestaurantApprovalResponseAvroModel(orderOutboxMessage.getSagaId(),
+                            getOrderEventPayload(orderOutboxMessage));
+
+            kafkaProducer.send(topicName,
+                    sagaId,
+                    restaurantApprovalResponseAvroModel,
+                    kafkaMessageHelper.getKafkaCallback(topicName,
+                            orderOutboxMessage,
+                            outboxCallback,
+                            sagaId,
+                            "RestaurantApprovalResponseAvroModel"));
+
+            log.info("OrderEventPayload sent to kafka for saga id: {}", sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending OrderEventPayload" +
+                    " to kafka with saga id: {}, error: {}", sagaId, e.getMessage());
+            outboxCallback.accept(orderOutboxMessage, OutboxStatus.FAILED);
+        }
+    }
+
+    private OrderEventPayload getOrderEventPayload(OrderOutboxMessage orderOutboxMessage) {
+        try {
+            return objectMapper.readValue(orderOutboxMessage.getPayload(), OrderEventPayload.class);
+        } catch (JsonProcessingException e) {
+            log.error("Could not read OrderEventPayload for saga id: {}", orderOutboxMessage.getSagaId(), e);
+            throw new RestaurantApplicationServiceException("Could not read OrderEventPayload for saga id: " +
+                    orderOutboxMessage.getSagaId(), e);
+        }
+    }
+}